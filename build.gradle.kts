@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.1.7"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.clover"
@@ -46,6 +47,9 @@ dependencies {
     //redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
+    // local cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // lombok
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -73,6 +77,12 @@ dependencies {
     // h2
     compileOnly("com.h2database:h2:2.2.220")
     testImplementation("com.h2database:h2:2.2.220")
+    jmh("com.h2database:h2:2.2.220")
+    jmh("io.jsonwebtoken:jjwt-api:0.11.5")
+    jmh("io.jsonwebtoken:jjwt-impl:0.11.5")
+    jmh("io.jsonwebtoken:jjwt-jackson:0.11.5")
+    jmh("org.roaringbitmap:RoaringBitmap:0.9.49")
+    jmh("org.springframework:spring-test")
 
     // aws
     implementation("org.springframework.cloud:spring-cloud-starter-aws:2.2.6.RELEASE")
@@ -94,6 +104,15 @@ dependencies {
 
     //jackson2json LocalDateTime handling
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:2.14.2")
+
+    // actuator (micrometer metrics)
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+}
+
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
 }
 
 tasks.withType<Test> {
@@ -0,0 +1,168 @@
+package com.clover.youngchat.domain.chat.repository;
+
+import com.clover.youngchat.domain.chat.dto.response.ChatRes;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 채팅 내역 한 페이지(20개) 조회 시 users 조인 여부에 따른 지연 비교. (./gradlew jmh)
+ * <ul>
+ *     <li>withUserJoin : 기존 방식 (chat LEFT JOIN users)</li>
+ *     <li>denormalized : chat 의 sender_username / sender_profile_image 만 읽음</li>
+ * </ul>
+ * 인메모리 H2 기준이므로 절대값보다 두 쿼리의 상대 차이를 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatPageQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int USER_COUNT = 500;
+    private static final long CHAT_ROOM_ID = 1L;
+
+    private static final String WITH_USER_JOIN_SQL =
+        "SELECT c.id, u.id AS user_id, u.username, u.profile_image, c.message, c.is_deleted, "
+            + "c.created_at FROM chat c LEFT JOIN users u ON u.id = c.sender_id "
+            + "WHERE c.chatroom_id = ? AND c.id < ? ORDER BY c.id DESC LIMIT ?";
+
+    private static final String DENORMALIZED_SQL =
+        "SELECT id, sender_id AS user_id, sender_username AS username, "
+            + "sender_profile_image AS profile_image, message, is_deleted, created_at "
+            + "FROM chat WHERE chatroom_id = ? AND id < ? ORDER BY id DESC LIMIT ?";
+
+    @Param({"10000", "200000"})
+    private int chatCount;
+
+    private Connection connection;
+    private PreparedStatement withUserJoin;
+    private PreparedStatement denormalized;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(
+            "jdbc:h2:mem:chat_page_" + chatCount + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, "
+                + "username VARCHAR(255), profile_image VARCHAR(255))");
+            statement.execute("CREATE TABLE chat (id BIGINT PRIMARY KEY, message VARCHAR(255), "
+                + "is_deleted BOOLEAN, sender_id BIGINT NOT NULL, sender_username VARCHAR(255), "
+                + "sender_profile_image VARCHAR(255), chatroom_id BIGINT NOT NULL, "
+                + "created_at TIMESTAMP)");
+            statement.execute("CREATE INDEX idx_chat_chatroom ON chat (chatroom_id, id)");
+            statement.execute("CREATE INDEX idx_chat_sender ON chat (sender_id)");
+        }
+        insertUsers();
+        insertChats();
+
+        withUserJoin = connection.prepareStatement(WITH_USER_JOIN_SQL);
+        denormalized = connection.prepareStatement(DENORMALIZED_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<ChatRes> withUserJoin() throws SQLException {
+        return fetchPage(withUserJoin);
+    }
+
+    @Benchmark
+    public List<ChatRes> denormalized() throws SQLException {
+        return fetchPage(denormalized);
+    }
+
+    // 첫 페이지만 보면 캐시 효과가 커지므로 임의의 cursor 위치에서 한 페이지를 읽는다.
+    private List<ChatRes> fetchPage(PreparedStatement statement) throws SQLException {
+        long cursor = ThreadLocalRandom.current().nextLong(PAGE_SIZE + 1, chatCount + 2L);
+        statement.setLong(1, CHAT_ROOM_ID);
+        statement.setLong(2, cursor);
+        statement.setInt(3, PAGE_SIZE + 1);
+
+        List<ChatRes> page = new ArrayList<>(PAGE_SIZE + 1);
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                page.add(ChatRes.builder()
+                    .chatId(rs.getLong("id"))
+                    .userId(rs.getLong("user_id"))
+                    .username(rs.getString("username"))
+                    .profileImage(rs.getString("profile_image"))
+                    .message(rs.getString("message"))
+                    .isDeleted(rs.getBoolean("is_deleted"))
+                    .messageTime(rs.getTimestamp("created_at").toLocalDateTime())
+                    .build());
+            }
+        }
+        return page;
+    }
+
+    private void insertUsers() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+            "INSERT INTO users (id, username, profile_image) VALUES (?, ?, ?)")) {
+            for (long userId = 1; userId <= USER_COUNT; userId++) {
+                ps.setLong(1, userId);
+                ps.setString(2, username(userId));
+                ps.setString(3, profileImage(userId));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertChats() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement ps = connection.prepareStatement(
+            "INSERT INTO chat (id, message, is_deleted, sender_id, sender_username, "
+                + "sender_profile_image, chatroom_id, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (long chatId = 1; chatId <= chatCount; chatId++) {
+                long senderId = chatId % USER_COUNT + 1;
+                ps.setLong(1, chatId);
+                ps.setString(2, "benchmark message " + chatId);
+                ps.setBoolean(3, false);
+                ps.setLong(4, senderId);
+                ps.setString(5, username(senderId));
+                ps.setString(6, profileImage(senderId));
+                ps.setLong(7, CHAT_ROOM_ID);
+                ps.setTimestamp(8, now);
+                ps.addBatch();
+                if (chatId % 1000 == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private String username(long userId) {
+        return "user" + userId;
+    }
+
+    private String profileImage(long userId) {
+        return "https://example.com/profile/" + userId + ".png";
+    }
+}
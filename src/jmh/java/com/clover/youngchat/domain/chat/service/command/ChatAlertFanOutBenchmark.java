@@ -0,0 +1,125 @@
+package com.clover.youngchat.domain.chat.service.command;
+
+import com.clover.youngchat.domain.chat.service.command.ChatAlertPublisher.FanOutMode;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatAlertRes;
+import com.clover.youngchat.global.rabbit.AsyncRabbitPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+/**
+ * 채팅방 크기별 알림 publish 비용 비교. 브로커 I/O 는 제외하고 직렬화/발행 준비 비용만 측정한다.
+ * <ul>
+ *     <li>perRecipient : 기존 방식 (참여자마다 convertAndSend)</li>
+ *     <li>batched : 한 번 직렬화 후 하나의 채널에서 참여자별 publish</li>
+ *     <li>room : 한 번 직렬화 후 방 단위 routing key 로 한 번 publish</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatAlertFanOutBenchmark {
+
+    private static final String EXCHANGE = "chat.exchange";
+    private static final Long CHAT_ROOM_ID = 1L;
+
+    @Param({"2", "50", "500"})
+    private int roomSize;
+
+    private long[] recipientIds;
+    private ChatAlertRes alert;
+    private CountingRabbitTemplate rabbitTemplate;
+    private ChatAlertPublisher batchedPublisher;
+    private ChatAlertPublisher roomPublisher;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        recipientIds = LongStream.rangeClosed(1, roomSize).toArray();
+        alert = ChatAlertRes.to(CHAT_ROOM_ID, "group chat room", "sender",
+            "https://example.com/profile.png", "hello, this is a benchmark message");
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        rabbitTemplate = new CountingRabbitTemplate();
+        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter(objectMapper));
+
+        batchedPublisher = publisher(FanOutMode.BATCHED);
+        roomPublisher = publisher(FanOutMode.ROOM);
+    }
+
+    @Benchmark
+    public void perRecipient(Blackhole blackhole) {
+        for (long recipientId : recipientIds) {
+            rabbitTemplate.convertAndSend(EXCHANGE, "users." + recipientId, alert);
+        }
+        blackhole.consume(rabbitTemplate.published);
+    }
+
+    @Benchmark
+    public void batched(Blackhole blackhole) {
+        batchedPublisher.publish(CHAT_ROOM_ID, recipientIds, alert);
+        blackhole.consume(rabbitTemplate.published);
+    }
+
+    @Benchmark
+    public void room(Blackhole blackhole) {
+        roomPublisher.publish(CHAT_ROOM_ID, recipientIds, alert);
+        blackhole.consume(rabbitTemplate.published);
+    }
+
+    private ChatAlertPublisher publisher(FanOutMode mode) throws ReflectiveOperationException {
+        // async 비활성 상태에서는 호출 스레드에서 바로 발행하므로 순수 발행 비용만 측정된다.
+        AsyncRabbitPublisher asyncRabbitPublisher = new AsyncRabbitPublisher(rabbitTemplate,
+            new SimpleMeterRegistry());
+        // outbox 비활성 상태에서는 트랜잭션 없이 바로 발행한다.
+        ChatOutboxService chatOutboxService = new ChatOutboxService(null, asyncRabbitPublisher,
+            null);
+        setField(chatOutboxService, "exchangeName", EXCHANGE);
+        ChatAlertPublisher publisher = new ChatAlertPublisher(asyncRabbitPublisher,
+            chatOutboxService);
+        setField(publisher, "fanOutMode", mode);
+        return publisher;
+    }
+
+    private static void setField(Object target, String name, Object value)
+        throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    // 브로커 없이 publish 호출 수만 센다.
+    static class CountingRabbitTemplate extends RabbitTemplate {
+
+        long published;
+
+        @Override
+        public void send(String exchange, String routingKey, Message message,
+            CorrelationData correlationData) throws AmqpException {
+            published += message.getBody().length > 0 ? 1 : 0;
+        }
+
+        @Override
+        public <T> T invoke(OperationsCallback<T> action,
+            com.rabbitmq.client.ConfirmCallback acks, com.rabbitmq.client.ConfirmCallback nacks) {
+            return action.doInRabbit(this);
+        }
+    }
+}
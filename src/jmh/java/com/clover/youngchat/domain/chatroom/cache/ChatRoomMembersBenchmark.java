@@ -0,0 +1,149 @@
+package com.clover.youngchat.domain.chatroom.cache;
+
+import com.clover.youngchat.global.id.SnowflakeIdGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+/**
+ * 채팅방 참여자 스냅샷 자료구조 비교. 사용자 id 는 Snowflake 로 발급되어 값이 넓게 흩어져 있다.
+ * <ul>
+ *     <li>array* : 현재 방식 (정렬된 long 배열 + 이진 탐색)</li>
+ *     <li>roaring* : 이전 방식 (Roaring64Bitmap)</li>
+ * </ul>
+ * 메세지 전송마다 일어나는 참여 여부 확인과 fan-out 대상 추출, 접속자와의 교집합을 측정한다.
+ * 메모리는 *Contains 결과에 함께 보고되는 {@link MemoryFootprint} 의 직렬화 크기로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatRoomMembersBenchmark {
+
+    @Param({"2", "50", "500", "5000"})
+    private int roomSize;
+
+    private long[] memberIds;
+    private long[] probeIds;
+    private ChatRoomMembers members;
+    private ChatRoomMembers online;
+    private Roaring64Bitmap bitmap;
+    private Roaring64Bitmap onlineBitmap;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        // 가입 시점이 흩어진 사용자들처럼 worker/시각을 섞어 id 를 만든다.
+        Random random = new Random(42);
+        List<Long> ids = new ArrayList<>(roomSize);
+        SnowflakeIdGenerator[] generators = new SnowflakeIdGenerator[8];
+        for (int i = 0; i < generators.length; i++) {
+            generators[i] = new SnowflakeIdGenerator(i);
+        }
+        for (int i = 0; i < roomSize; i++) {
+            ids.add(generators[random.nextInt(generators.length)].nextId()
+                + ((long) random.nextInt(1 << 20) << 22));
+        }
+        memberIds = ids.stream().mapToLong(Long::longValue).toArray();
+
+        // 절반은 참여자, 절반은 아닌 id 로 조회한다.
+        probeIds = new long[1024];
+        for (int i = 0; i < probeIds.length; i++) {
+            probeIds[i] = i % 2 == 0
+                ? memberIds[random.nextInt(memberIds.length)]
+                : random.nextLong() & Long.MAX_VALUE;
+        }
+
+        members = ChatRoomMembers.of(ids);
+        bitmap = new Roaring64Bitmap();
+        bitmap.add(memberIds);
+        bitmap.runOptimize();
+
+        List<Long> onlineIds = new ArrayList<>();
+        for (int i = 0; i < memberIds.length; i += 3) {
+            onlineIds.add(memberIds[i]);
+        }
+        online = ChatRoomMembers.of(onlineIds);
+        onlineBitmap = new Roaring64Bitmap();
+        onlineIds.forEach(onlineBitmap::addLong);
+        onlineBitmap.runOptimize();
+    }
+
+    @Benchmark
+    public boolean arrayContains(MemoryFootprint footprint) {
+        return members.contains(nextProbe());
+    }
+
+    @Benchmark
+    public boolean roaringContains(MemoryFootprint footprint) {
+        return bitmap.contains(nextProbe());
+    }
+
+    @Benchmark
+    public void arrayOthersThan(Blackhole blackhole) {
+        blackhole.consume(members.othersThan(memberIds[0]));
+    }
+
+    @Benchmark
+    public void roaringOthersThan(Blackhole blackhole) {
+        // 이전 othersThan 구현과 같은 방식
+        long userId = memberIds[0];
+        long[] others = new long[(int) bitmap.getLongCardinality()
+            - (bitmap.contains(userId) ? 1 : 0)];
+        int[] index = {0};
+        bitmap.forEach(memberId -> {
+            if (memberId != userId) {
+                others[index[0]++] = memberId;
+            }
+        });
+        blackhole.consume(others);
+    }
+
+    @Benchmark
+    public void arrayIntersect(Blackhole blackhole) {
+        blackhole.consume(members.intersect(online));
+    }
+
+    @Benchmark
+    public void roaringIntersect(Blackhole blackhole) {
+        Roaring64Bitmap result = new Roaring64Bitmap();
+        result.or(bitmap);
+        result.and(onlineBitmap);
+        result.runOptimize();
+        blackhole.consume(result);
+    }
+
+    private long nextProbe() {
+        cursor = (cursor + 1) & (probeIds.length - 1);
+        return probeIds[cursor];
+    }
+
+    /**
+     * 두 자료구조의 직렬화 크기(byte). 벤치마크 결과에 보조 지표로 함께 출력된다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class MemoryFootprint {
+
+        public long arrayBytes;
+        public long roaringBytes;
+
+        @Setup(Level.Iteration)
+        public void setup(ChatRoomMembersBenchmark benchmark) {
+            arrayBytes = (long) benchmark.memberIds.length * Long.BYTES;
+            roaringBytes = benchmark.bitmap.serializedSizeInBytes();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.clover.youngchat.global.id;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 동시 요청 수에 따른 ID 생성 처리량 측정. (./gradlew jmh)
+ * 4096/ms 에서 sequence 가 소진되므로 스레드가 늘어도 처리량 상한은 노드당 약 4M ids/s 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+    @Benchmark
+    @Threads(1)
+    public long singleThread() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long fourThreads() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long sixteenThreads() {
+        return generator.nextId();
+    }
+}
@@ -0,0 +1,174 @@
+package com.clover.youngchat.global.jwt;
+
+import com.clover.youngchat.domain.auth.cache.RevokedTokenFilter;
+import com.clover.youngchat.domain.auth.service.BlacklistService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 인가 필터가 요청 하나에서 access token 을 검증하는 비용 비교. (./gradlew jmh)
+ * <ul>
+ *     <li>parserPerCall : 기존 방식 (매번 parser 를 만들어 두 번 검증)</li>
+ *     <li>reusedParser : 재사용 parser 로 한 번만 검증</li>
+ *     <li>cachedClaims : JwtUtil.getVerifiedClaims (토큰 해시 -> 검증된 claims 캐시)</li>
+ *     <li>filterWithCache / filterWithoutCache : JwtAuthorizationFilter 전체 (헤더 파싱, 로그아웃 토큰 확인,
+ *     claims 검증, SecurityContext 설정) 를 claims 캐시 사용/미사용으로 비교</li>
+ * </ul>
+ * tokenCount 개의 토큰을 번갈아 사용해 여러 사용자의 요청을 흉내낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    @Param({"100", "10000"})
+    private int tokenCount;
+
+    private Key key;
+    private JwtParser jwtParser;
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+    private MockHttpServletRequest[] requests;
+    private MockHttpServletResponse response;
+    private JwtAuthorizationFilter cachedFilter;
+    private JwtAuthorizationFilter uncachedFilter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        byte[] secret = new byte[32];
+        ThreadLocalRandom.current().nextBytes(secret);
+        key = Keys.hmacShaKeyFor(secret);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        jwtUtil = new JwtUtil();
+        setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        setField(jwtUtil, "claimsCacheMaxSize", 10_000L);
+        setField(jwtUtil, "claimsCacheMaxTtlSeconds", 60L);
+        jwtUtil.init();
+
+        tokens = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = jwtUtil.createAccessToken((long) i + 1, "user" + i + "@email.com",
+                "user" + i).substring(JwtUtil.BEARER_PREFIX.length());
+        }
+
+        requests = new MockHttpServletRequest[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            requests[i] = new MockHttpServletRequest("GET", "/api/v1/friends");
+            requests[i].addHeader(JwtUtil.ACCESS_TOKEN_HEADER, JwtUtil.BEARER_PREFIX + tokens[i]);
+        }
+        response = new MockHttpServletResponse();
+
+        // 토큰에 uid 가 있으므로 사용자 조회(UserDetailsServiceImpl)와 재발급(RedisUtil)은 타지 않는다.
+        BlacklistService blacklistService = new BlacklistService(null, revokedTokenFilter());
+        cachedFilter = new JwtAuthorizationFilter(jwtUtil, null, null, blacklistService);
+        uncachedFilter = new JwtAuthorizationFilter(new UncachedJwtUtil(jwtUtil, jwtParser), null,
+            null, blacklistService);
+    }
+
+    @Benchmark
+    public String parserPerCall() {
+        String token = nextToken();
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody()
+            .getSubject();
+    }
+
+    @Benchmark
+    public String reusedParser() {
+        return jwtParser.parseClaimsJws(nextToken()).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String cachedClaims() {
+        Claims claims = jwtUtil.getVerifiedClaims(nextToken());
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public void filterWithCache(Blackhole blackhole) throws ServletException, IOException {
+        filter(cachedFilter, blackhole);
+    }
+
+    @Benchmark
+    public void filterWithoutCache(Blackhole blackhole) throws ServletException, IOException {
+        filter(uncachedFilter, blackhole);
+    }
+
+    private void filter(JwtAuthorizationFilter filter, Blackhole blackhole)
+        throws ServletException, IOException {
+        FilterChain chain = (request, response) -> blackhole.consume(
+            SecurityContextHolder.getContext().getAuthentication());
+        try {
+            filter.doFilter(requests[ThreadLocalRandom.current().nextInt(tokenCount)], response,
+                chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private String nextToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokenCount)];
+    }
+
+    // 로그아웃된 토큰이 없는, 다 채워진 노드별 목록
+    private RevokedTokenFilter revokedTokenFilter() {
+        RevokedTokenFilter revokedTokenFilter = new RevokedTokenFilter(null, null,
+            new SimpleMeterRegistry(), 100_000, 0.001);
+        setField(revokedTokenFilter, "ready", true);
+        return revokedTokenFilter;
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    // claims 캐시 없이 요청마다 서명을 검증하는 JwtUtil
+    static class UncachedJwtUtil extends JwtUtil {
+
+        private final JwtParser jwtParser;
+
+        UncachedJwtUtil(JwtUtil source, JwtParser jwtParser) {
+            this.jwtParser = jwtParser;
+            for (String name : new String[]{"secretKey", "claimsCacheMaxSize",
+                "claimsCacheMaxTtlSeconds"}) {
+                Field field = ReflectionUtils.findField(JwtUtil.class, name);
+                ReflectionUtils.makeAccessible(field);
+                ReflectionUtils.setField(field, this, ReflectionUtils.getField(field, source));
+            }
+            init();
+        }
+
+        @Override
+        public Claims getVerifiedClaims(String token) {
+            return jwtParser.parseClaimsJws(token).getBody();
+        }
+    }
+}
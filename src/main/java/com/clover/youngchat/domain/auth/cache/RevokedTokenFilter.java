@@ -0,0 +1,290 @@
+package com.clover.youngchat.domain.auth.cache;
+
+import com.clover.youngchat.global.bloom.CountingBloomFilter;
+import com.clover.youngchat.global.redis.PubSubHeartbeat;
+import com.clover.youngchat.global.redis.PubSubHeartbeat.Change;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 access token 의 노드별 목록. 토큰은 SHA-256 해시로만 보관한다.
+ * <p>
+ * counting bloom filter 로 대부분의 (폐기되지 않은) 토큰을 바로 걸러내고, 걸린 경우만 정확한 목록으로 확인한다.
+ * 목록의 각 항목은 토큰 만료 시각에 사라지며 그때 filter 에서도 뺀다.
+ * <p>
+ * 폐기는 Redis pub/sub(blacklist:revoke) 으로 다른 노드에 전달하고, 기동 시에는 Redis 의 blacklist 에서
+ * 다시 채운다. 다 채우기 전에는 {@link #isReady()} 가 false 이므로 호출하는 쪽에서 Redis 로 확인해야 한다.
+ * <p>
+ * pub/sub 은 놓친 메세지를 다시 보내주지 않는다. 구독이 끊긴 것이 확인되면 다시 채울 때까지 not ready 로 두고,
+ * 끊김을 알아채지 못하고 놓친 메세지도 남지 않도록 주기적으로 Redis 의 blacklist 를 다시 읽어 합친다.
+ */
+@Slf4j(topic = "revoked token filter")
+@Component
+public class RevokedTokenFilter implements MessageListener {
+
+    private static final String CHANNEL = "blacklist:revoke";
+    // Blacklist(@RedisHash) 의 id 목록 set 과 hash key prefix
+    private static final String BLACKLIST_KEYSPACE = "blacklist";
+    private static final int SCAN_BATCH_SIZE = 1000;
+    // PTTL 결과. hash 가 만료되어 없는 경우
+    private static final long MISSING_KEY_TTL = -2;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final CountingBloomFilter filter;
+    // 토큰 해시 -> 만료 시각(ms)
+    private final Cache<String, Long> revokedTokens;
+    private final AtomicBoolean loaderRunning = new AtomicBoolean();
+
+    @Value("${blacklist.filter.heartbeat-timeout-ms:15000}")
+    private long heartbeatTimeoutMillis;
+
+    private PubSubHeartbeat heartbeat;
+    private volatile boolean ready;
+    private volatile boolean reloadRequested;
+
+    public RevokedTokenFilter(StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        MeterRegistry meterRegistry,
+        @Value("${blacklist.filter.expected-insertions:100000}") long expectedInsertions,
+        @Value("${blacklist.filter.fpp:0.001}") double fpp) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.filter = new CountingBloomFilter(expectedInsertions, fpp);
+        this.revokedTokens = Caffeine.newBuilder()
+            .expireAfter(new TokenExpiry())
+            .scheduler(Scheduler.systemScheduler())
+            .removalListener((String tokenHash, Long expiresAt, RemovalCause cause) -> {
+                if (tokenHash != null && cause != RemovalCause.REPLACED) {
+                    filter.remove(tokenHash);
+                }
+            })
+            .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        heartbeat = new PubSubHeartbeat(CHANNEL, stringRedisTemplate, heartbeatTimeoutMillis);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        Gauge.builder("blacklist.local.size", revokedTokens, Cache::estimatedSize)
+            .register(meterRegistry);
+    }
+
+    // 채우는 동안 들어온 폐기 메세지는 구독이 먼저 되어 있으므로 빠지지 않는다.
+    // 이미 채우는 중이면 끝난 뒤 한 번 더 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${blacklist.filter.resync-interval-ms:60000}",
+        fixedDelayString = "${blacklist.filter.resync-interval-ms:60000}")
+    public void rebuild() {
+        reloadRequested = true;
+        if (!loaderRunning.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                while (reloadRequested) {
+                    reloadRequested = false;
+                    load();
+                }
+            } finally {
+                loaderRunning.set(false);
+            }
+            if (reloadRequested) {
+                rebuild();
+            }
+        }, "revoked-token-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 구독이 끊기면 다시 이어질 때까지 Redis 로 확인하고, 이어지면 놓친 폐기가 있으므로 다시 채운다.
+    @Scheduled(fixedDelayString = "${blacklist.filter.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        Change change = heartbeat.beat();
+        if (change == Change.LOST) {
+            ready = false;
+        } else if (change == Change.RESTORED) {
+            rebuild();
+        }
+    }
+
+    // 폐기는 만료 전에 취소되지 않으므로 기존 목록에 합치기만 한다.
+    void load() {
+        long startedAt = System.currentTimeMillis();
+        long lostCount = heartbeat.lostCount();
+        try {
+            int loaded = scan();
+            // 채우는 동안 구독이 끊겼다면 이어진 뒤 다시 채울 때까지 믿지 않는다.
+            ready = heartbeat.isConnected() && heartbeat.lostCount() == lostCount;
+            log.info("revoked token filter loaded {} tokens in {} ms", loaded,
+                System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 처음이라면 계속 Redis 로 확인하고, 이미 채웠다면 다음 주기에 다시 합친다.
+            log.warn("failed to load revoked token filter: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isRevoked(String accessToken) {
+        String tokenHash = hash(accessToken);
+        return filter.mightContain(tokenHash) && revokedTokens.getIfPresent(tokenHash) != null;
+    }
+
+    public void revoke(String accessToken, long expirationSeconds) {
+        String tokenHash = hash(accessToken);
+        long expiresAt = System.currentTimeMillis()
+            + TimeUnit.SECONDS.toMillis(expirationSeconds);
+        add(tokenHash, expiresAt);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, tokenHash + ":" + expiresAt);
+        } catch (Exception e) {
+            log.warn("failed to publish revoked token: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (heartbeat.received(message.getBody())) {
+            return;
+        }
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+    }
+
+    // filter 에 먼저 넣어 목록에는 있는데 filter 에서 걸러지는 순간이 없게 한다.
+    private void add(String tokenHash, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        filter.add(tokenHash);
+        if (revokedTokens.asMap().putIfAbsent(tokenHash, expiresAt) != null) {
+            filter.remove(tokenHash);
+        }
+    }
+
+    private int scan() {
+        int loaded = 0;
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet()
+            .scan(BLACKLIST_KEYSPACE, options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    loaded += loadBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            loaded += loadBatch(batch);
+        }
+        return loaded;
+    }
+
+    /**
+     * hash 의 ttl 을 pipeline 으로 한 번에 확인한다.
+     * <p>
+     * keyspace 이벤트를 켜지 않았으므로 Spring Data 는 만료된 항목의 id 를 set 에서 지우지 않는다.
+     * hash 가 만료된 id 는 여기서 지워 set 과 주기적인 확인이 로그아웃 누적에 따라 커지지 않게 한다.
+     */
+    private int loadBatch(List<String> accessTokens) {
+        List<Object> ttls = stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String accessToken : accessTokens) {
+                    stringConnection.pTtl(BLACKLIST_KEYSPACE + ":" + accessToken);
+                }
+                return null;
+            });
+
+        int loaded = 0;
+        long now = System.currentTimeMillis();
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < accessTokens.size(); i++) {
+            Long ttl = (Long) ttls.get(i);
+            if (ttl == null) {
+                continue;
+            }
+            if (ttl > 0) {
+                add(hash(accessTokens.get(i)), now + ttl);
+                loaded++;
+            } else if (ttl == MISSING_KEY_TTL) {
+                expired.add(accessTokens.get(i));
+            }
+        }
+        if (!expired.isEmpty()) {
+            stringRedisTemplate.opsForSet().remove(BLACKLIST_KEYSPACE, expired.toArray());
+        }
+        return loaded;
+    }
+
+    private String hash(String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                digest.digest(accessToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Long expiresAt, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Long expiresAt, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Long expiresAt, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.clover.youngchat.domain.auth.service;
 
+import com.clover.youngchat.domain.auth.cache.RevokedTokenFilter;
 import com.clover.youngchat.domain.auth.entity.Blacklist;
 import com.clover.youngchat.domain.auth.repository.BlacklistRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 public class BlacklistService {
 
     private final BlacklistRepository blacklistRepository;
+    private final RevokedTokenFilter revokedTokenFilter;
 
     public void addTokenToBlacklist(String accessToken, long expiration) {
         Blacklist blacklist = Blacklist.builder()
@@ -17,10 +19,15 @@ public class BlacklistService {
             .expiration(expiration)
             .build();
         blacklistRepository.save(blacklist);
+        revokedTokenFilter.revoke(accessToken, expiration);
     }
 
+    // 요청마다 호출되므로 노드의 로컬 목록으로 확인한다. 다 채우기 전이나 구독이 끊긴 동안에는 Redis 로 확인한다.
     public boolean isTokenBlackListed(String accessToken) {
-        return blacklistRepository.existsById(accessToken);
+        if (!revokedTokenFilter.isReady()) {
+            return blacklistRepository.existsById(accessToken);
+        }
+        return revokedTokenFilter.isRevoked(accessToken);
     }
 
-} 
+}
@@ -4,4 +4,13 @@ public class ChatConstant {
 
     public static final String DELETE_MESSAGE = "삭제된 메세지 입니다.";
 
+    public static final int MAX_DELETE_CHAT_COUNT = 100;
+
+    public static final int LAST_CHAT_PREVIEW_LENGTH = 100;
+
+    // clientMessageId 는 Redis 키와 로컬 집합에 그대로 들어가므로 길이와 문자를 제한한다. (UUID 등)
+    public static final int CLIENT_MESSAGE_ID_MAX_LENGTH = 64;
+    public static final String CLIENT_MESSAGE_ID_REGEX = "^[A-Za-z0-9_-]+$";
+    public static final String CLIENT_MESSAGE_ID_MESSAGE = "clientMessageId는 영문, 숫자, '-', '_' 로 된 64글자 이하입니다.";
+
 }
@@ -1,8 +1,16 @@
 package com.clover.youngchat.domain.chat.controller;
 
+import static com.clover.youngchat.global.exception.ResultCode.CHAT_BUSY;
+
 import com.clover.youngchat.domain.chat.dto.request.ChatCreateReq;
 import com.clover.youngchat.domain.chat.dto.request.ChatDeleteReq;
 import com.clover.youngchat.domain.chat.service.command.ChatCommandService;
+import com.clover.youngchat.domain.chatroom.dto.request.ChatReadReq;
+import com.clover.youngchat.domain.chatroom.service.command.ChatRoomReadService;
+import com.clover.youngchat.global.exception.GlobalException;
+import com.clover.youngchat.global.executor.OrderedLaneExecutor;
+import jakarta.validation.Valid;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -14,16 +22,37 @@ import org.springframework.stereotype.Controller;
 public class ChatController {
 
     private final ChatCommandService chatCommandService;
+    private final ChatRoomReadService chatRoomReadService;
+    private final OrderedLaneExecutor chatLaneExecutor;
 
+    // 같은 채팅방의 메세지는 같은 lane 에서 순서대로 처리된다.
     @MessageMapping("chat-rooms.{chatRoomId}")
     public void sendMessage(@DestinationVariable Long chatRoomId,
-        @Payload ChatCreateReq chatCreateReq) {
-        chatCommandService.sendMessage(chatRoomId, chatCreateReq);
+        @Payload @Valid ChatCreateReq chatCreateReq) {
+        executeInLane(chatRoomId,
+            () -> chatCommandService.sendMessage(chatRoomId, chatCreateReq));
     }
 
     @MessageMapping("chat-rooms.{chatRoomId}.delete")
     public void deleteChat(@DestinationVariable Long chatRoomId,
         @Payload ChatDeleteReq chatDeleteReq) {
-        chatCommandService.deleteChat(chatRoomId, chatDeleteReq);
+        executeInLane(chatRoomId,
+            () -> chatCommandService.deleteChat(chatRoomId, chatDeleteReq));
+    }
+
+    // 읽음 처리도 같은 lane 에서 실행하여 앞서 보낸 메세지의 카운트 증가 이후에 초기화되도록 한다.
+    @MessageMapping("chat-rooms.{chatRoomId}.read")
+    public void markRead(@DestinationVariable Long chatRoomId,
+        @Payload ChatReadReq chatReadReq) {
+        executeInLane(chatRoomId,
+            () -> chatRoomReadService.markRead(chatRoomId, chatReadReq));
+    }
+
+    private void executeInLane(Long chatRoomId, Runnable task) {
+        try {
+            chatLaneExecutor.execute(chatRoomId, task);
+        } catch (RejectedExecutionException e) {
+            throw new GlobalException(CHAT_BUSY);
+        }
     }
 }
@@ -0,0 +1,41 @@
+package com.clover.youngchat.domain.chat.controller;
+
+import com.clover.youngchat.domain.chat.service.query.ChatExportService;
+import com.clover.youngchat.global.security.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/chat-rooms")
+@RequiredArgsConstructor
+public class ChatExportController {
+
+    private final ChatExportService chatExportService;
+
+    // 대용량 응답이므로 RestResponse 로 감싸지 않고 NDJSON 으로 바로 스트리밍한다.
+    @GetMapping("/{chatRoomId}/export")
+    public ResponseEntity<StreamingResponseBody> exportChats(@PathVariable Long chatRoomId,
+        @RequestParam(defaultValue = "false") boolean gzip,
+        @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        StreamingResponseBody body = chatExportService.exportChats(chatRoomId,
+            userDetails.getUserId(), gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"chat-room-" + chatRoomId + ".ndjson\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -1,5 +1,11 @@
 package com.clover.youngchat.domain.chat.dto.request;
 
+import static com.clover.youngchat.domain.chat.constant.ChatConstant.CLIENT_MESSAGE_ID_MAX_LENGTH;
+import static com.clover.youngchat.domain.chat.constant.ChatConstant.CLIENT_MESSAGE_ID_MESSAGE;
+import static com.clover.youngchat.domain.chat.constant.ChatConstant.CLIENT_MESSAGE_ID_REGEX;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,10 +17,15 @@ public class ChatCreateReq {
 
     private String message;
     private Long userId;
+    // 재전송 시 같은 값을 보내면 서버에서 중복을 제거한다. (선택)
+    @Size(max = CLIENT_MESSAGE_ID_MAX_LENGTH, message = CLIENT_MESSAGE_ID_MESSAGE)
+    @Pattern(regexp = CLIENT_MESSAGE_ID_REGEX, message = CLIENT_MESSAGE_ID_MESSAGE)
+    private String clientMessageId;
 
     @Builder
-    private ChatCreateReq(String message, Long userId) {
+    private ChatCreateReq(String message, Long userId, String clientMessageId) {
         this.message = message;
         this.userId = userId;
+        this.clientMessageId = clientMessageId;
     }
 }
@@ -1,5 +1,9 @@
 package com.clover.youngchat.domain.chat.dto.request;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,10 +15,24 @@ public class ChatDeleteReq {
 
     private Long userId;
     private Long chatId;
+    // 여러 메세지를 한 번에 삭제할 때 사용한다. chatId 와 함께 보내면 합쳐서 처리한다.
+    private List<Long> chatIds;
 
     @Builder
-    private ChatDeleteReq(Long userId, Long chatId) {
+    private ChatDeleteReq(Long userId, Long chatId, List<Long> chatIds) {
         this.userId = userId;
         this.chatId = chatId;
+        this.chatIds = chatIds;
+    }
+
+    public List<Long> getTargetChatIds() {
+        Set<Long> targets = new LinkedHashSet<>();
+        if (chatId != null) {
+            targets.add(chatId);
+        }
+        if (chatIds != null) {
+            chatIds.stream().filter(id -> id != null).forEach(targets::add);
+        }
+        return new ArrayList<>(targets);
     }
 }
@@ -1,8 +1,32 @@
 package com.clover.youngchat.domain.chat.dto.response;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
-@JsonIgnoreProperties
+// 삭제 시 ChatRes 전체 대신 브로드캐스트하는 tombstone
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatDeleteRes {
 
+    private Long chatRoomId;
+    private List<Long> chatIds;
+    private Boolean isDeleted;
+
+    @Builder
+    private ChatDeleteRes(Long chatRoomId, List<Long> chatIds, Boolean isDeleted) {
+        this.chatRoomId = chatRoomId;
+        this.chatIds = chatIds;
+        this.isDeleted = isDeleted;
+    }
+
+    public static ChatDeleteRes to(Long chatRoomId, List<Long> chatIds) {
+        return ChatDeleteRes.builder()
+            .chatRoomId(chatRoomId)
+            .chatIds(chatIds)
+            .isDeleted(true)
+            .build();
+    }
 }
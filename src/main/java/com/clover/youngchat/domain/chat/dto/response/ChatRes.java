@@ -37,14 +37,18 @@ public class ChatRes {
 
 
     public static ChatRes to(Chat chat) {
+        return to(chat, chat.getId(), chat.getCreatedAt());
+    }
+
+    public static ChatRes to(Chat chat, Long chatId, LocalDateTime messageTime) {
         return ChatRes.builder()
-            .chatId(chat.getId())
+            .chatId(chatId)
             .userId(chat.getSender().getId())
-            .username(chat.getSender().getUsername())
-            .profileImage(chat.getSender().getProfileImage())
+            .username(chat.getSenderUsername())
+            .profileImage(chat.getSenderProfileImage())
             .message(chat.getMessage())
             .isDeleted(chat.isDeleted())
-            .messageTime(chat.getCreatedAt())
+            .messageTime(messageTime)
             .build();
     }
 }
\ No newline at end of file
@@ -3,10 +3,10 @@ package com.clover.youngchat.domain.chat.entity;
 import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
 import com.clover.youngchat.domain.model.BaseEntity;
 import com.clover.youngchat.domain.user.entity.User;
+import com.clover.youngchat.global.id.SnowflakeId;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -23,7 +23,7 @@ import lombok.NoArgsConstructor;
 public class Chat extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
     private boolean isDeleted = false;
     private String message;
@@ -36,13 +36,21 @@ public class Chat extends BaseEntity {
     @JoinColumn(name = "chatroom_id", nullable = false, updatable = false)
     private ChatRoom chatRoom;
 
-    // TODO: senderName 따로뺐을때 성능차이 어떻게 나는지 확인해보기
+    // 조회 시 users 조인을 피하기 위해 작성 시점의 프로필을 함께 저장한다.
+    // 프로필 변경은 ChatSenderProfileSyncBuffer 가 비동기로 반영한다.
+    @Column(name = "sender_username")
+    private String senderUsername;
+
+    @Column(name = "sender_profile_image")
+    private String senderProfileImage;
 
     @Builder
     private Chat(String message, User sender, ChatRoom chatRoom) {
         this.message = message;
         this.sender = sender;
         this.chatRoom = chatRoom;
+        this.senderUsername = sender.getUsername();
+        this.senderProfileImage = sender.getProfileImage();
     }
 
     public void deleteChat() {
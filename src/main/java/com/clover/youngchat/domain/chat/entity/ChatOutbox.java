@@ -0,0 +1,64 @@
+package com.clover.youngchat.domain.chat.entity;
+
+import com.clover.youngchat.domain.model.BaseEntity;
+import com.clover.youngchat.global.id.SnowflakeId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Chat 과 같은 트랜잭션에서 저장되고, ChatOutboxRelay 가 발행 후 sentAt 을 채운다.
+@Entity
+@Getter
+@Table(name = "chat_outbox", indexes = {
+    @Index(name = "idx_chat_outbox_sent_at_id", columnList = "sent_at, id"),
+    @Index(name = "idx_chat_outbox_ordering_key", columnList = "ordering_key, sent_at, id")})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatOutbox extends BaseEntity {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChatOutboxEventType eventType;
+
+    // 같은 payload 를 보낼 routing key 목록 (콤마 구분)
+    @Lob
+    @Column(nullable = false)
+    private String routingKeys;
+
+    // 같은 key 의 이벤트는 id 순서대로 발행한다. (첫 번째 routing key, 채팅은 채팅방 key)
+    @Column(name = "ordering_key", nullable = false, length = 100)
+    private String orderingKey;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    // relay 가 발행 중인 행. 이 시각이 지나면 다른 relay 가 다시 가져갈 수 있다.
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Builder
+    private ChatOutbox(ChatOutboxEventType eventType, String routingKeys, String orderingKey,
+        String payload) {
+        this.eventType = eventType;
+        this.routingKeys = routingKeys;
+        this.orderingKey = orderingKey;
+        this.payload = payload;
+    }
+}
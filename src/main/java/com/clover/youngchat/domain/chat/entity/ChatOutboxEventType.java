@@ -0,0 +1,6 @@
+package com.clover.youngchat.domain.chat.entity;
+
+public enum ChatOutboxEventType {
+    CHAT,
+    ALERT
+}
@@ -0,0 +1,22 @@
+package com.clover.youngchat.domain.chat.entity;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * write-behind 버퍼에 쌓여 아직 chat 테이블에 저장되지 않은 메세지.
+ * id 와 createdAt 은 버퍼에 넣는 시점에 확정되어 브로드캐스트와 저장 결과가 같다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PendingChat {
+
+    private final Long id;
+    private final String message;
+    private final Long senderId;
+    private final String senderUsername;
+    private final String senderProfileImage;
+    private final Long chatRoomId;
+    private final LocalDateTime createdAt;
+}
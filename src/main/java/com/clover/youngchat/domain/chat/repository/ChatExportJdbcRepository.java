@@ -0,0 +1,52 @@
+package com.clover.youngchat.domain.chat.repository;
+
+import com.clover.youngchat.domain.chat.dto.response.ChatRes;
+import jakarta.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatExportJdbcRepository {
+
+    private static final String SELECT_CHATS_SQL =
+        "SELECT id, sender_id, sender_username, sender_profile_image, message, is_deleted, "
+            + "created_at FROM chat WHERE chatroom_id = ? ORDER BY id";
+
+    private final DataSource dataSource;
+
+    // MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때 한 행씩 스트리밍한다.
+    @Value("${chat.export.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    private JdbcTemplate streamingJdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * 채팅방의 메세지를 오래된 순으로 한 행씩 넘긴다. forward-only cursor 를 사용하므로 결과를 메모리에 모으지 않는다.
+     */
+    public void streamChats(Long chatRoomId, Consumer<ChatRes> consumer) {
+        streamingJdbcTemplate.query(SELECT_CHATS_SQL, rs -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            consumer.accept(ChatRes.builder()
+                .chatId(rs.getLong("id"))
+                .userId(rs.getLong("sender_id"))
+                .username(rs.getString("sender_username"))
+                .profileImage(rs.getString("sender_profile_image"))
+                .message(rs.getString("message"))
+                .isDeleted(rs.getBoolean("is_deleted"))
+                .messageTime(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build());
+        }, chatRoomId);
+    }
+}
@@ -0,0 +1,90 @@
+package com.clover.youngchat.domain.chat.repository;
+
+import com.clover.youngchat.domain.chat.entity.PendingChat;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatJdbcRepository {
+
+    private static final String INSERT_CHAT_SQL =
+        "INSERT INTO chat (id, message, is_deleted, sender_id, sender_username, "
+            + "sender_profile_image, chatroom_id, created_at, modified_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_SENDER_CHATS_SQL =
+        "SELECT id, chatroom_id FROM chat WHERE sender_id = ? AND id > ? ORDER BY id LIMIT ?";
+
+    // (afterId, lastId] 범위만 갱신하고, 이미 최신인 행은 건너뛴다.
+    private static final String UPDATE_SENDER_PROFILE_SQL =
+        "UPDATE chat SET sender_username = ?, sender_profile_image = ? WHERE sender_id = ? "
+            + "AND id > ? AND id <= ? "
+            + "AND NOT (sender_username <=> ? AND sender_profile_image <=> ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL 은 rewriteBatchedStatements=true 일 때 multi-row INSERT 한 번으로 전송된다.
+    @Transactional
+    public int batchInsert(List<PendingChat> chats) {
+        int[] results = jdbcTemplate.batchUpdate(INSERT_CHAT_SQL,
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    PendingChat chat = chats.get(i);
+                    Timestamp createdAt = Timestamp.valueOf(chat.getCreatedAt());
+                    ps.setLong(1, chat.getId());
+                    ps.setString(2, chat.getMessage());
+                    ps.setBoolean(3, false);
+                    ps.setLong(4, chat.getSenderId());
+                    ps.setString(5, chat.getSenderUsername());
+                    ps.setString(6, chat.getSenderProfileImage());
+                    ps.setLong(7, chat.getChatRoomId());
+                    ps.setTimestamp(8, createdAt);
+                    ps.setTimestamp(9, createdAt);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return chats.size();
+                }
+            });
+        return results.length;
+    }
+
+    // batch 가 실패했을 때 문제가 되는 행을 골라내기 위한 단건 저장.
+    public int insert(PendingChat chat) {
+        Timestamp createdAt = Timestamp.valueOf(chat.getCreatedAt());
+        return jdbcTemplate.update(INSERT_CHAT_SQL, chat.getId(), chat.getMessage(), false,
+            chat.getSenderId(), chat.getSenderUsername(), chat.getSenderProfileImage(),
+            chat.getChatRoomId(), createdAt, createdAt);
+    }
+
+    // sender_id 인덱스의 (sender_id, id) 순서를 따라 afterId 다음부터 limit 개를 읽는다.
+    public List<SenderChat> findSenderChats(Long senderId, long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_SENDER_CHATS_SQL, (rs, rowNum) -> new SenderChat(
+            rs.getLong("id"), rs.getLong("chatroom_id")), senderId, afterId, limit);
+    }
+
+    public int updateSenderProfile(Long senderId, String username, String profileImage,
+        long afterId, long lastId) {
+        return jdbcTemplate.update(UPDATE_SENDER_PROFILE_SQL, username, profileImage, senderId,
+            afterId, lastId, username, profileImage);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SenderChat {
+
+        private final Long id;
+        private final Long chatRoomId;
+    }
+}
@@ -0,0 +1,95 @@
+package com.clover.youngchat.domain.chat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// relay 전용. 호출하는 쪽의 (readOnly 가 아닌) 트랜잭션 안에서 실행되어야 primary 로 라우팅된다.
+@Repository
+@RequiredArgsConstructor
+public class ChatOutboxJdbcRepository {
+
+    // 여러 relay 인스턴스가 같은 행을 집지 않도록 잠긴 행과 다른 relay 가 발행 중인 행은 건너뛴다.
+    private static final String SELECT_PENDING_SQL =
+        "SELECT id, routing_keys, ordering_key, payload FROM chat_outbox WHERE sent_at IS NULL "
+            + "AND (claimed_until IS NULL OR claimed_until < ?) "
+            + "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_SENT_SQL =
+        "DELETE FROM chat_outbox WHERE sent_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PendingOutbox> lockPending(LocalDateTime now, int limit) {
+        return jdbcTemplate.query(SELECT_PENDING_SQL, (rs, rowNum) -> new PendingOutbox(
+                rs.getLong("id"), rs.getString("routing_keys"), rs.getString("ordering_key"),
+                rs.getString("payload")),
+            Timestamp.valueOf(now), limit);
+    }
+
+    // key 별로 아직 발행되지 않은 가장 앞선 id. 잠금 여부와 관계없이 보인다.
+    public Map<String, Long> findFirstPendingIds(Collection<String> orderingKeys) {
+        Map<String, Long> firstPendingIds = new HashMap<>();
+        if (orderingKeys.isEmpty()) {
+            return firstPendingIds;
+        }
+        jdbcTemplate.query("SELECT ordering_key, MIN(id) AS first_id FROM chat_outbox "
+                + "WHERE sent_at IS NULL AND ordering_key IN (" + placeholders(orderingKeys.size())
+                + ") GROUP BY ordering_key",
+            rs -> {
+                firstPendingIds.put(rs.getString("ordering_key"), rs.getLong("first_id"));
+            }, orderingKeys.toArray());
+        return firstPendingIds;
+    }
+
+    public int claim(List<Long> ids, LocalDateTime claimedUntil) {
+        return updateByIds("UPDATE chat_outbox SET claimed_until = ?", claimedUntil, ids);
+    }
+
+    public int release(List<Long> ids) {
+        return updateByIds("UPDATE chat_outbox SET claimed_until = ?", null, ids);
+    }
+
+    public int markSent(List<Long> ids, LocalDateTime sentAt) {
+        return updateByIds("UPDATE chat_outbox SET sent_at = ?", sentAt, ids);
+    }
+
+    public int deleteSentBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_SENT_SQL, Timestamp.valueOf(before), limit);
+    }
+
+    private int updateByIds(String update, LocalDateTime value, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Object[] params = new Object[ids.size() + 1];
+        params[0] = value == null ? null : Timestamp.valueOf(value);
+        for (int i = 0; i < ids.size(); i++) {
+            params[i + 1] = ids.get(i);
+        }
+        return jdbcTemplate.update(
+            update + " WHERE id IN (" + placeholders(ids.size()) + ")", params);
+    }
+
+    private String placeholders(int size) {
+        return String.join(",", Collections.nCopies(size, "?"));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class PendingOutbox {
+
+        private final Long id;
+        private final String routingKeys;
+        private final String orderingKey;
+        private final String payload;
+    }
+}
@@ -0,0 +1,10 @@
+package com.clover.youngchat.domain.chat.repository;
+
+import com.clover.youngchat.domain.chat.entity.ChatOutbox;
+import org.springframework.data.repository.RepositoryDefinition;
+
+@RepositoryDefinition(domainClass = ChatOutbox.class, idClass = Long.class)
+public interface ChatOutboxRepository {
+
+    ChatOutbox save(ChatOutbox chatOutbox);
+}
@@ -4,6 +4,7 @@ import com.clover.youngchat.domain.chat.entity.Chat;
 import io.lettuce.core.dynamic.annotation.Param;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.RepositoryDefinition;
 
@@ -20,4 +21,16 @@ public interface ChatRepository extends ChatRepositoryCustom {
     Optional<Chat> findLastChatByChatRoom_Id(@Param("chatRoomId") Long chatRoomId);
 
     Optional<List<Chat>> findAllByChatRoom_Id(Long chatRoomId);
+
+    // 본인이 보낸, 아직 삭제되지 않은 메세지만 한 번의 UPDATE 로 삭제 처리한다.
+    @Modifying
+    @Query("UPDATE Chat c SET c.isDeleted = true "
+        + "WHERE c.id IN :chatIds AND c.chatRoom.id = :chatRoomId AND c.sender.id = :senderId "
+        + "AND c.isDeleted = false")
+    int softDeleteChats(List<Long> chatIds, Long chatRoomId, Long senderId);
+
+    @Query("SELECT c.id FROM Chat c "
+        + "WHERE c.id IN :chatIds AND c.chatRoom.id = :chatRoomId AND c.sender.id = :senderId "
+        + "AND c.isDeleted = true")
+    List<Long> findDeletedChatIds(List<Long> chatIds, Long chatRoomId, Long senderId);
 }
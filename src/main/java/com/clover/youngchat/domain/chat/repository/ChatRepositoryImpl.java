@@ -2,7 +2,6 @@ package com.clover.youngchat.domain.chat.repository;
 
 import com.clover.youngchat.domain.chat.dto.response.ChatRes;
 import com.clover.youngchat.domain.chat.entity.QChat;
-import com.clover.youngchat.domain.user.entity.QUser;
 import com.clover.youngchat.global.response.RestSlice;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -25,21 +24,19 @@ public class ChatRepositoryImpl implements ChatRepositoryCustom {
     private List<ChatRes> fetchChatsCursorPagination(Long chatRoomId, Long lastChatId,
         int limitSize) {
         QChat chat = QChat.chat;
-        QUser user = QUser.user;
         BooleanExpression queryCondition = createQueryCondition(chat, chatRoomId, lastChatId);
 
         return queryFactory
             .select(Projections.constructor(
                 ChatRes.class,
                 chat.id,
-                user.id,
-                user.username,
-                user.profileImage,
+                chat.sender.id,
+                chat.senderUsername,
+                chat.senderProfileImage,
                 chat.message,
                 chat.isDeleted,
                 chat.createdAt))
             .from(chat)
-            .leftJoin(chat.sender, user)
             .where(queryCondition)
             .orderBy(chat.id.desc())
             .limit(limitSize + 1) // 다음페이지가 있는지 확인하기 위해 +1 조회
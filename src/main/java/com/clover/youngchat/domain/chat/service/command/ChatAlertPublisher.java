@@ -0,0 +1,52 @@
+package com.clover.youngchat.domain.chat.service.command;
+
+import com.clover.youngchat.domain.chat.entity.ChatOutboxEventType;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatAlertRes;
+import com.clover.youngchat.global.rabbit.AsyncRabbitPublisher;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 알림 fan-out. 알림은 한 번만 직렬화한다.
+ * <ul>
+ *     <li>BATCHED (기본) : 참여자별 users.{id} 로 보내되 하나의 발행 작업에서 연속으로 publish 한다.</li>
+ *     <li>ROOM : chat-rooms.{id}.alerts 로 한 번만 publish 하고, 구독한 클라이언트가 수신한다.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatAlertPublisher {
+
+    private final AsyncRabbitPublisher asyncRabbitPublisher;
+    private final ChatOutboxService chatOutboxService;
+
+    @Value("${chat.alert.fan-out:BATCHED}")
+    private FanOutMode fanOutMode;
+
+    public void publish(Long chatRoomId, long[] recipientIds, ChatAlertRes res) {
+        if (recipientIds.length == 0) {
+            return;
+        }
+        Message message = asyncRabbitPublisher.toMessage(res);
+
+        if (fanOutMode == FanOutMode.ROOM) {
+            chatOutboxService.publish(ChatOutboxEventType.ALERT,
+                List.of("chat-rooms." + chatRoomId + ".alerts"), message);
+            return;
+        }
+
+        List<String> routingKeys = new ArrayList<>(recipientIds.length);
+        for (long recipientId : recipientIds) {
+            routingKeys.add("users." + recipientId);
+        }
+        chatOutboxService.publish(ChatOutboxEventType.ALERT, routingKeys, message);
+    }
+
+    public enum FanOutMode {
+        BATCHED, ROOM
+    }
+}
@@ -1,28 +1,36 @@
 package com.clover.youngchat.domain.chat.service.command;
 
+import static com.clover.youngchat.domain.chat.constant.ChatConstant.LAST_CHAT_PREVIEW_LENGTH;
+import static com.clover.youngchat.domain.chat.constant.ChatConstant.MAX_DELETE_CHAT_COUNT;
+import static com.clover.youngchat.domain.chat.entity.ChatOutboxEventType.CHAT;
 import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
+import static com.clover.youngchat.global.exception.ResultCode.INVALID_INPUT;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_CHAT;
-import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_CHATROOM;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_USER;
 
 import com.clover.youngchat.domain.chat.dto.request.ChatCreateReq;
 import com.clover.youngchat.domain.chat.dto.request.ChatDeleteReq;
+import com.clover.youngchat.domain.chat.dto.response.ChatDeleteRes;
 import com.clover.youngchat.domain.chat.dto.response.ChatRes;
 import com.clover.youngchat.domain.chat.entity.Chat;
+import com.clover.youngchat.domain.chat.entity.PendingChat;
 import com.clover.youngchat.domain.chat.repository.ChatRepository;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInbox;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInfoCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMembers;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomTailCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomUnreadCounter;
 import com.clover.youngchat.domain.chatroom.dto.response.ChatAlertRes;
-import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
-import com.clover.youngchat.domain.chatroom.entity.ChatRoomUser;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomAndLastChatGetRes;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomInfoRes;
 import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
-import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
 import com.clover.youngchat.domain.user.entity.User;
 import com.clover.youngchat.domain.user.repository.UserRepository;
 import com.clover.youngchat.global.exception.GlobalException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,64 +42,107 @@ public class ChatCommandService {
 
     private final ChatRepository chatRepository;
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomUserRepository chatRoomUserRepository;
+    private final ChatRoomMemberCache chatRoomMemberCache;
+    private final ChatRoomUnreadCounter chatRoomUnreadCounter;
+    private final ChatRoomTailCache chatRoomTailCache;
+    private final ChatRoomInbox chatRoomInbox;
+    private final ChatRoomInfoCache chatRoomInfoCache;
     private final UserRepository userRepository;
-    private final RabbitTemplate rabbitTemplate;
-
-    @Value("${rabbitmq.exchange.name}")
-    private String exchangeName;
+    private final ChatOutboxService chatOutboxService;
+    private final ChatWriteBehindBuffer chatWriteBehindBuffer;
+    private final ChatAlertPublisher chatAlertPublisher;
+    private final ChatDedupeFilter chatDedupeFilter;
 
     public void sendMessage(Long chatRoomId, ChatCreateReq req) {
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-            .orElseThrow(() -> new GlobalException(NOT_FOUND_CHATROOM));
+        if (!chatDedupeFilter.claim(req.getUserId(), req.getClientMessageId())) {
+            log.info("Duplicated message [{}] from member: {} dropped", req.getClientMessageId(),
+                req.getUserId());
+            return;
+        }
+
+        ChatRoomInfoRes chatRoom = chatRoomInfoCache.get(chatRoomId);
 
         User user = userRepository.findById(req.getUserId())
             .orElseThrow(() -> new GlobalException(NOT_FOUND_USER));
 
-        ChatRoomUser chatRoomUser = chatRoomUserRepository.findByChatRoom_IdAndUser_Id(chatRoomId,
-                user.getId())
-            .orElseThrow(() -> new GlobalException(ACCESS_DENY));
+        ChatRoomMembers members = chatRoomMemberCache.get(chatRoomId);
+        if (!members.contains(user.getId())) {
+            throw new GlobalException(ACCESS_DENY);
+        }
 
-        Chat chat = chatRepository.save(Chat.builder()
+        ChatRes chatRes = saveChat(Chat.builder()
             .message(req.getMessage())
-            .sender(chatRoomUser.getUser())
-            .chatRoom(chatRoom)
+            .sender(user)
+            .chatRoom(chatRoomRepository.getReferenceById(chatRoomId))
             .build());
 
-        rabbitTemplate.convertAndSend(exchangeName, "chat-rooms." + chatRoomId, ChatRes.to(chat));
-
-        List<Long> userIds = getUserIdListByChatRoomId(chatRoomId, user.getId());
+        String preview = toPreview(req.getMessage());
+        chatRoomRepository.updateLastChat(chatRoomId, chatRes.getChatId(), preview,
+            chatRes.getMessageTime());
+        chatOutboxService.publish(CHAT, "chat-rooms." + chatRoomId, chatRes);
+        chatRoomTailCache.append(chatRoomId, chatRes);
 
         ChatAlertRes res = ChatAlertRes.to(chatRoomId, chatRoom.getTitle(), user.getUsername(),
             user.getProfileImage(), req.getMessage());
 
-        userIds.forEach(userId -> {
-            String routingKey = "users." + userId;
-            rabbitTemplate.convertAndSend(exchangeName, routingKey, res);
-        });
+        long[] recipientIds = members.othersThan(user.getId());
+        chatAlertPublisher.publish(chatRoomId, recipientIds, res);
+        chatRoomUnreadCounter.increment(chatRoomId, recipientIds);
+        chatRoomInbox.touch(ChatRoomAndLastChatGetRes.builder()
+            .chatRoomId(chatRoomId)
+            .title(chatRoom.getTitle())
+            .chatId(chatRes.getChatId())
+            .lastChat(preview)
+            .lastChatTime(chatRes.getMessageTime())
+            .lastChatDeleted(false)
+            .build(), members.toArray());
 
         log.info("Message [{}] send by member: {} to chatting room: {}", req.getMessage(),
             user.getId(),
-            chatRoom.getId());
+            chatRoom.getChatRoomId());
     }
 
     public void deleteChat(Long chatRoomId, ChatDeleteReq chatDeleteReq) {
-        if (!chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(
-            chatRoomId, chatDeleteReq.getUserId())) {
+        List<Long> chatIds = chatDeleteReq.getTargetChatIds();
+        if (chatIds.isEmpty() || chatIds.size() > MAX_DELETE_CHAT_COUNT) {
+            throw new GlobalException(INVALID_INPUT);
+        }
+        if (!chatRoomMemberCache.isMember(chatRoomId, chatDeleteReq.getUserId())) {
             throw new GlobalException(ACCESS_DENY);
         }
 
-        Chat chat = chatRepository.findById(chatDeleteReq.getChatId())
-            .orElseThrow(() -> new GlobalException(NOT_FOUND_CHAT));
+        int deleted = chatRepository.softDeleteChats(chatIds, chatRoomId,
+            chatDeleteReq.getUserId());
+        if (deleted == 0) {
+            throw new GlobalException(NOT_FOUND_CHAT);
+        }
+        // 일부만 삭제된 경우에만 실제로 삭제 상태인 id 를 다시 조회한다.
+        if (deleted < chatIds.size()) {
+            chatIds = chatRepository.findDeletedChatIds(chatIds, chatRoomId,
+                chatDeleteReq.getUserId());
+        }
 
-        chat.deleteChat();
+        if (chatRoomRepository.markLastChatDeleted(chatRoomId, chatIds) > 0) {
+            chatRoomInbox.evictSummary(chatRoomId);
+        }
+        chatOutboxService.publish(CHAT, "chat-rooms." + chatRoomId,
+            ChatDeleteRes.to(chatRoomId, chatIds));
+        chatRoomTailCache.evict(chatRoomId);
+    }
 
-        rabbitTemplate.convertAndSend(exchangeName, "chat-rooms." + chatRoomId,
-            ChatRes.to(chat));
+    // write-behind 모드에서는 버퍼에 넣고 바로 반환하여 브로드캐스트가 DB flush 를 기다리지 않는다.
+    private ChatRes saveChat(Chat chat) {
+        if (chatWriteBehindBuffer.isEnabled()) {
+            PendingChat pending = chatWriteBehindBuffer.append(chat);
+            return ChatRes.to(chat, pending.getId(), pending.getCreatedAt());
+        }
+        return ChatRes.to(chatRepository.save(chat));
     }
 
-    private List<Long> getUserIdListByChatRoomId(Long chatRoomId, Long userId) {
-        return chatRoomUserRepository.getOtherUsersInChatRoom(chatRoomId, userId)
-            .orElseThrow(() -> new GlobalException(NOT_FOUND_CHATROOM));
+    private String toPreview(String message) {
+        if (message == null || message.length() <= LAST_CHAT_PREVIEW_LENGTH) {
+            return message;
+        }
+        return message.substring(0, LAST_CHAT_PREVIEW_LENGTH);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package com.clover.youngchat.domain.chat.service.command;
+
+import static com.clover.youngchat.domain.chat.constant.ChatConstant.CLIENT_MESSAGE_ID_MAX_LENGTH;
+import static com.clover.youngchat.domain.chat.constant.ChatConstant.CLIENT_MESSAGE_ID_REGEX;
+import static com.clover.youngchat.global.exception.ResultCode.INVALID_INPUT;
+
+import com.clover.youngchat.global.dedupe.TimeBucketedSet;
+import com.clover.youngchat.global.exception.GlobalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * clientMessageId 기반 재전송 중복 제거.
+ * <p>
+ * 로컬 시간 구간 집합을 먼저 확인하고, 처음 보는 id 는 Redis SET NX 로 노드 간에 선점한다.
+ * 선점한 요청의 트랜잭션이 롤백되면 선점을 풀어 재시도가 처리될 수 있게 한다.
+ */
+@Slf4j(topic = "chat dedupe")
+@Component
+@RequiredArgsConstructor
+public class ChatDedupeFilter {
+
+    private static final String KEY_PREFIX = "chat:dedupe:";
+    private static final Pattern CLIENT_MESSAGE_ID_PATTERN = Pattern.compile(
+        CLIENT_MESSAGE_ID_REGEX);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.dedupe.window-seconds:60}")
+    private long windowSeconds;
+
+    @Value("${chat.dedupe.local-buckets:6}")
+    private int localBuckets;
+
+    private TimeBucketedSet recentIds;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void init() {
+        recentIds = new TimeBucketedSet(Duration.ofSeconds(windowSeconds).toMillis(),
+            localBuckets);
+        droppedCounter = Counter.builder("chat.dedupe.dropped").register(meterRegistry);
+    }
+
+    /**
+     * 처음 들어온 메세지면 선점하고 true, window 안에서 이미 처리된 메세지면 false 를 반환한다.
+     * clientMessageId 가 없으면 항상 true, 형식에 맞지 않으면 INVALID_INPUT 으로 거절한다.
+     */
+    public boolean claim(Long userId, String clientMessageId) {
+        if (clientMessageId == null || clientMessageId.isBlank()) {
+            return true;
+        }
+        // DTO 검증을 거치지 않은 호출도 임의 길이의 키를 Redis 와 로컬 집합에 남기지 못하게 한다.
+        if (clientMessageId.length() > CLIENT_MESSAGE_ID_MAX_LENGTH
+            || !CLIENT_MESSAGE_ID_PATTERN.matcher(clientMessageId).matches()) {
+            throw new GlobalException(INVALID_INPUT);
+        }
+        String key = KEY_PREFIX + userId + ":" + clientMessageId;
+        long now = System.currentTimeMillis();
+        if (recentIds.contains(key, now)) {
+            droppedCounter.increment();
+            return false;
+        }
+
+        boolean claimed = claimInRedis(key);
+        recentIds.add(key, now);
+        if (!claimed) {
+            droppedCounter.increment();
+            return false;
+        }
+        releaseOnRollback(key);
+        return true;
+    }
+
+    private boolean claimInRedis(String key) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(key, "1", Duration.ofSeconds(windowSeconds)));
+        } catch (Exception e) {
+            // Redis 장애 시에는 로컬 window 만으로 중복을 거른다.
+            log.warn("failed to claim {} in redis: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseOnRollback(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                recentIds.remove(key);
+                try {
+                    stringRedisTemplate.delete(key);
+                } catch (Exception e) {
+                    log.warn("failed to release {} in redis: {}", key, e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,232 @@
+package com.clover.youngchat.domain.chat.service.command;
+
+import com.clover.youngchat.domain.chat.repository.ChatOutboxJdbcRepository;
+import com.clover.youngchat.domain.chat.repository.ChatOutboxJdbcRepository.PendingOutbox;
+import com.clover.youngchat.global.rabbit.AsyncRabbitPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 에 쌓인 이벤트를 배치 단위로 발행하고 confirm 된 행을 발행 완료로 표시한다.
+ * <p>
+ * 짧은 트랜잭션에서 행을 잠그고 claimed_until 을 채워 가져온 뒤 커밋하고, confirm 은 트랜잭션 밖에서
+ * 기다린다. 같은 ordering key 의 행은 id 순서대로 앞 행이 confirm 된 뒤에 발행하며, 하나가 실패하면
+ * 그 key 의 나머지 행은 발행하지 않고 다음 배치에서 순서대로 다시 시도한다.
+ * readOnly 가 아닌 트랜잭션에서 조회하므로 TransactionRoutingDataSource 가 primary 로 라우팅한다.
+ * 발행 후 표시 전에 장애가 나면 다시 발행될 수 있다. (at-least-once)
+ */
+@Slf4j(topic = "chat outbox relay")
+@Component
+@RequiredArgsConstructor
+public class ChatOutboxRelay {
+
+    private final ChatOutboxJdbcRepository chatOutboxJdbcRepository;
+    private final AsyncRabbitPublisher asyncRabbitPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rabbitmq.exchange.name}")
+    private String exchangeName;
+
+    @Value("${chat.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${chat.outbox.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMillis;
+
+    // confirm 을 기다리다 relay 가 죽어도 이 시간이 지나면 다른 relay 가 가져간다.
+    @Value("${chat.outbox.claim-lease-ms:30000}")
+    private long claimLeaseMillis;
+
+    @Value("${chat.outbox.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private TransactionTemplate transactionTemplate;
+    private Counter relayedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(false);
+        relayedCounter = Counter.builder("chat.outbox.relayed").register(meterRegistry);
+        failedCounter = Counter.builder("chat.outbox.relay.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.outbox.poll-interval-ms:50}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        // 배치가 가득 찼고 모두 발행됐다면 밀린 이벤트가 더 있으므로 바로 다음 배치를 처리한다.
+        boolean hasMore;
+        do {
+            hasMore = relayBatch();
+        } while (hasMore);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.outbox.purge-interval-ms:60000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minusMinutes(retentionMinutes);
+        int deleted;
+        do {
+            deleted = chatOutboxJdbcRepository.deleteSentBefore(before, batchSize);
+        } while (deleted == batchSize);
+    }
+
+    private boolean relayBatch() {
+        List<PendingOutbox> rows = transactionTemplate.execute(status -> claimBatch());
+        if (rows == null || rows.isEmpty()) {
+            return false;
+        }
+
+        Map<String, List<PendingOutbox>> rowsByKey = new LinkedHashMap<>();
+        rows.forEach(row -> rowsByKey.computeIfAbsent(row.getOrderingKey(),
+            key -> new ArrayList<>()).add(row));
+
+        PublishChains chains = new PublishChains();
+        rowsByKey.values().forEach(keyRows -> chains.add(publishInOrder(keyRows, chains)));
+        chains.await(confirmTimeoutMillis);
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> unsentIds = new ArrayList<>();
+        chains.collect(sentIds, unsentIds);
+        transactionTemplate.executeWithoutResult(status -> {
+            chatOutboxJdbcRepository.markSent(sentIds, LocalDateTime.now());
+            chatOutboxJdbcRepository.release(unsentIds);
+        });
+
+        relayedCounter.increment(sentIds.size());
+        if (!unsentIds.isEmpty()) {
+            failedCounter.increment(unsentIds.size());
+            log.warn("{} of {} outbox events not confirmed, will retry", unsentIds.size(),
+                rows.size());
+        }
+        return unsentIds.isEmpty() && rows.size() == batchSize;
+    }
+
+    // 잠근 행 중 앞선 행을 다른 relay 가 발행 중인 key 는 건너뛰고 나머지를 claim 한다.
+    private List<PendingOutbox> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingOutbox> locked = chatOutboxJdbcRepository.lockPending(now, batchSize);
+        if (locked.isEmpty()) {
+            return locked;
+        }
+
+        Map<String, Long> firstLockedIds = new LinkedHashMap<>();
+        locked.forEach(row -> firstLockedIds.putIfAbsent(row.getOrderingKey(), row.getId()));
+        Map<String, Long> firstPendingIds =
+            chatOutboxJdbcRepository.findFirstPendingIds(firstLockedIds.keySet());
+
+        List<PendingOutbox> claimed = locked.stream()
+            .filter(row -> firstLockedIds.get(row.getOrderingKey())
+                .equals(firstPendingIds.getOrDefault(row.getOrderingKey(), row.getId())))
+            .toList();
+        chatOutboxJdbcRepository.claim(claimed.stream().map(PendingOutbox::getId).toList(),
+            now.plusNanos(TimeUnit.MILLISECONDS.toNanos(claimLeaseMillis)));
+        return claimed;
+    }
+
+    // 앞 행이 confirm 된 뒤에 다음 행을 발행한다. 실패하거나 timeout 이 지나면 그 key 는 멈춘다.
+    private PublishChain publishInOrder(List<PendingOutbox> rows, PublishChains chains) {
+        PublishChain chain = new PublishChain(rows);
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        for (PendingOutbox row : rows) {
+            future = future
+                .thenCompose(ignored -> chains.isAbandoned()
+                    ? CompletableFuture.<Void>failedFuture(new TimeoutException("confirm timeout"))
+                    : asyncRabbitPublisher.publish(exchangeName, Arrays.asList(
+                            row.getRoutingKeys().split(ChatOutboxService.ROUTING_KEY_DELIMITER)),
+                        toMessage(row.getPayload())))
+                .thenRun(chain.confirmed::incrementAndGet);
+        }
+        chain.future = future;
+        return chain;
+    }
+
+    private Message toMessage(String payload) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        return new Message(payload.getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private static class PublishChain {
+
+        private final List<PendingOutbox> rows;
+        private final AtomicInteger confirmed = new AtomicInteger();
+        private CompletableFuture<Void> future;
+
+        private PublishChain(List<PendingOutbox> rows) {
+            this.rows = rows;
+        }
+    }
+
+    private static class PublishChains {
+
+        private final List<PublishChain> chains = new ArrayList<>();
+        private volatile boolean abandoned;
+
+        private void add(PublishChain chain) {
+            chains.add(chain);
+        }
+
+        private boolean isAbandoned() {
+            return abandoned;
+        }
+
+        private void await(long timeoutMillis) {
+            try {
+                CompletableFuture.allOf(chains.stream()
+                        .map(chain -> chain.future)
+                        .toArray(CompletableFuture[]::new))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException e) {
+                // 개별 결과는 confirm 된 행 수로 확인한다.
+            } finally {
+                // 아직 발행하지 않은 행은 더 보내지 않고 다음 배치로 넘긴다.
+                abandoned = true;
+            }
+        }
+
+        // key 마다 confirm 된 앞부분만 발행 완료로 본다.
+        private void collect(List<Long> sentIds, List<Long> unsentIds) {
+            for (PublishChain chain : chains) {
+                int confirmed = chain.confirmed.get();
+                for (int i = 0; i < chain.rows.size(); i++) {
+                    (i < confirmed ? sentIds : unsentIds).add(chain.rows.get(i).getId());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.clover.youngchat.domain.chat.service.command;
+
+import com.clover.youngchat.domain.chat.entity.ChatOutbox;
+import com.clover.youngchat.domain.chat.entity.ChatOutboxEventType;
+import com.clover.youngchat.domain.chat.repository.ChatOutboxRepository;
+import com.clover.youngchat.global.rabbit.AsyncRabbitPublisher;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅 이벤트 발행 진입점.
+ * <p>
+ * 트랜잭션 안에서는 outbox 테이블에 이벤트를 기록만 하고, 커밋된 이벤트는 ChatOutboxRelay 가 발행한다.
+ * write-behind 모드에서는 Chat 이 요청 트랜잭션에 포함되지 않으므로 outbox 를 거치지 않고 바로 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatOutboxService {
+
+    static final String ROUTING_KEY_DELIMITER = ",";
+
+    private final ChatOutboxRepository chatOutboxRepository;
+    private final AsyncRabbitPublisher asyncRabbitPublisher;
+    private final ChatWriteBehindBuffer chatWriteBehindBuffer;
+
+    @Value("${rabbitmq.exchange.name}")
+    private String exchangeName;
+
+    @Value("${chat.outbox.enabled:true}")
+    private boolean enabled;
+
+    public void publish(ChatOutboxEventType eventType, String routingKey, Object payload) {
+        publish(eventType, List.of(routingKey), asyncRabbitPublisher.toMessage(payload));
+    }
+
+    public void publish(ChatOutboxEventType eventType, Collection<String> routingKeys,
+        Message message) {
+        // 첫 routing key 를 outbox 의 순서 key 로 쓰므로 비어 있으면 기록할 수 없다.
+        if (routingKeys == null || routingKeys.isEmpty()) {
+            throw new IllegalArgumentException(
+                "routing keys must not be empty for " + eventType + " event");
+        }
+        if (!isOutboxAvailable()) {
+            asyncRabbitPublisher.publish(exchangeName, routingKeys, message);
+            return;
+        }
+        chatOutboxRepository.save(ChatOutbox.builder()
+            .eventType(eventType)
+            .routingKeys(String.join(ROUTING_KEY_DELIMITER, routingKeys))
+            .orderingKey(routingKeys.iterator().next())
+            .payload(new String(message.getBody(), StandardCharsets.UTF_8))
+            .build());
+    }
+
+    private boolean isOutboxAvailable() {
+        return enabled && !chatWriteBehindBuffer.isEnabled()
+            && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+}
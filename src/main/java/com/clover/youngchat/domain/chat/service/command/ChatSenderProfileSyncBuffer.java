@@ -0,0 +1,187 @@
+package com.clover.youngchat.domain.chat.service.command;
+
+import com.clover.youngchat.domain.chat.repository.ChatJdbcRepository;
+import com.clover.youngchat.domain.chat.repository.ChatJdbcRepository.SenderChat;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomTailCache;
+import com.clover.youngchat.domain.user.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 프로필 변경을 chat 의 sender_username / sender_profile_image 에 반영한다.
+ * <p>
+ * 사용자별 마지막 프로필을 Redis hash chat:sender-sync:pending 에 남겨두어 재시작해도 유실되지 않고,
+ * 주기적으로 id 기준 keyset 으로 batch-size 행씩 나누어 UPDATE 하므로 메세지가 많은 사용자라도
+ * 한 번에 긴 잠금을 잡지 않는다. 반영이 끝나면 메세지가 있는 채팅방의 최근 메세지 캐시를 지운다.
+ * 채팅방 목록 요약(inbox)에는 발신자 정보가 없으므로 건드리지 않는다.
+ */
+@Slf4j(topic = "chat sender profile sync")
+@Component
+@RequiredArgsConstructor
+public class ChatSenderProfileSyncBuffer {
+
+    public static final String PENDING_KEY = "chat:sender-sync:pending";
+
+    // 반영하는 동안 프로필이 다시 바뀌었다면 남겨두어 다음 flush 때 다시 반영한다.
+    private static final RedisScript<Long> REMOVE_IF_SAME_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then "
+            + "  return redis.call('HDEL', KEYS[1], ARGV[1]) "
+            + "end "
+            + "return 0", Long.class);
+
+    private final ChatJdbcRepository chatJdbcRepository;
+    private final ChatRoomTailCache chatRoomTailCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.sender-sync.batch-size:1000}")
+    private int batchSize;
+
+    // Redis 에 기록하지 못한 변경. 이 노드의 flush 가 직접 반영한다.
+    private final Map<Long, String> unsaved = new ConcurrentHashMap<>();
+
+    // 프로필 변경이 커밋된 뒤에만 반영 대상으로 등록한다.
+    public void record(User user) {
+        String profile;
+        try {
+            profile = objectMapper.writeValueAsString(
+                new SenderProfile(user.getUsername(), user.getProfileImage()));
+        } catch (JsonProcessingException e) {
+            log.warn("failed to serialize sender profile of member {}: {}", user.getId(),
+                e.getMessage());
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        save(user.getId(), profile);
+                    }
+                });
+            return;
+        }
+        save(user.getId(), profile);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.sender-sync.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, String> saved = readSaved();
+        Map<Long, String> local = new HashMap<>(unsaved);
+
+        saved.forEach((senderId, profile) -> {
+            if (syncQuietly(senderId, profile)) {
+                removeSaved(senderId, profile);
+            }
+        });
+        local.forEach((senderId, profile) -> {
+            if (syncQuietly(senderId, profile)) {
+                unsaved.remove(senderId, profile);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    private void save(Long senderId, String profile) {
+        try {
+            stringRedisTemplate.opsForHash().put(PENDING_KEY, String.valueOf(senderId), profile);
+            unsaved.remove(senderId);
+        } catch (Exception e) {
+            log.warn("failed to save sender profile of member {}, keeping it locally: {}",
+                senderId, e.getMessage());
+            unsaved.put(senderId, profile);
+        }
+    }
+
+    private Map<Long, String> readSaved() {
+        Map<Long, String> saved = new HashMap<>();
+        try {
+            stringRedisTemplate.opsForHash().entries(PENDING_KEY).forEach((senderId, profile) ->
+                saved.put(Long.valueOf((String) senderId), (String) profile));
+        } catch (Exception e) {
+            log.warn("failed to read pending sender profiles: {}", e.getMessage());
+        }
+        return saved;
+    }
+
+    private void removeSaved(Long senderId, String profile) {
+        try {
+            stringRedisTemplate.execute(REMOVE_IF_SAME_SCRIPT, List.of(PENDING_KEY),
+                String.valueOf(senderId), profile);
+        } catch (Exception e) {
+            // 남아 있으면 다음 flush 때 한 번 더 반영될 뿐이다.
+            log.warn("failed to remove pending sender profile of member {}: {}", senderId,
+                e.getMessage());
+        }
+    }
+
+    private boolean syncQuietly(Long senderId, String json) {
+        try {
+            SenderProfile profile = objectMapper.readValue(json, SenderProfile.class);
+            int updated = sync(senderId, profile);
+            log.info("sender profile of member: {} synced to {} chats", senderId, updated);
+            return true;
+        } catch (Exception e) {
+            // 남겨두어 다음 flush 때 다시 시도한다.
+            log.warn("failed to sync sender profile of member {}: {}", senderId,
+                e.getMessage());
+            return false;
+        }
+    }
+
+    // id 순으로 batch-size 개씩 범위를 정해 UPDATE 하므로 이미 지나간 행을 다시 읽지 않는다.
+    private int sync(Long senderId, SenderProfile profile) {
+        Set<Long> chatRoomIds = new HashSet<>();
+        int total = 0;
+        long afterId = 0;
+        List<SenderChat> chats;
+        do {
+            chats = chatJdbcRepository.findSenderChats(senderId, afterId, batchSize);
+            if (chats.isEmpty()) {
+                break;
+            }
+            long lastId = chats.get(chats.size() - 1).getId();
+            total += chatJdbcRepository.updateSenderProfile(senderId, profile.getUsername(),
+                profile.getProfileImage(), afterId, lastId);
+            chats.forEach(chat -> chatRoomIds.add(chat.getChatRoomId()));
+            afterId = lastId;
+        } while (chats.size() == batchSize);
+
+        chatRoomIds.forEach(chatRoomTailCache::evict);
+        return total;
+    }
+
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor
+    private static class SenderProfile {
+
+        private String username;
+        private String profileImage;
+    }
+}
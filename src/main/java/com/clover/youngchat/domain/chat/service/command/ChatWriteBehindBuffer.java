@@ -0,0 +1,347 @@
+package com.clover.youngchat.domain.chat.service.command;
+
+import com.clover.youngchat.domain.chat.entity.Chat;
+import com.clover.youngchat.domain.chat.entity.PendingChat;
+import com.clover.youngchat.domain.chat.repository.ChatJdbcRepository;
+import com.clover.youngchat.global.id.SnowflakeIdGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j(topic = "chat write-behind")
+@Component
+@RequiredArgsConstructor
+public class ChatWriteBehindBuffer {
+
+    public static final String DEAD_LETTER_KEY = "chat:write-behind:dead-letter";
+
+    private final ChatJdbcRepository chatJdbcRepository;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${chat.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${chat.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.write-behind.flush-interval-ms:50}")
+    private long flushIntervalMillis;
+
+    @Value("${chat.write-behind.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMillis;
+
+    @Value("${chat.write-behind.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${chat.write-behind.retry-backoff-ms:100}")
+    private long retryBackoffMillis;
+
+    @Value("${chat.write-behind.retry-max-backoff-ms:2000}")
+    private long retryMaxBackoffMillis;
+
+    @Value("${chat.write-behind.dead-letter.replay-batch-size:100}")
+    private int deadLetterReplayBatchSize;
+
+    private BlockingQueue<PendingChat> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private DistributionSummary batchRows;
+    private Counter overflowCounter;
+    private Counter retryCounter;
+    private Counter deadLetterCounter;
+    private Counter deadLetterReplayedCounter;
+    private final AtomicLong deadLetterDepth = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+
+        Gauge.builder("chat.write_behind.buffer.depth", queue, BlockingQueue::size)
+            .register(meterRegistry);
+        flushTimer = Timer.builder("chat.write_behind.flush.latency")
+            .register(meterRegistry);
+        batchRows = DistributionSummary.builder("chat.write_behind.flush.rows")
+            .register(meterRegistry);
+        overflowCounter = Counter.builder("chat.write_behind.overflow")
+            .register(meterRegistry);
+        retryCounter = Counter.builder("chat.write_behind.flush.retries")
+            .register(meterRegistry);
+        deadLetterCounter = Counter.builder("chat.write_behind.dead_letter.rows")
+            .register(meterRegistry);
+        deadLetterReplayedCounter = Counter.builder("chat.write_behind.dead_letter.replayed")
+            .register(meterRegistry);
+        // 마지막 replay 시점의 dead-letter 길이. 0 보다 크게 유지되면 직접 확인해야 한다.
+        Gauge.builder("chat.write_behind.dead_letter.depth", deadLetterDepth, AtomicLong::get)
+            .register(meterRegistry);
+
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public PendingChat append(Chat chat) {
+        PendingChat pending = new PendingChat(snowflakeIdGenerator.nextId(), chat.getMessage(),
+            chat.getSender().getId(), chat.getSenderUsername(), chat.getSenderProfileImage(),
+            chat.getChatRoom().getId(), LocalDateTime.now());
+
+        if (!running || !queue.offer(pending)) {
+            // 버퍼가 가득 찼거나 종료 중이면 호출 스레드에서 바로 저장해 유실을 막는다.
+            overflowCounter.increment();
+            flush(List.of(pending));
+        }
+        return pending;
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        flusher.join(shutdownTimeoutMillis);
+
+        List<PendingChat> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        log.info("write-behind buffer drained, {} chats flushed on shutdown", remaining.size());
+    }
+
+    private void runFlushLoop() {
+        List<PendingChat> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingChat first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectUntilFullOrDeadline(batch);
+            } catch (InterruptedException e) {
+                // stop() 에서 깨운 경우: 모아둔 것만 저장하고 나머지는 stop() 이 비운다.
+                Thread.currentThread().interrupt();
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+
+    // 첫 메세지 도착 후 batchSize 가 차거나 flushInterval 이 지나면 flush 한다.
+    private void collectUntilFullOrDeadline(List<PendingChat> batch)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remainingNanos = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remainingNanos <= 0) {
+                return;
+            }
+            PendingChat next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingChat> batch) {
+        long start = System.nanoTime();
+        try {
+            if (insertWithRetry(batch)) {
+                batchRows.record(batch.size());
+                return;
+            }
+            insertOneByOne(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // DB 일시 장애는 제한된 backoff 로 재시도하고, 데이터 자체가 문제인 경우는 바로 포기한다.
+    private boolean insertWithRetry(List<PendingChat> batch) {
+        long backoff = retryBackoffMillis;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                chatJdbcRepository.batchInsert(batch);
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("write-behind batch rejected, isolating {} chats: {}", batch.size(),
+                    e.getMessage());
+                return false;
+            } catch (Exception e) {
+                if (attempt >= maxRetries || !sleep(backoff)) {
+                    log.warn("write-behind batch failed after {} attempts: {}", attempt + 1,
+                        e.getMessage());
+                    return false;
+                }
+                retryCounter.increment();
+                backoff = Math.min(backoff * 2, retryMaxBackoffMillis);
+            }
+        }
+    }
+
+    // 한 건씩 저장해 문제가 되는 행만 dead-letter 로 보내고 나머지는 살린다.
+    private void insertOneByOne(List<PendingChat> batch) {
+        int saved = 0;
+        for (PendingChat chat : batch) {
+            try {
+                chatJdbcRepository.insert(chat);
+                saved++;
+            } catch (DuplicateKeyException e) {
+                // 이미 저장된 행이다.
+                saved++;
+            } catch (Exception e) {
+                deadLetter(chat, e);
+            }
+        }
+        batchRows.record(saved);
+    }
+
+    /**
+     * dead-letter 에 쌓인 메세지를 주기적으로 다시 저장한다.
+     * <p>
+     * 여러 노드가 같은 항목을 동시에 처리해도 id 가 같으므로 한 번만 저장된다. 저장했거나 이미 저장된 항목은
+     * 지우고, 데이터 문제로 여전히 거부되는 항목은 list 끝으로 옮겨 뒤의 항목을 막지 않게 한다.
+     * DB 장애로 실패하면 이번 주기는 멈추고 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${chat.write-behind.dead-letter.replay-interval-ms:60000}")
+    public void replayDeadLetters() {
+        if (!enabled) {
+            return;
+        }
+        List<String> payloads;
+        try {
+            payloads = stringRedisTemplate.opsForList()
+                .range(DEAD_LETTER_KEY, 0, deadLetterReplayBatchSize - 1);
+        } catch (Exception e) {
+            log.warn("failed to read write-behind dead-letter: {}", e.getMessage());
+            return;
+        }
+        if (payloads == null) {
+            return;
+        }
+
+        for (String payload : payloads) {
+            try {
+                insertDeadLetter(payload);
+                stringRedisTemplate.opsForList().remove(DEAD_LETTER_KEY, 1, payload);
+                deadLetterReplayedCounter.increment();
+            } catch (DataIntegrityViolationException | JsonProcessingException e) {
+                // 끝에 먼저 넣은 뒤 앞의 것을 지우므로 옮기는 도중에 유실되지 않는다.
+                stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, payload);
+                stringRedisTemplate.opsForList().remove(DEAD_LETTER_KEY, 1, payload);
+                log.error("write-behind dead-letter still rejected: {} ({})", payload,
+                    e.getMessage());
+            } catch (Exception e) {
+                log.warn("write-behind dead-letter replay stopped: {}", e.getMessage());
+                break;
+            }
+        }
+        updateDeadLetterDepth();
+    }
+
+    private void insertDeadLetter(String payload) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(payload);
+        PendingChat chat = new PendingChat(field(node, "id", Long.class),
+            field(node, "message", String.class), field(node, "senderId", Long.class),
+            field(node, "senderUsername", String.class),
+            field(node, "senderProfileImage", String.class),
+            field(node, "chatRoomId", Long.class),
+            field(node, "createdAt", LocalDateTime.class));
+        try {
+            chatJdbcRepository.insert(chat);
+        } catch (DuplicateKeyException e) {
+            // 이미 저장된 행이다.
+        }
+    }
+
+    private <T> T field(JsonNode node, String name, Class<T> type)
+        throws JsonProcessingException {
+        return objectMapper.treeToValue(node.get(name), type);
+    }
+
+    private void updateDeadLetterDepth() {
+        try {
+            Long size = stringRedisTemplate.opsForList().size(DEAD_LETTER_KEY);
+            deadLetterDepth.set(size == null ? 0 : size);
+        } catch (Exception e) {
+            log.warn("failed to read write-behind dead-letter size: {}", e.getMessage());
+        }
+    }
+
+    private void deadLetter(PendingChat chat, Exception cause) {
+        deadLetterCounter.increment();
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(chat);
+        } catch (Exception e) {
+            log.error("write-behind chat {} lost, cannot serialize: {}", chat.getId(),
+                e.getMessage());
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, payload);
+            log.error("write-behind chat {} moved to dead-letter: {}", chat.getId(),
+                cause.getMessage());
+        } catch (Exception e) {
+            // Redis 까지 실패하면 로그가 마지막 기록이다.
+            log.error("write-behind chat not persisted: {} ({})", payload, cause.getMessage());
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            // 종료 중이면 재시도를 멈추고 단건 저장으로 넘어간다.
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.clover.youngchat.domain.chat.service.query;
+
+import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
+
+import com.clover.youngchat.domain.chat.repository.ChatExportJdbcRepository;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.global.exception.GlobalException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 채팅 내역을 NDJSON 으로 응답에 바로 쓴다. 방 크기와 관계없이 한 행 분량의 메모리만 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatExportService {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte NEW_LINE = '\n';
+
+    private final ChatExportJdbcRepository chatExportJdbcRepository;
+    private final ChatRoomMemberCache chatRoomMemberCache;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    private TransactionTemplate readOnlyTransactionTemplate;
+    private ObjectWriter chatWriter;
+
+    @PostConstruct
+    public void init() {
+        // readOnly 트랜잭션이므로 TransactionRoutingDataSource 가 replica 로 보낸다.
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+        // 행마다 스트림을 닫거나 flush 하지 않도록 한다.
+        chatWriter = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // 권한 확인은 요청 스레드에서 하고, 실제 조회와 쓰기는 응답을 쓰는 시점에 수행한다.
+    public StreamingResponseBody exportChats(Long chatRoomId, Long userId, boolean gzip) {
+        if (!chatRoomMemberCache.isMember(chatRoomId, userId)) {
+            throw new GlobalException(ACCESS_DENY);
+        }
+        return outputStream -> {
+            OutputStream out = gzip
+                ? new GZIPOutputStream(outputStream, BUFFER_SIZE)
+                : new BufferedOutputStream(outputStream, BUFFER_SIZE);
+            readOnlyTransactionTemplate.executeWithoutResult(status ->
+                chatExportJdbcRepository.streamChats(chatRoomId, chat -> {
+                    try {
+                        chatWriter.writeValue(out, chat);
+                        out.write(NEW_LINE);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            out.flush();
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+        };
+    }
+}
@@ -0,0 +1,398 @@
+package com.clover.youngchat.domain.chatroom.cache;
+
+import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomAndLastChatGetRes;
+import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
+import com.clover.youngchat.global.datasource.PrimaryReader;
+import com.clover.youngchat.global.id.SnowflakeIdGenerator;
+import com.clover.youngchat.global.response.RestSlice;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 채팅방 목록. Redis ZSET inbox:{userId} 에 chatRoomId 를 마지막 메세지 시각(ms)을 score 로 보관하고,
+ * 방 요약(제목, 마지막 메세지)은 hash chatroom:summary:{chatRoomId} 에 따로 둔다.
+ * <p>
+ * inbox 는 목록 조회 시 없으면 MySQL 에서 다시 만들고, 메세지 전송/퇴장은 이미 있는 inbox 에만 반영한다.
+ * 재적재 중에는 inbox:{userId}:rebuilding 표시를 두고, 그동안의 전송/퇴장을 inbox:{userId}:rebuild-log 에
+ * 모았다가 MySQL 에서 읽은 목록을 적재할 때 한 스크립트 안에서 함께 반영하므로 재적재와 겹친 변경이 유실되지 않는다.
+ * <p>
+ * 방 요약은 더 최신 chatId 일 때만 덮어쓴다. 요약을 지울 때는 json 만 지우고 ver 를 올려, 지우기 전에 MySQL 에서
+ * 읽은 요약이 뒤늦게 다시 적재되지 않게 한다. 재적재와 요약 적재는 replica 지연을 피해 primary 에서 읽는다.
+ */
+@Slf4j(topic = "chatroom inbox")
+@Component
+@RequiredArgsConstructor
+public class ChatRoomInbox {
+
+    private static final String INBOX_KEY_PREFIX = "inbox:";
+    private static final String REBUILDING_KEY_SUFFIX = ":rebuilding";
+    private static final String REBUILD_LOG_KEY_SUFFIX = ":rebuild-log";
+    private static final String LEFT_SCORE = "-1";
+    private static final String SUMMARY_KEY_PREFIX = "chatroom:summary:";
+    private static final String SUMMARY_ID_FIELD = "id";
+    private static final String SUMMARY_JSON_FIELD = "json";
+    private static final String SUMMARY_VERSION_FIELD = "ver";
+    // 재적재는 요약을 읽지 않고 적재하므로 지워진 적 없는 요약(ver 없음)만 같은 chatId 로 다시 채운다.
+    private static final String NO_SUMMARY_VERSION = "0";
+
+    // 요약은 더 최신 chatId 일 때만 덮어쓰고, inbox 는 이미 있는 사용자에게만 GT 로 올린다.
+    // inbox 가 재적재 중이면 재적재 로그에 남겨 적재할 때 반영되게 한다.
+    // KEYS 는 요약 다음에 사용자마다 inbox, 재적재 표시, 재적재 로그 순으로 온다.
+    // chatId 는 자릿수가 같으면 문자열 비교로 대소를 판단할 수 있다.
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+        "local current = redis.call('HGET', KEYS[1], 'id') "
+            + "local id = ARGV[2] "
+            + "if not current or #id > #current or (#id == #current and id > current) then "
+            + "  redis.call('HSET', KEYS[1], 'id', id, 'json', ARGV[3]) "
+            + "  redis.call('EXPIRE', KEYS[1], ARGV[4]) "
+            + "end "
+            + "local touched = 0 "
+            + "for i = 2, #KEYS, 3 do "
+            + "  if redis.call('EXISTS', KEYS[i]) == 1 then "
+            + "    redis.call('ZADD', KEYS[i], 'GT', ARGV[1], ARGV[5]) "
+            + "    touched = touched + 1 "
+            + "  elseif redis.call('EXISTS', KEYS[i + 1]) == 1 then "
+            + "    redis.call('ZADD', KEYS[i + 2], 'GT', ARGV[1], ARGV[5]) "
+            + "    redis.call('PEXPIRE', KEYS[i + 2], redis.call('PTTL', KEYS[i + 1])) "
+            + "  end "
+            + "end "
+            + "return touched", Long.class);
+
+    // 재적재 중이면 퇴장을 로그에 음수 score 로 남긴다. 이후 다시 참여해 전송되면 GT 로 덮인다.
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>(
+        "local removed = redis.call('ZREM', KEYS[1], ARGV[1]) "
+            + "if redis.call('EXISTS', KEYS[2]) == 1 then "
+            + "  redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1]) "
+            + "  redis.call('PEXPIRE', KEYS[3], redis.call('PTTL', KEYS[2])) "
+            + "end "
+            + "return removed", Long.class);
+
+    // 다른 재적재가 먼저 적재했다면 그 뒤의 변경이 이미 반영되어 있으므로 덮어쓰지 않는다.
+    // MySQL 에서 읽은 목록을 넣은 뒤 재적재 로그의 전송은 GT 로 올리고 퇴장은 지운다.
+    private static final RedisScript<Long> INSTALL_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then "
+            + "  return 0 "
+            + "end "
+            + "for i = 2, #ARGV, 2 do "
+            + "  redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) "
+            + "end "
+            + "local log = redis.call('ZRANGE', KEYS[3], 0, -1, 'WITHSCORES') "
+            + "for i = 1, #log, 2 do "
+            + "  if tonumber(log[i + 1]) < 0 then "
+            + "    redis.call('ZREM', KEYS[1], log[i]) "
+            + "  else "
+            + "    redis.call('ZADD', KEYS[1], 'GT', log[i + 1], log[i]) "
+            + "  end "
+            + "end "
+            + "redis.call('DEL', KEYS[2], KEYS[3]) "
+            + "if redis.call('EXISTS', KEYS[1]) == 1 then "
+            + "  redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+            + "end "
+            + "return 1", Long.class);
+
+    // 저장된 chatId 보다 클 때만 쓴다. 같은 chatId 인데 json 이 지워졌다면 읽을 때의 ver 가 그대로일 때만 다시 채운다.
+    // KEYS: 요약들 / ARGV: ttlSeconds, 요약마다 chatId, json, 읽을 때의 ver
+    private static final RedisScript<Long> WRITE_SUMMARY_SCRIPT = new DefaultRedisScript<>(
+        "local written = 0 "
+            + "for i = 1, #KEYS do "
+            + "  local id = ARGV[i * 3 - 1] "
+            + "  local current = redis.call('HGET', KEYS[i], 'id') "
+            + "  local write = current and (#id > #current or (#id == #current and id > current)) "
+            + "  if not write and (not current or current == id) "
+            + "    and redis.call('HEXISTS', KEYS[i], 'json') == 0 then "
+            + "    write = (redis.call('HGET', KEYS[i], 'ver') or '0') == ARGV[i * 3 + 1] "
+            + "  end "
+            + "  if write then "
+            + "    redis.call('HSET', KEYS[i], 'id', id, 'json', ARGV[i * 3]) "
+            + "    redis.call('EXPIRE', KEYS[i], ARGV[1]) "
+            + "    written = written + 1 "
+            + "  end "
+            + "end "
+            + "return written", Long.class);
+
+    // 요약이 없어도 ver 를 남겨, 지우기 전에 읽은 요약이 다시 적재되지 않게 한다.
+    // KEYS: 요약 / ARGV: ttlSeconds
+    private static final RedisScript<Long> EVICT_SUMMARY_SCRIPT = new DefaultRedisScript<>(
+        "local existed = redis.call('EXISTS', KEYS[1]) "
+            + "redis.call('HDEL', KEYS[1], 'json') "
+            + "redis.call('HINCRBY', KEYS[1], 'ver', 1) "
+            + "if existed == 0 then "
+            + "  redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+            + "end "
+            + "return 1", Long.class);
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomUserRepository chatRoomUserRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PrimaryReader primaryReader;
+
+    @Value("${chat.inbox.ttl-hours:24}")
+    private long inboxTtlHours;
+
+    @Value("${chat.inbox.summary-ttl-minutes:60}")
+    private long summaryTtlMinutes;
+
+    @Value("${chat.inbox.rebuild-timeout-ms:30000}")
+    private long rebuildTimeoutMillis;
+
+    /**
+     * cursorChatId 보다 이전에 활동한 채팅방을 최근 순으로 limitSize 개 반환한다.
+     */
+    public RestSlice<ChatRoomAndLastChatGetRes> getChatRooms(Long userId, Long cursorChatId,
+        int limitSize) {
+        try {
+            List<Long> chatRoomIds = readInbox(userId, cursorChatId, limitSize);
+            if (chatRoomIds.isEmpty() && !Boolean.TRUE.equals(
+                stringRedisTemplate.hasKey(INBOX_KEY_PREFIX + userId))) {
+                rebuild(userId);
+                chatRoomIds = readInbox(userId, cursorChatId, limitSize);
+            }
+            return toSlice(hydrate(chatRoomIds), cursorChatId, limitSize);
+        } catch (Exception e) {
+            log.warn("failed to read inbox of member {}: {}", userId, e.getMessage());
+            return chatRoomUserRepository.findChatRoomsAndLastChatByUserId(userId, cursorChatId,
+                limitSize);
+        }
+    }
+
+    // 메세지 전송 시 방 요약을 갱신하고 참여자들의 inbox 에서 방을 맨 앞으로 올린다.
+    public void touch(ChatRoomAndLastChatGetRes summary, long[] memberIds) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(summary);
+        } catch (JsonProcessingException e) {
+            log.warn("failed to serialize summary of chat room {}: {}", summary.getChatRoomId(),
+                e.getMessage());
+            evictSummary(summary.getChatRoomId());
+            return;
+        }
+        List<String> keys = new ArrayList<>(memberIds.length * 3 + 1);
+        keys.add(SUMMARY_KEY_PREFIX + summary.getChatRoomId());
+        for (long memberId : memberIds) {
+            keys.addAll(inboxKeys(memberId));
+        }
+        String score = String.valueOf(SnowflakeIdGenerator.timestampOf(summary.getChatId()));
+        String ttlSeconds = summaryTtlSeconds();
+
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(TOUCH_SCRIPT, keys, score,
+                    String.valueOf(summary.getChatId()), json, ttlSeconds,
+                    String.valueOf(summary.getChatRoomId()));
+            } catch (Exception e) {
+                log.warn("failed to touch inboxes of chat room {}: {}", summary.getChatRoomId(),
+                    e.getMessage());
+            }
+        });
+    }
+
+    // 이미 메세지가 있는 방에 참여한 경우에만 inbox 에 넣는다. 빈 방은 첫 메세지 때 들어간다.
+    public void join(ChatRoom chatRoom, List<Long> userIds) {
+        if (chatRoom.getLastChatId() == null) {
+            return;
+        }
+        touch(ChatRoomAndLastChatGetRes.to(chatRoom),
+            userIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    public void leave(Long userId, Long chatRoomId) {
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(LEAVE_SCRIPT, inboxKeys(userId),
+                    String.valueOf(chatRoomId), LEFT_SCORE);
+            } catch (Exception e) {
+                log.warn("failed to remove chat room {} from inbox of member {}: {}", chatRoomId,
+                    userId, e.getMessage());
+            }
+        });
+    }
+
+    // 제목 변경, 마지막 메세지 삭제처럼 순서와 무관한 변경은 요약만 지워 다음 조회 때 다시 읽게 한다.
+    public void evictSummary(Long chatRoomId) {
+        runAfterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(EVICT_SUMMARY_SCRIPT,
+                    List.of(SUMMARY_KEY_PREFIX + chatRoomId), summaryTtlSeconds());
+            } catch (Exception e) {
+                log.warn("failed to evict summary of chat room {}: {}", chatRoomId,
+                    e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * MySQL 에서 사용자의 채팅방 전체를 읽어 inbox 와 방 요약을 다시 적재한다.
+     * <p>
+     * 읽기 전에 재적재 표시를 남겨, 읽는 동안의 전송/퇴장이 재적재 로그에 모였다가 적재할 때 함께 반영되게 한다.
+     */
+    public void rebuild(Long userId) {
+        List<String> keys = inboxKeys(userId);
+        stringRedisTemplate.opsForValue()
+            .set(keys.get(1), "1", Duration.ofMillis(rebuildTimeoutMillis));
+
+        List<ChatRoomAndLastChatGetRes> chatRooms = primaryReader.read(
+            () -> chatRoomUserRepository.findAllChatRoomsAndLastChatByUserId(userId));
+        List<String> args = new ArrayList<>(chatRooms.size() * 2 + 1);
+        args.add(String.valueOf(Duration.ofHours(inboxTtlHours).toSeconds()));
+        for (ChatRoomAndLastChatGetRes chatRoom : chatRooms) {
+            if (chatRoom.getChatId() == null) {
+                continue;
+            }
+            args.add(String.valueOf(SnowflakeIdGenerator.timestampOf(chatRoom.getChatId())));
+            args.add(String.valueOf(chatRoom.getChatRoomId()));
+        }
+        stringRedisTemplate.execute(INSTALL_SCRIPT, keys, args.toArray());
+
+        Map<Long, String> versions = new HashMap<>(chatRooms.size());
+        for (ChatRoomAndLastChatGetRes chatRoom : chatRooms) {
+            versions.put(chatRoom.getChatRoomId(), NO_SUMMARY_VERSION);
+        }
+        writeSummaries(chatRooms, versions);
+    }
+
+    // inbox, 재적재 표시, 재적재 로그 순
+    private List<String> inboxKeys(long userId) {
+        String inboxKey = INBOX_KEY_PREFIX + userId;
+        return List.of(inboxKey, inboxKey + REBUILDING_KEY_SUFFIX,
+            inboxKey + REBUILD_LOG_KEY_SUFFIX);
+    }
+
+    // 같은 ms 에 활동한 방이 cursor 경계에 걸칠 수 있으므로 cursor 시각을 포함해 넉넉히 읽고 뒤에서 거른다.
+    private List<Long> readInbox(Long userId, Long cursorChatId, int limitSize) {
+        double max = cursorChatId == null
+            ? Double.POSITIVE_INFINITY
+            : SnowflakeIdGenerator.timestampOf(cursorChatId);
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRangeByScore(
+            INBOX_KEY_PREFIX + userId, Double.NEGATIVE_INFINITY, max, 0, limitSize * 2L + 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    // 방 요약은 pipeline 으로 한 번에 읽고, 없는 방만 MySQL 에서 모아 읽어 다시 적재한다.
+    // 요약을 읽을 때의 ver 를 함께 읽어, MySQL 을 읽는 동안 지워졌다면 적재하지 않는다.
+    @SuppressWarnings("unchecked")
+    private List<ChatRoomAndLastChatGetRes> hydrate(List<Long> chatRoomIds)
+        throws JsonProcessingException {
+        if (chatRoomIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Object> values = stringRedisTemplate.executePipelined(
+            (RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long chatRoomId : chatRoomIds) {
+                    stringConnection.hMGet(SUMMARY_KEY_PREFIX + chatRoomId, SUMMARY_JSON_FIELD,
+                        SUMMARY_VERSION_FIELD);
+                }
+                return null;
+            });
+
+        List<ChatRoomAndLastChatGetRes> chatRooms = new ArrayList<>(chatRoomIds.size());
+        Map<Long, String> missingVersions = new HashMap<>();
+        for (int i = 0; i < chatRoomIds.size(); i++) {
+            List<String> fields = (List<String>) values.get(i);
+            String json = fields == null ? null : fields.get(0);
+            if (json == null) {
+                String version = fields == null ? null : fields.get(1);
+                missingVersions.put(chatRoomIds.get(i),
+                    version == null ? NO_SUMMARY_VERSION : version);
+                continue;
+            }
+            chatRooms.add(objectMapper.readValue(json, ChatRoomAndLastChatGetRes.class));
+        }
+
+        if (!missingVersions.isEmpty()) {
+            Set<Long> missingIds = missingVersions.keySet();
+            List<ChatRoomAndLastChatGetRes> loaded = primaryReader.read(
+                () -> chatRoomRepository.findAllByIdIn(missingIds)).stream()
+                .map(ChatRoomAndLastChatGetRes::to)
+                .toList();
+            writeSummaries(loaded, missingVersions);
+            chatRooms.addAll(loaded);
+        }
+        return chatRooms;
+    }
+
+    private RestSlice<ChatRoomAndLastChatGetRes> toSlice(List<ChatRoomAndLastChatGetRes> chatRooms,
+        Long cursorChatId, int limitSize) {
+        List<ChatRoomAndLastChatGetRes> page = chatRooms.stream()
+            .filter(chatRoom -> chatRoom.getChatId() != null)
+            .filter(chatRoom -> cursorChatId == null || chatRoom.getChatId() < cursorChatId)
+            .sorted(Comparator.comparing(ChatRoomAndLastChatGetRes::getChatId).reversed())
+            .limit(limitSize + 1L)
+            .collect(Collectors.toCollection(ArrayList::new));
+        boolean hasNext = page.size() > limitSize;
+        if (hasNext) {
+            page.remove(limitSize);
+        }
+        return new RestSlice<>(page, 0, limitSize, hasNext);
+    }
+
+    // versions 는 방마다 요약을 읽을 때의 ver 이다.
+    private void writeSummaries(List<ChatRoomAndLastChatGetRes> chatRooms,
+        Map<Long, String> versions) {
+        List<String> keys = new ArrayList<>(chatRooms.size());
+        List<String> args = new ArrayList<>(chatRooms.size() * 3 + 1);
+        args.add(summaryTtlSeconds());
+        for (ChatRoomAndLastChatGetRes chatRoom : chatRooms) {
+            if (chatRoom.getChatId() == null) {
+                continue;
+            }
+            try {
+                String json = objectMapper.writeValueAsString(chatRoom);
+                keys.add(SUMMARY_KEY_PREFIX + chatRoom.getChatRoomId());
+                args.add(String.valueOf(chatRoom.getChatId()));
+                args.add(json);
+                args.add(versions.get(chatRoom.getChatRoomId()));
+            } catch (JsonProcessingException e) {
+                log.warn("failed to serialize summary of chat room {}: {}",
+                    chatRoom.getChatRoomId(), e.getMessage());
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.execute(WRITE_SUMMARY_SCRIPT, keys, args.toArray());
+    }
+
+    private String summaryTtlSeconds() {
+        return String.valueOf(Duration.ofMinutes(summaryTtlMinutes).toSeconds());
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        task.run();
+                    }
+                });
+            return;
+        }
+        task.run();
+    }
+}
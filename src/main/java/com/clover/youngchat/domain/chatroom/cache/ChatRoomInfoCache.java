@@ -0,0 +1,31 @@
+package com.clover.youngchat.domain.chatroom.cache;
+
+import static com.clover.youngchat.global.cache.CacheNames.CHAT_ROOM;
+import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_CHATROOM;
+
+import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomInfoRes;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
+import com.clover.youngchat.global.datasource.PrimaryReader;
+import com.clover.youngchat.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메세지 전송/채팅방 조회마다 읽는 채팅방 정보(제목). 제목을 바꾸면 chatRoom 캐시에서 지운다.
+ * 지운 직후 replica 의 이전 제목으로 다시 채우지 않도록 primary 에서 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomInfoCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final PrimaryReader primaryReader;
+
+    @Cacheable(cacheNames = CHAT_ROOM, key = "#chatRoomId")
+    public ChatRoomInfoRes get(Long chatRoomId) {
+        return primaryReader.read(() -> chatRoomRepository.findById(chatRoomId)
+                .map(ChatRoomInfoRes::to))
+            .orElseThrow(() -> new GlobalException(NOT_FOUND_CHATROOM));
+    }
+}
@@ -0,0 +1,267 @@
+package com.clover.youngchat.domain.chatroom.cache;
+
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
+import com.clover.youngchat.global.datasource.PrimaryReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅방 참여자 인덱스. 로컬(Caffeine) -> Redis set -> DB 순서로 조회한다.
+ * <p>
+ * 입장/퇴장은 {@link #addMembers(Long, List)} / {@link #removeMember(Long, Long)} 로 커밋 후에
+ * 이미 적재된 값에만 반영하고, 그 밖의 변경은 {@link #evict(Long)} 로 무효화한다.
+ * 다른 노드의 로컬 캐시는 local-ttl 이 지나야 갱신되므로 local-ttl 은 짧게 유지한다.
+ * <p>
+ * 입장/퇴장/무효화는 모두 chatroom:members:{chatRoomId}:version 을 올린다. DB 에서 다시 읽은 목록은 읽기 전의
+ * version 이 그대로일 때만 설치하므로, 재적재 중에 나간 사용자가 Redis set 에 다시 들어가지 않는다.
+ */
+@Slf4j(topic = "chatroom member cache")
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMemberCache {
+
+    private static final String KEY_PREFIX = "chatroom:members:";
+    private static final String VERSION_SUFFIX = ":version";
+
+    // KEYS: set, version / ARGV: versionTtlMillis, userIds...
+    // set 이 없을 때 일부 참여자만 든 set 이 생기지 않도록 이미 있는 경우에만 추가한다.
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then "
+            + "  redis.call('SADD', KEYS[1], unpack(ARGV, 2)) "
+            + "end "
+            + "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+            + "return 1", Long.class);
+
+    // KEYS: set, version / ARGV: versionTtlMillis, userId
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('SREM', KEYS[1], ARGV[2]) "
+            + "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+            + "return 1", Long.class);
+
+    // KEYS: set, version / ARGV: versionTtlMillis
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('DEL', KEYS[1]) "
+            + "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+            + "return 1", Long.class);
+
+    // KEYS: set, version / ARGV: expectedVersion, ttlMillis, userIds...
+    private static final RedisScript<Long> INSTALL_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then "
+            + "  return 0 "
+            + "end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "redis.call('SADD', KEYS[1], unpack(ARGV, 3)) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+            + "return 1", Long.class);
+
+    private final ChatRoomUserRepository chatRoomUserRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PrimaryReader primaryReader;
+
+    @Value("${chatroom.member-cache.local-ttl-seconds:5}")
+    private long localTtlSeconds;
+
+    @Value("${chatroom.member-cache.local-max-size:100000}")
+    private long localMaxSize;
+
+    @Value("${chatroom.member-cache.redis-ttl-minutes:30}")
+    private long redisTtlMinutes;
+
+    private Cache<Long, ChatRoomMembers> localCache;
+    // 이 노드에서 반영한 입장/퇴장/무효화 횟수. 읽는 동안 바뀌었으면 읽은 값을 로컬에 남기지 않는다.
+    private final AtomicLong localChanges = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .maximumSize(localMaxSize)
+            .build();
+    }
+
+    public ChatRoomMembers get(Long chatRoomId) {
+        ChatRoomMembers members = localCache.getIfPresent(chatRoomId);
+        if (members != null) {
+            return members;
+        }
+        long changes = localChanges.get();
+        members = loadFromRedis(chatRoomId);
+        if (members == null) {
+            members = loadFromDatabase(chatRoomId);
+        }
+        // 참여자가 없는 방은 캐시하지 않는다. (생성 직후 커밋 전 조회 등)
+        if (!members.isEmpty()) {
+            localCache.put(chatRoomId, members);
+            // 변경은 횟수를 올린 뒤 로컬에 반영하므로, 넣은 뒤에 확인하면 놓친 변경이 남지 않는다.
+            if (localChanges.get() != changes) {
+                localCache.invalidate(chatRoomId);
+            }
+        }
+        return members;
+    }
+
+    public boolean isMember(Long chatRoomId, Long userId) {
+        return get(chatRoomId).contains(userId);
+    }
+
+    public void addMembers(Long chatRoomId, List<Long> userIds) {
+        runAfterCommit(() -> {
+            localChanges.incrementAndGet();
+            localCache.asMap().computeIfPresent(chatRoomId,
+                (id, members) -> members.with(userIds));
+            try {
+                Object[] args = new Object[userIds.size() + 1];
+                args[0] = String.valueOf(ttlMillis());
+                for (int i = 0; i < userIds.size(); i++) {
+                    args[i + 1] = String.valueOf(userIds.get(i));
+                }
+                stringRedisTemplate.execute(ADD_SCRIPT, keys(chatRoomId), args);
+            } catch (Exception e) {
+                log.warn("failed to add members of chat room {} to redis: {}", chatRoomId,
+                    e.getMessage());
+                evictNow(chatRoomId);
+            }
+        });
+    }
+
+    public void removeMember(Long chatRoomId, Long userId) {
+        runAfterCommit(() -> {
+            localChanges.incrementAndGet();
+            localCache.asMap().computeIfPresent(chatRoomId,
+                (id, members) -> members.without(userId));
+            try {
+                stringRedisTemplate.execute(REMOVE_SCRIPT, keys(chatRoomId),
+                    String.valueOf(ttlMillis()), String.valueOf(userId));
+            } catch (Exception e) {
+                log.warn("failed to remove member of chat room {} from redis: {}", chatRoomId,
+                    e.getMessage());
+                evictNow(chatRoomId);
+            }
+        });
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 지워, 커밋 전에 다시 적재된 값을 남기지 않는다.
+    public void evict(Long chatRoomId) {
+        evictNow(chatRoomId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictNow(chatRoomId);
+                    }
+                });
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        task.run();
+                    }
+                });
+            return;
+        }
+        task.run();
+    }
+
+    private void evictNow(Long chatRoomId) {
+        localChanges.incrementAndGet();
+        localCache.invalidate(chatRoomId);
+        try {
+            stringRedisTemplate.execute(EVICT_SCRIPT, keys(chatRoomId),
+                String.valueOf(ttlMillis()));
+        } catch (Exception e) {
+            log.warn("failed to evict members of chat room {} from redis: {}", chatRoomId,
+                e.getMessage());
+        }
+    }
+
+    private ChatRoomMembers loadFromRedis(Long chatRoomId) {
+        try {
+            Set<String> memberIds = stringRedisTemplate.opsForSet().members(KEY_PREFIX + chatRoomId);
+            if (memberIds == null || memberIds.isEmpty()) {
+                return null;
+            }
+            return ChatRoomMembers.parse(memberIds);
+        } catch (Exception e) {
+            log.warn("failed to read members of chat room {} from redis: {}", chatRoomId,
+                e.getMessage());
+            return null;
+        }
+    }
+
+    private ChatRoomMembers loadFromDatabase(Long chatRoomId) {
+        // DB 를 읽기 전에 version 을 읽어야 그 사이의 입장/퇴장을 알아챌 수 있다.
+        String version = readVersion(chatRoomId);
+        // 입장 직후 replica 지연으로 참여자가 빠진 목록을 캐시하지 않도록 primary 에서 읽는다.
+        List<Long> memberIds = primaryReader.read(
+            () -> chatRoomUserRepository.findUserIdsByChatRoomId(chatRoomId));
+        ChatRoomMembers members = ChatRoomMembers.of(memberIds);
+        if (version != null && !members.isEmpty()) {
+            writeToRedis(chatRoomId, memberIds, version);
+        }
+        return members;
+    }
+
+    // version 을 읽지 못하면 null 을 반환해 이번 결과를 Redis 에 캐시하지 않는다.
+    private String readVersion(Long chatRoomId) {
+        try {
+            String version = stringRedisTemplate.opsForValue()
+                .get(KEY_PREFIX + chatRoomId + VERSION_SUFFIX);
+            return version == null ? "" : version;
+        } catch (Exception e) {
+            log.warn("failed to read member version of chat room {}: {}", chatRoomId,
+                e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(Long chatRoomId, List<Long> memberIds, String version) {
+        try {
+            Object[] args = new Object[memberIds.size() + 2];
+            args[0] = version;
+            args[1] = String.valueOf(ttlMillis());
+            for (int i = 0; i < memberIds.size(); i++) {
+                args[i + 2] = String.valueOf(memberIds.get(i));
+            }
+            Long installed = stringRedisTemplate.execute(INSTALL_SCRIPT, keys(chatRoomId), args);
+            if (installed == null || installed == 0) {
+                log.debug("members of chat room {} changed while loading, not cached",
+                    chatRoomId);
+            }
+        } catch (Exception e) {
+            log.warn("failed to write members of chat room {} to redis: {}", chatRoomId,
+                e.getMessage());
+        }
+    }
+
+    private List<String> keys(Long chatRoomId) {
+        String key = KEY_PREFIX + chatRoomId;
+        return List.of(key, key + VERSION_SUFFIX);
+    }
+
+    private long ttlMillis() {
+        return Duration.ofMinutes(redisTtlMinutes).toMillis();
+    }
+}
@@ -0,0 +1,147 @@
+package com.clover.youngchat.domain.chatroom.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongConsumer;
+
+/**
+ * 채팅방 참여자 id 의 불변 스냅샷. 정렬된 long 배열로 보관하여 박싱 없이 이진 탐색으로 조회하고 순회한다.
+ * <p>
+ * 사용자 id 는 Snowflake 라 값이 넓게 흩어져 있어 bitmap 컨테이너가 거의 원소 하나씩만 담게 되므로,
+ * 방 크기(수천 명 이하)에서는 배열이 더 작고 빠르다. (ChatRoomMembersBenchmark 참고)
+ * <p>
+ * 변경은 {@link #with(Collection)} / {@link #without(long)} 로 복사본을 만들어 교체하므로
+ * 이미 꺼내 간 스냅샷은 동시에 읽어도 안전하다.
+ */
+public final class ChatRoomMembers {
+
+    private static final ChatRoomMembers EMPTY = new ChatRoomMembers(new long[0]);
+
+    private final long[] memberIds;
+
+    private ChatRoomMembers(long[] memberIds) {
+        this.memberIds = memberIds;
+    }
+
+    public static ChatRoomMembers of(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] ids = new long[memberIds.size()];
+        int size = 0;
+        for (Long memberId : memberIds) {
+            ids[size++] = memberId;
+        }
+        return seal(ids, size);
+    }
+
+    // Redis set 의 문자열 id 를 Long 으로 박싱하지 않고 바로 읽는다.
+    static ChatRoomMembers parse(Collection<String> memberIds) {
+        if (memberIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] ids = new long[memberIds.size()];
+        int size = 0;
+        for (String memberId : memberIds) {
+            ids[size++] = Long.parseLong(memberId);
+        }
+        return seal(ids, size);
+    }
+
+    // 앞의 size 개를 정렬하고 중복을 제거해 감싼다.
+    private static ChatRoomMembers seal(long[] ids, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(ids, 0, size);
+        int unique = 1;
+        for (int i = 1; i < size; i++) {
+            if (ids[i] != ids[unique - 1]) {
+                ids[unique++] = ids[i];
+            }
+        }
+        return new ChatRoomMembers(unique == ids.length ? ids : Arrays.copyOf(ids, unique));
+    }
+
+    public ChatRoomMembers with(Collection<Long> userIds) {
+        long[] ids = Arrays.copyOf(memberIds, memberIds.length + userIds.size());
+        int size = memberIds.length;
+        for (Long userId : userIds) {
+            ids[size++] = userId;
+        }
+        return seal(ids, size);
+    }
+
+    public ChatRoomMembers without(long userId) {
+        int index = Arrays.binarySearch(memberIds, userId);
+        if (index < 0) {
+            return this;
+        }
+        if (memberIds.length == 1) {
+            return EMPTY;
+        }
+        long[] ids = new long[memberIds.length - 1];
+        System.arraycopy(memberIds, 0, ids, 0, index);
+        System.arraycopy(memberIds, index + 1, ids, index, ids.length - index);
+        return new ChatRoomMembers(ids);
+    }
+
+    public boolean contains(long userId) {
+        return Arrays.binarySearch(memberIds, userId) >= 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        for (long memberId : memberIds) {
+            action.accept(memberId);
+        }
+    }
+
+    // 본인을 제외한 참여자 (알림 fan-out 대상)
+    public long[] othersThan(long userId) {
+        int index = Arrays.binarySearch(memberIds, userId);
+        if (index < 0) {
+            return memberIds.clone();
+        }
+        long[] others = new long[memberIds.length - 1];
+        System.arraycopy(memberIds, 0, others, 0, index);
+        System.arraycopy(memberIds, index + 1, others, index, others.length - index);
+        return others;
+    }
+
+    // 접속 중인 사용자 등 다른 집합과의 교집합. 두 배열이 정렬되어 있으므로 한 번씩만 훑는다.
+    public ChatRoomMembers intersect(ChatRoomMembers other) {
+        long[] ids = new long[Math.min(memberIds.length, other.memberIds.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < memberIds.length && j < other.memberIds.length) {
+            long left = memberIds[i];
+            long right = other.memberIds[j];
+            if (left == right) {
+                ids[size++] = left;
+                i++;
+                j++;
+            } else if (left < right) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        return new ChatRoomMembers(size == ids.length ? ids : Arrays.copyOf(ids, size));
+    }
+
+    public long[] toArray() {
+        return memberIds.clone();
+    }
+
+    public int size() {
+        return memberIds.length;
+    }
+
+    public boolean isEmpty() {
+        return memberIds.length == 0;
+    }
+}
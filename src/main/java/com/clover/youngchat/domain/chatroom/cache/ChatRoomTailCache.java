@@ -0,0 +1,259 @@
+package com.clover.youngchat.domain.chatroom.cache;
+
+import com.clover.youngchat.domain.chat.dto.response.ChatRes;
+import com.clover.youngchat.domain.chat.repository.ChatRepository;
+import com.clover.youngchat.global.datasource.PrimaryReader;
+import com.clover.youngchat.global.id.SnowflakeIdGenerator;
+import com.clover.youngchat.global.response.RestSlice;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅방별 최근 메세지 N 개를 직렬화된 ChatRes 로 Redis ZSET chatroom:tail:{chatRoomId} 에 보관한다.
+ * <p>
+ * 전송은 커밋 순서대로 반영되므로 노드가 다르면 chatId 순서와 어긋난다. 그래서 list 가 아니라 chatId 순으로
+ * 정렬되는 ZSET 에 넣고 가장 오래된 것부터 잘라낸다. score 는 chatId 의 ms 시각(double 로 정확히 표현된다)이고,
+ * member 는 0 으로 채운 19 자리 chatId 뒤에 json 을 붙여 같은 ms 안에서도 사전순이 chatId 순이 되게 한다.
+ * <p>
+ * 첫 페이지(lastChatId 없는 조회)는 DB 대신 이 ZSET 에서 읽는다. ZSET 은 조회 시점에 DB 로부터 다시 만들고,
+ * 전송은 이미 있는 ZSET 에만 반영한다. 삭제는 ZSET 을 지운다.
+ * <p>
+ * ZSET 이 없어 전송을 반영하지 못했거나 ZSET 을 지울 때마다 chatroom:tail:{chatRoomId}:version 을
+ * 올린다. 재적재는 DB 를 읽기 전의 version 이 그대로일 때만 ZSET 을 설치하므로, 재적재 중에 놓친
+ * 메세지나 삭제가 있으면 이번 결과는 캐시하지 않고 다음 조회에서 다시 만든다.
+ */
+@Slf4j(topic = "chatroom tail cache")
+@Component
+@RequiredArgsConstructor
+public class ChatRoomTailCache {
+
+    private static final String KEY_PREFIX = "chatroom:tail:";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final int CHAT_ID_WIDTH = 19;
+
+    // KEYS: zset, version / ARGV: score, member, tailSize, versionTtlMillis, chatIdWidth
+    // 재적재가 이미 넣은 같은 chatId 의 member 는 json 이 달라도 지우고 넣는다.
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then "
+            + "  local width = tonumber(ARGV[5]) "
+            + "  local prefix = string.sub(ARGV[2], 1, width) "
+            + "  for _, m in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1])) do "
+            + "    if string.sub(m, 1, width) == prefix then "
+            + "      redis.call('ZREM', KEYS[1], m) "
+            + "    end "
+            + "  end "
+            + "  redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) "
+            + "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1) "
+            + "  return 1 "
+            + "end "
+            + "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[4]) "
+            + "return 0", Long.class);
+
+    // KEYS: zset, version / ARGV: versionTtlMillis
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('DEL', KEYS[1]) "
+            + "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+            + "return 1", Long.class);
+
+    // KEYS: zset, version / ARGV: expectedVersion, ttlMillis, (score, member)...
+    private static final RedisScript<Long> INSTALL_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then "
+            + "  return 0 "
+            + "end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "redis.call('ZADD', KEYS[1], unpack(ARGV, 3)) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+            + "return 1", Long.class);
+
+    private final ChatRepository chatRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PrimaryReader primaryReader;
+
+    @Value("${chat.tail-cache.size:50}")
+    private int tailSize;
+
+    @Value("${chat.tail-cache.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    /**
+     * 최신 limitSize 개의 메세지를 반환한다. ZSET 이 없으면 DB 에서 읽어 다시 적재한다.
+     */
+    public RestSlice<ChatRes> getFirstPage(Long chatRoomId, int limitSize) {
+        // 다음 페이지 여부를 알려면 ZSET 에 limitSize + 1 개 이상이 있어야 한다.
+        if (tailSize <= limitSize) {
+            return chatRepository.findChatsByChatRoomId(chatRoomId, null, limitSize);
+        }
+        List<ChatRes> chats = readFromRedis(chatRoomId, limitSize);
+        if (chats == null) {
+            return loadFromDatabase(chatRoomId, limitSize);
+        }
+        boolean hasNext = chats.size() > limitSize;
+        if (hasNext) {
+            chats.remove(limitSize);
+        }
+        return new RestSlice<>(chats, 0, limitSize, hasNext);
+    }
+
+    // ZSET 이 이미 있을 때만 넣는다. 트랜잭션 안이면 커밋 후에 반영한다.
+    public void append(Long chatRoomId, ChatRes chatRes) {
+        String value;
+        try {
+            value = toMember(chatRes);
+        } catch (JsonProcessingException e) {
+            log.warn("failed to serialize chat {} of chat room {}: {}", chatRes.getChatId(),
+                chatRoomId, e.getMessage());
+            evict(chatRoomId);
+            return;
+        }
+        String score = score(chatRes);
+        runAfterCommit(() -> appendNow(chatRoomId, score, value));
+    }
+
+    // 삭제나 발신자 정보 변경처럼 ZSET 안의 메세지가 바뀌면 ZSET 을 지운다. 트랜잭션 안이면 커밋 후에 지운다.
+    public void evict(Long chatRoomId) {
+        runAfterCommit(() -> evictNow(chatRoomId));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        task.run();
+                    }
+                });
+            return;
+        }
+        task.run();
+    }
+
+    private void appendNow(Long chatRoomId, String score, String value) {
+        try {
+            stringRedisTemplate.execute(APPEND_SCRIPT, keys(chatRoomId), score, value,
+                String.valueOf(tailSize), String.valueOf(ttlMillis()),
+                String.valueOf(CHAT_ID_WIDTH));
+        } catch (Exception e) {
+            log.warn("failed to append to tail of chat room {}: {}", chatRoomId, e.getMessage());
+            evictNow(chatRoomId);
+        }
+    }
+
+    private void evictNow(Long chatRoomId) {
+        try {
+            stringRedisTemplate.execute(EVICT_SCRIPT, keys(chatRoomId),
+                String.valueOf(ttlMillis()));
+        } catch (Exception e) {
+            log.warn("failed to evict tail of chat room {}: {}", chatRoomId, e.getMessage());
+        }
+    }
+
+    // 캐시가 없거나 읽을 수 없으면 null 을 반환해 DB 로 넘긴다.
+    private List<ChatRes> readFromRedis(Long chatRoomId, int limitSize) {
+        Set<String> values;
+        try {
+            values = stringRedisTemplate.opsForZSet()
+                .reverseRange(KEY_PREFIX + chatRoomId, 0, limitSize);
+        } catch (Exception e) {
+            log.warn("failed to read tail of chat room {}: {}", chatRoomId, e.getMessage());
+            return null;
+        }
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+
+        List<ChatRes> chats = new ArrayList<>(values.size());
+        try {
+            for (String value : values) {
+                chats.add(objectMapper.readValue(value.substring(CHAT_ID_WIDTH), ChatRes.class));
+            }
+        } catch (JsonProcessingException | IndexOutOfBoundsException e) {
+            log.warn("failed to deserialize tail of chat room {}: {}", chatRoomId, e.getMessage());
+            evictNow(chatRoomId);
+            return null;
+        }
+        return chats;
+    }
+
+    private RestSlice<ChatRes> loadFromDatabase(Long chatRoomId, int limitSize) {
+        // DB 를 읽기 전에 version 을 읽어야 그 사이에 놓친 전송을 알아챌 수 있다.
+        String version = readVersion(chatRoomId);
+        // replica 는 version 을 읽기 전에 커밋된 메세지도 아직 모를 수 있으므로 primary 에서 읽는다.
+        List<ChatRes> chats = primaryReader.read(
+            () -> chatRepository.findChatsByChatRoomId(chatRoomId, null, tailSize).getContent());
+        if (version != null && !chats.isEmpty()) {
+            writeToRedis(chatRoomId, chats, version);
+        }
+
+        boolean hasNext = chats.size() > limitSize;
+        List<ChatRes> page = new ArrayList<>(chats.subList(0, Math.min(limitSize, chats.size())));
+        return new RestSlice<>(page, 0, limitSize, hasNext);
+    }
+
+    // version 을 읽지 못하면 null 을 반환해 이번 결과를 캐시하지 않는다.
+    private String readVersion(Long chatRoomId) {
+        try {
+            String version = stringRedisTemplate.opsForValue()
+                .get(KEY_PREFIX + chatRoomId + VERSION_SUFFIX);
+            return version == null ? "" : version;
+        } catch (Exception e) {
+            log.warn("failed to read tail version of chat room {}: {}", chatRoomId,
+                e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(Long chatRoomId, List<ChatRes> chats, String version) {
+        try {
+            Object[] args = new Object[chats.size() * 2 + 2];
+            args[0] = version;
+            args[1] = String.valueOf(ttlMillis());
+            for (int i = 0; i < chats.size(); i++) {
+                args[i * 2 + 2] = score(chats.get(i));
+                args[i * 2 + 3] = toMember(chats.get(i));
+            }
+            Long installed = stringRedisTemplate.execute(INSTALL_SCRIPT, keys(chatRoomId), args);
+            if (installed == null || installed == 0) {
+                log.debug("tail of chat room {} changed while rebuilding, not cached",
+                    chatRoomId);
+            }
+        } catch (Exception e) {
+            log.warn("failed to write tail of chat room {} to redis: {}", chatRoomId,
+                e.getMessage());
+        }
+    }
+
+    private String score(ChatRes chatRes) {
+        return String.valueOf(SnowflakeIdGenerator.timestampOf(chatRes.getChatId()));
+    }
+
+    private String toMember(ChatRes chatRes) throws JsonProcessingException {
+        return String.format("%0" + CHAT_ID_WIDTH + "d", chatRes.getChatId())
+            + objectMapper.writeValueAsString(chatRes);
+    }
+
+    private List<String> keys(Long chatRoomId) {
+        String key = KEY_PREFIX + chatRoomId;
+        return List.of(key, key + VERSION_SUFFIX);
+    }
+
+    private long ttlMillis() {
+        return Duration.ofMinutes(ttlMinutes).toMillis();
+    }
+}
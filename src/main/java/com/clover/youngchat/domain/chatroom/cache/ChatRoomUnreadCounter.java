@@ -0,0 +1,71 @@
+package com.clover.youngchat.domain.chatroom.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅방별 안 읽은 메세지 수. 사용자마다 Redis hash unread:{userId} 에 chatRoomId -> count 로 보관한다.
+ */
+@Slf4j(topic = "chatroom unread counter")
+@Component
+@RequiredArgsConstructor
+public class ChatRoomUnreadCounter {
+
+    private static final String KEY_PREFIX = "unread:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 메세지 fan-out 대상 전원의 카운터를 한 번의 pipeline 으로 올린다. 트랜잭션 안이면 커밋 후에 반영한다.
+    public void increment(Long chatRoomId, long[] userIds) {
+        if (userIds.length == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        incrementNow(chatRoomId, userIds);
+                    }
+                });
+            return;
+        }
+        incrementNow(chatRoomId, userIds);
+    }
+
+    public void reset(Long userId, Long chatRoomId) {
+        stringRedisTemplate.opsForHash().delete(KEY_PREFIX + userId, String.valueOf(chatRoomId));
+    }
+
+    public Map<Long, Long> getUnreadCounts(Long userId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(KEY_PREFIX + userId);
+        Map<Long, Long> counts = new HashMap<>(entries.size());
+        entries.forEach((chatRoomId, count) ->
+            counts.put(Long.valueOf((String) chatRoomId), Long.valueOf((String) count)));
+        return counts;
+    }
+
+    private void incrementNow(Long chatRoomId, long[] userIds) {
+        byte[] field = String.valueOf(chatRoomId).getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (long userId : userIds) {
+                    connection.hashCommands().hIncrBy(
+                        (KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8), field, 1);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("failed to increment unread counters of chat room {}: {}", chatRoomId,
+                e.getMessage());
+        }
+    }
+}
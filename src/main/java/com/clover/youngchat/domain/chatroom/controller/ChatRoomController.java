@@ -59,16 +59,16 @@ public class ChatRoomController {
         @AuthenticationPrincipal UserDetailsImpl userDetails,
         @RequestParam(required = false) Long cursorChatId) {
         return RestResponse.success(
-            chatRoomQueryService.getChatRoomList(userDetails.getUser(), cursorChatId));
+            chatRoomQueryService.getChatRoomList(userDetails.getUserId(), cursorChatId));
     }
 
     @GetMapping("/{chatRoomId}")
     public RestResponse<ChatRoomDetailGetRes> getDetailChatRoom(@PathVariable Long chatRoomId,
         @AuthenticationPrincipal UserDetailsImpl
             userDetails) {
-        log.info("user: {}님이 채팅방 {} 에 들어갔습니다.", userDetails.getUser().getId(), chatRoomId);
+        log.info("user: {}님이 채팅방 {} 에 들어갔습니다.", userDetails.getUserId(), chatRoomId);
         return RestResponse.success(
-            chatRoomQueryService.getDetailChatRoom(chatRoomId, userDetails.getUser()));
+            chatRoomQueryService.getDetailChatRoom(chatRoomId, userDetails.getUserId()));
     }
 
     @GetMapping("/slice/{chatRoomId}")
@@ -79,7 +79,7 @@ public class ChatRoomController {
 
         return RestResponse.success(
             chatRoomQueryService.getPaginationDetailChatRoom(chatRoomId, lastChatId,
-                userDetails.getUser())
+                userDetails.getUserId())
         );
     }
 
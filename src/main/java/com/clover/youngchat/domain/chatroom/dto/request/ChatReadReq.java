@@ -0,0 +1,20 @@
+package com.clover.youngchat.domain.chatroom.dto.request;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatReadReq {
+
+    private Long userId;
+    private Long lastReadChatId;
+
+    @Builder
+    private ChatReadReq(Long userId, Long lastReadChatId) {
+        this.userId = userId;
+        this.lastReadChatId = lastReadChatId;
+    }
+}
@@ -18,6 +18,7 @@ public class ChatRoomAndLastChatGetRes {
     private String lastChat;
     private LocalDateTime lastChatTime;
     private boolean lastChatDeleted;
+    private long unreadCount;
 
     @Builder
     public ChatRoomAndLastChatGetRes(Long chatRoomId, String title, Long chatId, String lastChat,
@@ -40,4 +41,19 @@ public class ChatRoomAndLastChatGetRes {
             .lastChatTime(chat.getCreatedAt())
             .build();
     }
+
+    public static ChatRoomAndLastChatGetRes to(ChatRoom chatRoom) {
+        return ChatRoomAndLastChatGetRes.builder()
+            .chatRoomId(chatRoom.getId())
+            .title(chatRoom.getTitle())
+            .chatId(chatRoom.getLastChatId())
+            .lastChatDeleted(chatRoom.isLastChatDeleted())
+            .lastChat(chatRoom.getLastChatPreview())
+            .lastChatTime(chatRoom.getLastChatAt())
+            .build();
+    }
+
+    public void updateUnreadCount(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
 }
@@ -0,0 +1,28 @@
+package com.clover.youngchat.domain.chatroom.dto.response;
+
+import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatRoomInfoRes {
+
+    private Long chatRoomId;
+    private String title;
+
+    @Builder
+    private ChatRoomInfoRes(Long chatRoomId, String title) {
+        this.chatRoomId = chatRoomId;
+        this.title = title;
+    }
+
+    public static ChatRoomInfoRes to(ChatRoom chatRoom) {
+        return ChatRoomInfoRes.builder()
+            .chatRoomId(chatRoom.getId())
+            .title(chatRoom.getTitle())
+            .build();
+    }
+}
@@ -2,12 +2,12 @@ package com.clover.youngchat.domain.chatroom.entity;
 
 import com.clover.youngchat.domain.chatroom.dto.request.ChatRoomEditReq;
 import com.clover.youngchat.domain.model.BaseEntity;
+import com.clover.youngchat.global.id.SnowflakeId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,12 +20,19 @@ import lombok.NoArgsConstructor;
 public class ChatRoom extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
     private String title;
 
+    // 채팅방 목록이 chat 테이블을 보지 않도록 마지막 메세지를 함께 저장한다.
+    // 메세지 전송/삭제 시 ChatRoomRepository 의 bulk UPDATE 로 갱신한다.
+    private Long lastChatId;
+    private String lastChatPreview;
+    private LocalDateTime lastChatAt;
+    private boolean lastChatDeleted = false;
+
     @Builder
     private ChatRoom(String title) {
         this.title = title;
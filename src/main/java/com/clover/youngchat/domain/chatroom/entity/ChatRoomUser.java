@@ -34,6 +34,9 @@ public class ChatRoomUser {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private ChatRoom chatRoom;
 
+    // ChatRoomReadPositionBuffer 가 주기적으로 갱신한다.
+    private Long lastReadChatId;
+
     @Builder
     private ChatRoomUser(User user, ChatRoom chatRoom) {
         this.user = user;
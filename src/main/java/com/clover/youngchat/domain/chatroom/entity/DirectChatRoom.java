@@ -0,0 +1,36 @@
+package com.clover.youngchat.domain.chatroom.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 1:1 채팅방 인덱스. (작은 userId, 큰 userId) 가 기본키이므로 두 사용자 사이의 1:1 채팅방은 하나뿐이다.
+ * <p>
+ * 행은 DirectChatRoomJdbcRepository 가 먼저 선점(INSERT IGNORE)한 뒤 채팅방을 만들어 chatroom_id 를 채운다.
+ * 같은 트랜잭션에서 아직 flush 되지 않은 채팅방을 가리킬 수 있도록 FK 는 두지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "direct_chatroom", indexes = @Index(columnList = "chatroom_id"))
+@IdClass(DirectChatRoomPK.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DirectChatRoom {
+
+    @Id
+    @Column(name = "low_user_id")
+    private Long lowUserId;
+
+    @Id
+    @Column(name = "high_user_id")
+    private Long highUserId;
+
+    @Column(name = "chatroom_id")
+    private Long chatRoomId;
+}
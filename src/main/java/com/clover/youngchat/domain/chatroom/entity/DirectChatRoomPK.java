@@ -0,0 +1,24 @@
+package com.clover.youngchat.domain.chatroom.entity;
+
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DirectChatRoomPK implements Serializable {
+
+    private Long lowUserId;
+    private Long highUserId;
+
+    // 두 사용자의 순서와 관계없이 같은 키가 되도록 작은 id 를 앞에 둔다.
+    public static DirectChatRoomPK of(Long userId, Long otherUserId) {
+        return new DirectChatRoomPK(Math.min(userId, otherUserId),
+            Math.max(userId, otherUserId));
+    }
+}
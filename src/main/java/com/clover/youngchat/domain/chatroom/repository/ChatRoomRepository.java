@@ -1,7 +1,12 @@
 package com.clover.youngchat.domain.chatroom.repository;
 
 import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.RepositoryDefinition;
 
 @RepositoryDefinition(domainClass = ChatRoom.class, idClass = Long.class)
@@ -9,7 +14,25 @@ public interface ChatRoomRepository {
 
     ChatRoom save(ChatRoom chatRoom);
 
+    ChatRoom saveAndFlush(ChatRoom chatRoom);
+
     Optional<ChatRoom> findById(Long id);
 
+    ChatRoom getReferenceById(Long id);
+
     boolean existsById(Long id);
+
+    List<ChatRoom> findAllByIdIn(Collection<Long> ids);
+
+    // 순서가 뒤바뀌어 도착해도 더 최신 메세지를 덮어쓰지 않도록 id 가 더 클 때만 갱신한다.
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastChatId = :chatId, r.lastChatPreview = :preview, "
+        + "r.lastChatAt = :chatAt, r.lastChatDeleted = false "
+        + "WHERE r.id = :chatRoomId AND (r.lastChatId IS NULL OR r.lastChatId < :chatId)")
+    int updateLastChat(Long chatRoomId, Long chatId, String preview, LocalDateTime chatAt);
+
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastChatDeleted = true "
+        + "WHERE r.id = :chatRoomId AND r.lastChatId IN :chatIds")
+    int markLastChatDeleted(Long chatRoomId, List<Long> chatIds);
 }
@@ -0,0 +1,49 @@
+package com.clover.youngchat.domain.chatroom.repository;
+
+import com.clover.youngchat.domain.chatroom.entity.ChatRoomUserPK;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomUserJdbcRepository {
+
+    // 읽음 위치는 뒤로 가지 않는다.
+    private static final String UPDATE_LAST_READ_SQL =
+        "UPDATE chatroom_user SET last_read_chat_id = ? WHERE chatroom_id = ? AND user_id = ? "
+            + "AND (last_read_chat_id IS NULL OR last_read_chat_id < ?)";
+
+    private static final String INSERT_MEMBERS_SQL =
+        "INSERT INTO chatroom_user (chatroom_id, user_id) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 참여자 수와 관계없이 multi-row INSERT 한 번으로 보낸다.
+    public int insertMembers(Long chatRoomId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        String sql = INSERT_MEMBERS_SQL + String.join(", ", Collections.nCopies(userIds.size(),
+            "(?, ?)"));
+        Object[] params = new Object[userIds.size() * 2];
+        for (int i = 0; i < userIds.size(); i++) {
+            params[i * 2] = chatRoomId;
+            params[i * 2 + 1] = userIds.get(i);
+        }
+        return jdbcTemplate.update(sql, params);
+    }
+
+    @Transactional
+    public void updateLastReadChatIds(Map<ChatRoomUserPK, Long> lastReadChatIds) {
+        List<Object[]> params = new ArrayList<>(lastReadChatIds.size());
+        lastReadChatIds.forEach((pk, lastReadChatId) -> params.add(new Object[]{
+            lastReadChatId, pk.getChatRoom(), pk.getUser(), lastReadChatId}));
+        jdbcTemplate.batchUpdate(UPDATE_LAST_READ_SQL, params);
+    }
+}
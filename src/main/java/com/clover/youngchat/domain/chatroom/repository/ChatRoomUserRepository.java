@@ -1,6 +1,5 @@
 package com.clover.youngchat.domain.chatroom.repository;
 
-import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
 import com.clover.youngchat.domain.chatroom.entity.ChatRoomUser;
 import java.util.List;
 import java.util.Optional;
@@ -18,14 +17,10 @@ public interface ChatRoomUserRepository extends ChatRoomUserRepositoryCustom {
 
     Optional<List<ChatRoomUser>> findByUser_Id(Long userId);
 
+    @Query("SELECT cu.user.id FROM ChatRoomUser cu WHERE cu.chatRoom.id = :chatRoomId")
+    List<Long> findUserIdsByChatRoomId(Long chatRoomId);
+
     void delete(ChatRoomUser chatRoomUser);
 
     List<ChatRoomUser> saveAll(Iterable<ChatRoomUser> chatRoomUsers);
-
-    @Query("SELECT c FROM ChatRoom c "
-        + "JOIN ChatRoomUser cu ON c.id = cu.chatRoom.id "
-        + "GROUP BY c.id "
-        + "HAVING COUNT(cu.chatRoom.id) = 2 AND "
-        + "SUM(CASE WHEN cu.user.id IN (:userId, :friendId) THEN 1 ELSE 0 END) = 2")
-    Optional<ChatRoom> findChatRoomByOnlyTwoUsers(Long userId, Long friendId);
 }
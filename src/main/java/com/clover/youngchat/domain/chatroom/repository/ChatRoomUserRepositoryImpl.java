@@ -1,17 +1,14 @@
 package com.clover.youngchat.domain.chatroom.repository;
 
-import com.clover.youngchat.domain.chat.entity.QChat;
 import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomAndLastChatGetRes;
 import com.clover.youngchat.domain.chatroom.entity.QChatRoom;
 import com.clover.youngchat.domain.chatroom.entity.QChatRoomUser;
 import com.clover.youngchat.global.response.RestSlice;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -19,19 +16,6 @@ public class ChatRoomUserRepositoryImpl implements ChatRoomUserRepositoryCustom
 
     private final JPAQueryFactory queryFactory;
 
-    @Override
-    public Optional<List<Long>> getOtherUsersInChatRoom(Long chatRoomId, Long userId) {
-        QChatRoomUser chatRoomUser = QChatRoomUser.chatRoomUser;
-
-        return Optional.ofNullable(
-            queryFactory.select(Projections.constructor(Long.class, chatRoomUser.user.id))
-                .from(chatRoomUser)
-                .where(chatRoomUser.chatRoom.id.in(chatRoomId))
-                .groupBy(chatRoomUser.user.id)
-                .having(chatRoomUser.user.id.notIn(userId))
-                .fetch());
-    }
-
     @Override
     public RestSlice<ChatRoomAndLastChatGetRes> findChatRoomsAndLastChatByUserId(Long userId,
         Long cursorChatId, int limitSize) {
@@ -40,41 +24,50 @@ public class ChatRoomUserRepositoryImpl implements ChatRoomUserRepositoryCustom
         return createSlice(resList, limitSize);
     }
 
-    private List<ChatRoomAndLastChatGetRes> queryChatRooms(Long userId, Long cursorChatRoomId,
+    @Override
+    public List<ChatRoomAndLastChatGetRes> findAllChatRoomsAndLastChatByUserId(Long userId) {
+        QChatRoom qChatRoom = QChatRoom.chatRoom;
+        return selectChatRooms(userId)
+            .where(qChatRoom.lastChatId.isNotNull())
+            .fetch();
+    }
+
+    // Snowflake id 는 시간순이므로 lastChatId 가 최근 활동 순서이자 keyset cursor 가 된다.
+    private List<ChatRoomAndLastChatGetRes> queryChatRooms(Long userId, Long cursorChatId,
         int limitSize) {
+        QChatRoom qChatRoom = QChatRoom.chatRoom;
+        BooleanExpression queryCondition = createQueryCondition(qChatRoom, cursorChatId);
+
+        return selectChatRooms(userId)
+            .where(queryCondition)
+            .orderBy(qChatRoom.lastChatId.desc())
+            .limit(limitSize + 1) // 다음페이지가 있는지 확인하기 위해 +1 조회
+            .fetch();
+    }
+
+    // 사용자의 chatroom_user 행에서 출발해 chatroom 의 마지막 메세지 컬럼만 읽는다.
+    private JPAQuery<ChatRoomAndLastChatGetRes> selectChatRooms(Long userId) {
         QChatRoomUser qChatRoomUser = QChatRoomUser.chatRoomUser;
         QChatRoom qChatRoom = QChatRoom.chatRoom;
-        QChat qChat = QChat.chat;
-        BooleanExpression queryCondition = createQueryCondition(qChat, cursorChatRoomId);
 
         return queryFactory
             .select(
                 Projections.constructor(ChatRoomAndLastChatGetRes.class,
                     qChatRoom.id,
                     qChatRoom.title,
-                    qChat.id,
-                    qChat.message,
-                    qChat.createdAt,
-                    qChat.isDeleted))
+                    qChatRoom.lastChatId,
+                    qChatRoom.lastChatPreview,
+                    qChatRoom.lastChatAt,
+                    qChatRoom.lastChatDeleted))
             .from(qChatRoomUser)
-            .join(qChatRoom).on(qChatRoomUser.chatRoom.id.eq(qChatRoom.id))
-            .join(qChat).on(qChat.chatRoom.id.eq(qChatRoom.id))
-            .where(qChatRoomUser.user.id.eq(userId))
-            .where(Expressions.list(qChatRoom.id, qChat.createdAt).in(
-                JPAExpressions
-                    .select(qChat.chatRoom.id, qChat.createdAt.max())
-                    .from(qChat)
-                    .groupBy(qChat.chatRoom.id)))
-            .where(queryCondition)
-            .orderBy(qChat.id.desc())
-            .limit(limitSize)
-            .fetch();
+            .join(qChatRoomUser.chatRoom, qChatRoom)
+            .where(qChatRoomUser.user.id.eq(userId));
     }
 
-    private BooleanExpression createQueryCondition(QChat qChat, Long cursorChatId) {
-        BooleanExpression condition = qChat.id.gt(1L);
+    private BooleanExpression createQueryCondition(QChatRoom qChatRoom, Long cursorChatId) {
+        BooleanExpression condition = qChatRoom.lastChatId.isNotNull();
         if (cursorChatId != null) {
-            condition = condition.and(qChat.id.lt(cursorChatId));
+            condition = condition.and(qChatRoom.lastChatId.lt(cursorChatId));
         }
         return condition;
     }
@@ -83,7 +76,7 @@ public class ChatRoomUserRepositoryImpl implements ChatRoomUserRepositoryCustom
         int limitSize) {
         boolean hasNext = res.size() > limitSize;
         if (hasNext) {
-            res.remove(0);
+            res.remove(limitSize); // 하나더 가져온 값 제거
         }
         return new RestSlice<>(res, 0, limitSize, hasNext);
     }
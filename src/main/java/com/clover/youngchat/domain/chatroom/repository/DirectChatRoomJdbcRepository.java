@@ -0,0 +1,50 @@
+package com.clover.youngchat.domain.chatroom.repository;
+
+import com.clover.youngchat.domain.chatroom.entity.DirectChatRoomPK;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 호출하는 쪽의 트랜잭션 안에서 실행되어야 선점과 채팅방 생성이 함께 커밋/롤백된다.
+@Repository
+@RequiredArgsConstructor
+public class DirectChatRoomJdbcRepository {
+
+    // 다른 트랜잭션이 같은 키를 선점 중이면 그 트랜잭션이 끝날 때까지 기다린 뒤 0 을 반환한다.
+    private static final String CLAIM_SQL =
+        "INSERT IGNORE INTO direct_chatroom (low_user_id, high_user_id) VALUES (?, ?)";
+
+    private static final String ASSIGN_SQL =
+        "UPDATE direct_chatroom SET chatroom_id = ? WHERE low_user_id = ? AND high_user_id = ?";
+
+    // locking read 는 트랜잭션의 snapshot 이 아닌 최신 커밋 값을 읽는다.
+    private static final String SELECT_FOR_SHARE_SQL =
+        "SELECT c.id, c.title FROM direct_chatroom d JOIN chatroom c ON c.id = d.chatroom_id "
+            + "WHERE d.low_user_id = ? AND d.high_user_id = ? LOCK IN SHARE MODE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean claim(DirectChatRoomPK pair) {
+        return jdbcTemplate.update(CLAIM_SQL, pair.getLowUserId(), pair.getHighUserId()) == 1;
+    }
+
+    public void assign(DirectChatRoomPK pair, Long chatRoomId) {
+        jdbcTemplate.update(ASSIGN_SQL, chatRoomId, pair.getLowUserId(), pair.getHighUserId());
+    }
+
+    public Optional<ClaimedChatRoom> findForShare(DirectChatRoomPK pair) {
+        return jdbcTemplate.query(SELECT_FOR_SHARE_SQL,
+            (rs, rowNum) -> new ClaimedChatRoom(rs.getLong("id"), rs.getString("title")),
+            pair.getLowUserId(), pair.getHighUserId()).stream().findFirst();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ClaimedChatRoom {
+
+        private final Long chatRoomId;
+        private final String title;
+    }
+}
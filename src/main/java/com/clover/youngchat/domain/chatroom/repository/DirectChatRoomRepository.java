@@ -0,0 +1,22 @@
+package com.clover.youngchat.domain.chatroom.repository;
+
+import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
+import com.clover.youngchat.domain.chatroom.entity.DirectChatRoom;
+import com.clover.youngchat.domain.chatroom.entity.DirectChatRoomPK;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.RepositoryDefinition;
+
+@RepositoryDefinition(domainClass = DirectChatRoom.class, idClass = DirectChatRoomPK.class)
+public interface DirectChatRoomRepository {
+
+    // 두 번의 기본키 조회로 끝난다.
+    @Query("SELECT c FROM DirectChatRoom d, ChatRoom c "
+        + "WHERE d.lowUserId = :lowUserId AND d.highUserId = :highUserId AND c.id = d.chatRoomId")
+    Optional<ChatRoom> findChatRoomByUserPair(Long lowUserId, Long highUserId);
+
+    @Modifying
+    @Query("DELETE FROM DirectChatRoom d WHERE d.chatRoomId = :chatRoomId")
+    int deleteByChatRoomId(Long chatRoomId);
+}
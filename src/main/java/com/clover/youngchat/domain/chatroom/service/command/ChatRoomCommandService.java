@@ -3,9 +3,14 @@ package com.clover.youngchat.domain.chatroom.service.command;
 import static com.clover.youngchat.domain.chatroom.constant.ChatRoomConstant.COUNT_ONE_FRIEND;
 import static com.clover.youngchat.domain.chatroom.constant.ChatRoomConstant.GROUP_CHATROOM_TITLE;
 import static com.clover.youngchat.domain.chatroom.constant.ChatRoomConstant.PERSONAL_CHATROOM_TITLE;
+import static com.clover.youngchat.global.cache.CacheNames.CHAT_ROOM;
 import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_CHATROOM;
+import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_USER;
 
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInbox;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomUnreadCounter;
 import com.clover.youngchat.domain.chatroom.dto.request.ChatRoomEditReq;
 import com.clover.youngchat.domain.chatroom.dto.request.GroupChatRoomCreateReq;
 import com.clover.youngchat.domain.chatroom.dto.request.PersonalChatRoomCreateReq;
@@ -15,8 +20,13 @@ import com.clover.youngchat.domain.chatroom.dto.response.GroupChatRoomCreateRes;
 import com.clover.youngchat.domain.chatroom.dto.response.PersonalChatRoomCreateRes;
 import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
 import com.clover.youngchat.domain.chatroom.entity.ChatRoomUser;
+import com.clover.youngchat.domain.chatroom.entity.DirectChatRoomPK;
 import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserJdbcRepository;
 import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
+import com.clover.youngchat.domain.chatroom.repository.DirectChatRoomJdbcRepository;
+import com.clover.youngchat.domain.chatroom.repository.DirectChatRoomJdbcRepository.ClaimedChatRoom;
+import com.clover.youngchat.domain.chatroom.repository.DirectChatRoomRepository;
 import com.clover.youngchat.domain.user.entity.User;
 import com.clover.youngchat.domain.user.repository.UserRepository;
 import com.clover.youngchat.global.exception.GlobalException;
@@ -24,7 +34,9 @@ import com.clover.youngchat.global.exception.ResultCode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,25 +47,45 @@ public class ChatRoomCommandService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRoomUserRepository chatRoomUserRepository;
+    private final ChatRoomUserJdbcRepository chatRoomUserJdbcRepository;
+    private final DirectChatRoomRepository directChatRoomRepository;
+    private final DirectChatRoomJdbcRepository directChatRoomJdbcRepository;
     private final UserRepository userRepository;
+    private final ChatRoomMemberCache chatRoomMemberCache;
+    private final ChatRoomUnreadCounter chatRoomUnreadCounter;
+    private final ChatRoomInbox chatRoomInbox;
 
     public PersonalChatRoomCreateRes createPersonalChatRoom(
         PersonalChatRoomCreateReq req, User user) {
         User friend = findByUserId(req.getFriendId());
+        DirectChatRoomPK pair = DirectChatRoomPK.of(user.getId(), friend.getId());
 
-        ChatRoom chatRoom = chatRoomUserRepository
-            .findChatRoomByOnlyTwoUsers(user.getId(), friend.getId())
-            .orElseGet(() -> {
-                String title = String.format(PERSONAL_CHATROOM_TITLE, user.getUsername(),
-                    friend.getUsername());
-                return saveChatRoom(title, Arrays.asList(user, friend));
-            });
+        Optional<ChatRoom> existing = directChatRoomRepository.findChatRoomByUserPair(
+            pair.getLowUserId(), pair.getHighUserId());
+        if (existing.isPresent()) {
+            return PersonalChatRoomCreateRes.to(existing.get().getId(), existing.get().getTitle());
+        }
+
+        // 동시에 만든 쪽이 있으면 그 트랜잭션이 끝날 때까지 기다렸다가 그 방을 돌려준다.
+        if (!directChatRoomJdbcRepository.claim(pair)) {
+            ClaimedChatRoom claimed = directChatRoomJdbcRepository.findForShare(pair)
+                .orElseThrow(() -> new GlobalException(NOT_FOUND_CHATROOM));
+            return PersonalChatRoomCreateRes.to(claimed.getChatRoomId(), claimed.getTitle());
+        }
+
+        String title = String.format(PERSONAL_CHATROOM_TITLE, user.getUsername(),
+            friend.getUsername());
+        ChatRoom chatRoom = saveChatRoom(title, Arrays.asList(user, friend));
+        directChatRoomJdbcRepository.assign(pair, chatRoom.getId());
         return PersonalChatRoomCreateRes.to(chatRoom.getId(), chatRoom.getTitle());
     }
 
     public GroupChatRoomCreateRes createGroupChatRoom(GroupChatRoomCreateReq req, User user) {
-        List<User> participants = new ArrayList<>(req.getFriendIds().stream()
-            .map(this::findByUserId).toList());
+        List<Long> friendIds = req.getFriendIds().stream()
+            .distinct()
+            .filter(friendId -> !friendId.equals(user.getId()))
+            .toList();
+        List<User> participants = new ArrayList<>(findAllByUserIds(friendIds));
         participants.add(user);
 
         String title = String.format(GROUP_CHATROOM_TITLE,
@@ -62,12 +94,14 @@ public class ChatRoomCommandService {
         return GroupChatRoomCreateRes.to(chatRoom.getId(), chatRoom.getTitle());
     }
 
+    @CacheEvict(cacheNames = CHAT_ROOM, key = "#chatRoomId")
     public ChatRoomEditRes editChatRoom(Long chatRoomId, ChatRoomEditReq req, User user) {
         ChatRoom chatRoom = findById(chatRoomId);
 
         isChatRoomMember(chatRoomId, user.getId());
 
         chatRoom.updateChatRoom(req);
+        chatRoomInbox.evictSummary(chatRoomId);
 
         return new ChatRoomEditRes();
     }
@@ -82,6 +116,11 @@ public class ChatRoomCommandService {
             .orElseThrow(() -> new GlobalException(ACCESS_DENY));
 
         chatRoomUserRepository.delete(chatRoomUser);
+        // 한 명이 나간 1:1 채팅방은 다시 찾지 않고 다음에 새로 만든다.
+        directChatRoomRepository.deleteByChatRoomId(chatRoomId);
+        chatRoomMemberCache.removeMember(chatRoomId, user.getId());
+        chatRoomUnreadCounter.reset(user.getId(), chatRoomId);
+        chatRoomInbox.leave(user.getId(), chatRoomId);
 
         return new ChatRoomLeaveRes();
     }
@@ -90,13 +129,13 @@ public class ChatRoomCommandService {
         ChatRoom chatRoom = ChatRoom.builder()
             .title(title)
             .build();
-        ChatRoom saveChatRoom = chatRoomRepository.save(chatRoom);
+        // chatroom_user 는 JDBC 로 넣으므로 외래키를 위해 채팅방 INSERT 를 먼저 내보낸다.
+        ChatRoom saveChatRoom = chatRoomRepository.saveAndFlush(chatRoom);
 
-        List<ChatRoomUser> chatRoomUsers = new ArrayList<>();
-        for (User participant : participants) {
-            chatRoomUsers.add(ChatRoomUser.to(participant, saveChatRoom));
-        }
-        chatRoomUserRepository.saveAll(chatRoomUsers);
+        List<Long> participantIds = participants.stream().map(User::getId).toList();
+        chatRoomUserJdbcRepository.insertMembers(saveChatRoom.getId(), participantIds);
+        chatRoomMemberCache.addMembers(saveChatRoom.getId(), participantIds);
+        chatRoomInbox.join(saveChatRoom, participantIds);
 
         return chatRoom;
     }
@@ -111,6 +150,18 @@ public class ChatRoomCommandService {
             new GlobalException(ResultCode.NOT_FOUND_USER));
     }
 
+    // 한 번의 IN 조회로 가져오고, 없는 id 가 하나라도 있으면 실패한다.
+    private List<User> findAllByUserIds(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        List<User> users = userRepository.findUsersByIdIn(userIds).orElse(List.of());
+        if (users.size() != userIds.size()) {
+            throw new GlobalException(NOT_FOUND_USER);
+        }
+        return users;
+    }
+
     private void isChatRoomMember(Long chatRoomId, Long userId) {
         if (!chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(chatRoomId, userId)) {
             throw new GlobalException(ACCESS_DENY);
@@ -0,0 +1,51 @@
+package com.clover.youngchat.domain.chatroom.service.command;
+
+import com.clover.youngchat.domain.chatroom.entity.ChatRoomUserPK;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트의 읽음 위치 갱신을 (채팅방, 사용자) 별 최댓값 하나로 모았다가 주기적으로 MySQL 에 반영한다.
+ */
+@Slf4j(topic = "read position buffer")
+@Component
+@RequiredArgsConstructor
+public class ChatRoomReadPositionBuffer {
+
+    private final ChatRoomUserJdbcRepository chatRoomUserJdbcRepository;
+
+    private final Map<ChatRoomUserPK, Long> pending = new ConcurrentHashMap<>();
+
+    public void record(Long chatRoomId, Long userId, Long lastReadChatId) {
+        pending.merge(new ChatRoomUserPK(userId, chatRoomId), lastReadChatId, Math::max);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-position.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<ChatRoomUserPK, Long> batch = new HashMap<>(pending);
+        try {
+            chatRoomUserJdbcRepository.updateLastReadChatIds(batch);
+        } catch (Exception e) {
+            // 지우지 않고 남겨두어 다음 flush 때 다시 시도한다.
+            log.warn("failed to flush {} read positions: {}", batch.size(), e.getMessage());
+            return;
+        }
+        // flush 도중 더 큰 값으로 갱신된 항목은 남겨둔다.
+        batch.forEach(pending::remove);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+}
@@ -0,0 +1,30 @@
+package com.clover.youngchat.domain.chatroom.service.command;
+
+import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
+
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomUnreadCounter;
+import com.clover.youngchat.domain.chatroom.dto.request.ChatReadReq;
+import com.clover.youngchat.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ChatRoomReadService {
+
+    private final ChatRoomMemberCache chatRoomMemberCache;
+    private final ChatRoomUnreadCounter chatRoomUnreadCounter;
+    private final ChatRoomReadPositionBuffer chatRoomReadPositionBuffer;
+
+    public void markRead(Long chatRoomId, ChatReadReq req) {
+        if (!chatRoomMemberCache.isMember(chatRoomId, req.getUserId())) {
+            throw new GlobalException(ACCESS_DENY);
+        }
+        chatRoomUnreadCounter.reset(req.getUserId(), chatRoomId);
+        if (req.getLastReadChatId() != null) {
+            chatRoomReadPositionBuffer.record(chatRoomId, req.getUserId(),
+                req.getLastReadChatId());
+        }
+    }
+}
@@ -4,21 +4,22 @@ import static com.clover.youngchat.domain.chatroom.constant.ChatRoomConstant.CHA
 import static com.clover.youngchat.domain.chatroom.constant.ChatRoomConstant.CHAT_ROOM_LIMIT_SIZE;
 import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_CHAT;
-import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_CHATROOM;
 
 import com.clover.youngchat.domain.chat.dto.response.ChatRes;
 import com.clover.youngchat.domain.chat.repository.ChatRepository;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInbox;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInfoCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomTailCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomUnreadCounter;
 import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomAndLastChatGetRes;
 import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomDetailGetRes;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomInfoRes;
 import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomPaginationDetailGetRes;
-import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
-import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
-import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
-import com.clover.youngchat.domain.user.entity.User;
-import com.clover.youngchat.domain.user.repository.UserRepository;
 import com.clover.youngchat.global.exception.GlobalException;
 import com.clover.youngchat.global.response.RestSlice;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,20 +29,27 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ChatRoomQueryService {
 
-    private final ChatRoomRepository chatRoomRepository;
-    private final ChatRoomUserRepository chatRoomUserRepository;
     private final ChatRepository chatRepository;
-    private final UserRepository userRepository;
+    private final ChatRoomUnreadCounter chatRoomUnreadCounter;
+    private final ChatRoomMemberCache chatRoomMemberCache;
+    private final ChatRoomTailCache chatRoomTailCache;
+    private final ChatRoomInbox chatRoomInbox;
+    private final ChatRoomInfoCache chatRoomInfoCache;
 
-    public RestSlice<ChatRoomAndLastChatGetRes> getChatRoomList(User user, Long cursorChatId) {
-        userRepository.findById(user.getId());
-        return chatRoomUserRepository.findChatRoomsAndLastChatByUserId(user.getId(),
+    public RestSlice<ChatRoomAndLastChatGetRes> getChatRoomList(Long userId, Long cursorChatId) {
+        // Redis inbox 에서 읽고, inbox 가 없으면 MySQL 에서 다시 만든다.
+        RestSlice<ChatRoomAndLastChatGetRes> chatRooms = chatRoomInbox.getChatRooms(userId,
             cursorChatId, CHAT_ROOM_LIMIT_SIZE);
+
+        Map<Long, Long> unreadCounts = chatRoomUnreadCounter.getUnreadCounts(userId);
+        chatRooms.forEach(chatRoom -> chatRoom.updateUnreadCount(
+            unreadCounts.getOrDefault(chatRoom.getChatRoomId(), 0L)));
+        return chatRooms;
     }
 
-    public ChatRoomDetailGetRes getDetailChatRoom(Long chatRoomId, User user) {
-        isChatRoomMember(chatRoomId, user.getId());
-        ChatRoom chatRoom = findById(chatRoomId);
+    public ChatRoomDetailGetRes getDetailChatRoom(Long chatRoomId, Long userId) {
+        isChatRoomMember(chatRoomId, userId);
+        ChatRoomInfoRes chatRoom = chatRoomInfoCache.get(chatRoomId);
 
         List<ChatRes> chatList = chatRepository.findAllByChatRoom_Id(chatRoomId)
             .orElseThrow(() -> new GlobalException(NOT_FOUND_CHAT))
@@ -57,12 +65,14 @@ public class ChatRoomQueryService {
 
     public ChatRoomPaginationDetailGetRes getPaginationDetailChatRoom(Long chatRoomId,
         Long lastChatId,
-        User user) {
-        isChatRoomMember(chatRoomId, user.getId());
-        ChatRoom chatRoom = findById(chatRoomId);
+        Long userId) {
+        isChatRoomMember(chatRoomId, userId);
+        ChatRoomInfoRes chatRoom = chatRoomInfoCache.get(chatRoomId);
 
-        RestSlice<ChatRes> chatResList =
-            chatRepository.findChatsByChatRoomId(chatRoomId, lastChatId,
+        // 첫 페이지는 Redis 의 최근 메세지 목록에서 읽는다.
+        RestSlice<ChatRes> chatResList = lastChatId == null
+            ? chatRoomTailCache.getFirstPage(chatRoomId, CHAT_ROOM_DETAIL_LIMIT_SIZE)
+            : chatRepository.findChatsByChatRoomId(chatRoomId, lastChatId,
                 CHAT_ROOM_DETAIL_LIMIT_SIZE);
 
         return ChatRoomPaginationDetailGetRes.builder()
@@ -71,13 +81,9 @@ public class ChatRoomQueryService {
             .build();
     }
 
-    private ChatRoom findById(Long chatRoomId) {
-        return chatRoomRepository.findById(chatRoomId).orElseThrow(() ->
-            new GlobalException(NOT_FOUND_CHATROOM));
-    }
-
+    // 상세 조회와 페이지 조회가 같은 멤버십 캐시를 기준으로 권한을 판단한다.
     private void isChatRoomMember(Long chatRoomId, Long userId) {
-        if (!chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(chatRoomId, userId)) {
+        if (!chatRoomMemberCache.isMember(chatRoomId, userId)) {
             throw new GlobalException(ACCESS_DENY);
         }
     }
@@ -0,0 +1,92 @@
+package com.clover.youngchat.domain.friend.cache;
+
+import static com.clover.youngchat.global.cache.CacheNames.FRIEND_LIST;
+
+import com.clover.youngchat.domain.friend.dto.response.FriendGetListRes;
+import com.clover.youngchat.domain.friend.repository.FriendRepository;
+import com.clover.youngchat.domain.friend.search.FriendSearchIndex;
+import com.clover.youngchat.global.datasource.PrimaryReader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 친구 목록. friendList 캐시(로컬 -> Redis) 에 없으면 primary DB 에서 읽는다.
+ * <p>
+ * 친구 추가/삭제와 친구의 프로필 변경 시 {@link #evict(Long)} 로 무효화한다. 트랜잭션 안에서 호출되면
+ * 바로 한 번, 커밋 이후에 한 번 더 지워 커밋 전에 다시 적재된 값을 남기지 않고, 다른 노드의 로컬 캐시도
+ * 함께 지워진다.
+ * <p>
+ * 이름 검색 인덱스는 로컬 목록으로부터 처음 검색할 때 만들고, 목록이 다시 적재되면 새로 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FriendListCache {
+
+    private final FriendRepository friendRepository;
+    private final CacheManager cacheManager;
+    private final PrimaryReader primaryReader;
+
+    @Value("${friend.search-index.max-size:10000}")
+    private long indexMaxSize;
+
+    private com.github.benmanes.caffeine.cache.Cache<Long, FriendSearchIndex> indexCache;
+
+    @PostConstruct
+    public void init() {
+        indexCache = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .maximumSize(indexMaxSize)
+            .build();
+    }
+
+    public List<FriendGetListRes> get(Long userId) {
+        // 직렬화 시 타입 정보가 남으므로 불변 리스트가 아닌 ArrayList 로 보관한다.
+        return friendListCache().get(userId, () -> primaryReader.read(
+            () -> new ArrayList<>(friendRepository.findFriendsByUserId(userId))));
+    }
+
+    public FriendSearchIndex getSearchIndex(Long userId) {
+        List<FriendGetListRes> friends = get(userId);
+        FriendSearchIndex index = indexCache.getIfPresent(userId);
+        if (index == null || !index.isBuiltFrom(friends)) {
+            index = FriendSearchIndex.of(friends);
+            indexCache.put(userId, index);
+        }
+        return index;
+    }
+
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    // userId 를 친구로 가진 모든 사용자의 목록을 지운다. (프로필 변경)
+    public void evictContaining(Long userId) {
+        evictAll(friendRepository.findUserIdsByFriendId(userId));
+    }
+
+    // evictIfPresent 는 트랜잭션 안에서도 바로 지우고, evict 는 커밋 이후에 지운다.
+    // 인덱스는 목록이 바뀌면 어차피 다시 만들어지므로 메모리만 비운다.
+    private void evictAll(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Cache cache = friendListCache();
+        userIds.forEach(userId -> {
+            cache.evictIfPresent(userId);
+            cache.evict(userId);
+        });
+        indexCache.invalidateAll(userIds);
+    }
+
+    private Cache friendListCache() {
+        return cacheManager.getCache(FRIEND_LIST);
+    }
+}
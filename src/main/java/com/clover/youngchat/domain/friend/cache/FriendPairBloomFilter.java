@@ -0,0 +1,49 @@
+package com.clover.youngchat.domain.friend.cache;
+
+import com.clover.youngchat.domain.friend.repository.FriendJdbcRepository;
+import com.clover.youngchat.global.bloom.ReplicatedBloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * (userId, friendId) 친구 관계 bloom filter. 삭제된 관계는 남아 있으므로 true 는 DB 로 확인해야 한다.
+ * <p>
+ * 친구 추가에만 쓴다. false 면 바로 넣고, 그 사이 추가된 관계는 friend 의 PK(user_id, friend_id)로 막는다.
+ */
+@Component
+public class FriendPairBloomFilter extends ReplicatedBloomFilter {
+
+    private final FriendJdbcRepository friendJdbcRepository;
+
+    public FriendPairBloomFilter(FriendJdbcRepository friendJdbcRepository,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        MeterRegistry meterRegistry,
+        @Value("${bloom.friend.expected-insertions:1000000}") long expectedInsertions,
+        @Value("${bloom.friend.fpp:0.01}") double fpp) {
+        super("friend", expectedInsertions, fpp, stringRedisTemplate,
+            redisMessageListenerContainer, meterRegistry);
+        this.friendJdbcRepository = friendJdbcRepository;
+    }
+
+    public boolean mightBeFriend(Long userId, Long friendId) {
+        return mightContain(key(userId, friendId));
+    }
+
+    public void add(Long userId, Long friendId) {
+        put(key(userId, friendId));
+    }
+
+    @Override
+    protected void scan(Consumer<String> sink) {
+        friendJdbcRepository.streamPairs((userId, friendId) -> sink.accept(key(userId, friendId)));
+    }
+
+    private String key(Long userId, Long friendId) {
+        return userId + ":" + friendId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.clover.youngchat.domain.friend.constant;
+
+public class FriendConstant {
+
+    public static final int FRIEND_LIMIT_SIZE = 30;
+
+}
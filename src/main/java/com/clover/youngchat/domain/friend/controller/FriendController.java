@@ -7,6 +7,7 @@ import com.clover.youngchat.domain.friend.dto.response.FriendGetSearchListRes;
 import com.clover.youngchat.domain.friend.service.command.FriendCommandService;
 import com.clover.youngchat.domain.friend.service.query.FriendQueryService;
 import com.clover.youngchat.global.response.RestResponse;
+import com.clover.youngchat.global.response.RestSlice;
 import com.clover.youngchat.global.security.UserDetailsImpl;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 
@@ -30,7 +32,15 @@ public class FriendController {
     @GetMapping
     public RestResponse<List<FriendGetListRes>> getFriendList(
         @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return RestResponse.success(friendQueryService.getFriendList(userDetails.getUser()));
+        return RestResponse.success(friendQueryService.getFriendList(userDetails.getUserId()));
+    }
+
+    @GetMapping("/slice")
+    public RestResponse<RestSlice<FriendGetListRes>> getFriendSlice(
+        @AuthenticationPrincipal UserDetailsImpl userDetails,
+        @RequestParam(required = false) Long cursorFriendId) {
+        return RestResponse.success(
+            friendQueryService.getFriendSlice(userDetails.getUserId(), cursorFriendId));
     }
 
     @GetMapping("/search")
@@ -38,7 +48,7 @@ public class FriendController {
         String keyword,
         @AuthenticationPrincipal UserDetailsImpl userDetails) {
         return RestResponse.success(
-            friendQueryService.getFriendSearchList(keyword, userDetails.getUser()));
+            friendQueryService.getFriendSearchList(keyword, userDetails.getUserId()));
     }
 
     @PostMapping("/{friendId}")
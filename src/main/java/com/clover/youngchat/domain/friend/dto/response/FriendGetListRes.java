@@ -14,7 +14,7 @@ public class FriendGetListRes {
     private String profileImage;
 
     @Builder
-    private FriendGetListRes(Long userId, String username, String profileImage) {
+    public FriendGetListRes(Long userId, String username, String profileImage) {
         this.userId = userId;
         this.username = username;
         this.profileImage = profileImage;
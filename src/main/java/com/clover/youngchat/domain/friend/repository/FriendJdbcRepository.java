@@ -0,0 +1,43 @@
+package com.clover.youngchat.domain.friend.repository;
+
+import jakarta.annotation.PostConstruct;
+import java.util.function.BiConsumer;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class FriendJdbcRepository {
+
+    private static final String SELECT_PAIRS_SQL = "SELECT user_id, friend_id FROM friend";
+    private static final String INSERT_PAIR_SQL =
+        "INSERT INTO friend (user_id, friend_id) VALUES (?, ?)";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때 한 행씩 스트리밍한다.
+    @Value("${bloom.scan.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    private JdbcTemplate streamingJdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // 이미 있는 관계면 PK 에 걸려 DuplicateKeyException 이 난다. (save 는 merge 로 조회 후 넣으므로 쓰지 않는다)
+    public void insertPair(Long userId, Long friendId) {
+        jdbcTemplate.update(INSERT_PAIR_SQL, userId, friendId);
+    }
+
+    public void streamPairs(BiConsumer<Long, Long> consumer) {
+        streamingJdbcTemplate.query(SELECT_PAIRS_SQL,
+            rs -> consumer.accept(rs.getLong("user_id"), rs.getLong("friend_id")));
+    }
+}
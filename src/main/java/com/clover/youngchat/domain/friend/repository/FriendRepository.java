@@ -5,6 +5,8 @@ import com.clover.youngchat.domain.friend.entity.FriendPK;
 import com.clover.youngchat.domain.user.entity.User;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.RepositoryDefinition;
 
 @RepositoryDefinition(domainClass = Friend.class, idClass = FriendPK.class)
@@ -16,5 +18,11 @@ public interface FriendRepository extends FriendRepositoryCustom {
 
     boolean existsByUser_IdAndFriend_Id(Long userId, Long friendId);
 
-    void deleteByFriend_Id(Long friendId);
+    // 조회 없이 바로 지우고 지운 행 수를 반환한다.
+    @Modifying
+    @Query("DELETE FROM Friend f WHERE f.user.id = :userId AND f.friend.id = :friendId")
+    int deleteByUser_IdAndFriend_Id(Long userId, Long friendId);
+
+    @Query("SELECT f.user.id FROM Friend f WHERE f.friend.id = :friendId")
+    List<Long> findUserIdsByFriendId(Long friendId);
 }
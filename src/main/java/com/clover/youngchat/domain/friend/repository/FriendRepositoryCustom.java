@@ -1,11 +1,15 @@
 package com.clover.youngchat.domain.friend.repository;
 
-import com.clover.youngchat.domain.friend.dto.response.FriendGetSearchListRes;
+import com.clover.youngchat.domain.friend.dto.response.FriendGetListRes;
+import com.clover.youngchat.global.response.RestSlice;
 import java.util.List;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FriendRepositoryCustom {
 
-    List<FriendGetSearchListRes> findFriendByKeyword(Long userId, String keyword);
+    List<FriendGetListRes> findFriendsByUserId(Long userId);
+
+    RestSlice<FriendGetListRes> findFriendsByUserId(Long userId, Long cursorFriendId,
+        int limitSize);
 }
@@ -1,10 +1,12 @@
 package com.clover.youngchat.domain.friend.repository;
 
-import com.clover.youngchat.domain.friend.dto.response.FriendGetSearchListRes;
+import com.clover.youngchat.domain.friend.dto.response.FriendGetListRes;
 import com.clover.youngchat.domain.friend.entity.QFriend;
 import com.clover.youngchat.domain.user.entity.QUser;
+import com.clover.youngchat.global.response.RestSlice;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,23 +17,40 @@ public class FriendRepositoryImpl implements FriendRepositoryCustom {
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public List<FriendGetSearchListRes> findFriendByKeyword(Long userId, String keyword) {
+    public List<FriendGetListRes> findFriendsByUserId(Long userId) {
+        return selectFriends(userId).fetch();
+    }
+
+    @Override
+    public RestSlice<FriendGetListRes> findFriendsByUserId(Long userId, Long cursorFriendId,
+        int limitSize) {
+        List<FriendGetListRes> res = selectFriends(userId)
+            .where(gtCursorFriendId(cursorFriendId))
+            .limit(limitSize + 1)
+            .fetch();
+
+        boolean hasNext = res.size() > limitSize;
+        if (hasNext) {
+            res.remove(limitSize);
+        }
+        return new RestSlice<>(res, 0, limitSize, hasNext);
+    }
+
+    // friend 의 (user_id, friend_id) 기본키 순서로 읽고, 친구 정보는 같은 쿼리에서 users 조인으로 가져온다.
+    private JPAQuery<FriendGetListRes> selectFriends(Long userId) {
         QUser user = QUser.user;
         QFriend friend = QFriend.friend1;
 
         return queryFactory.select(
-                Projections.constructor(FriendGetSearchListRes.class,
+                Projections.constructor(FriendGetListRes.class,
                     user.id, user.username, user.profileImage))
-            .from(user)
-            .where(
-                user.id.in(
-                    JPAExpressions
-                        .select(friend.friend.id)
-                        .from(friend)
-                        .where(friend.user.id.eq(userId))
-                ),
-                user.username.containsIgnoreCase(keyword)
-            )
-            .fetch();
+            .from(friend)
+            .join(friend.friend, user)
+            .where(friend.user.id.eq(userId))
+            .orderBy(friend.friend.id.asc());
+    }
+
+    private BooleanExpression gtCursorFriendId(Long cursorFriendId) {
+        return cursorFriendId == null ? null : QFriend.friend1.friend.id.gt(cursorFriendId);
     }
 }
@@ -0,0 +1,117 @@
+package com.clover.youngchat.domain.friend.search;
+
+import com.clover.youngchat.domain.friend.dto.response.FriendGetListRes;
+import com.clover.youngchat.domain.friend.dto.response.FriendGetSearchListRes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 사용자의 친구 이름 검색 인덱스. 이름마다 자모 분해 문자열과 초성 문자열을 미리 만들어 두고,
+ * 검색 시에는 분해된 문자열에서 부분 문자열을 찾는다.
+ * <p>
+ * 친구 목록은 수백 명 규모이므로 n-gram 역색인보다 미리 분해한 문자열을 순회하는 편이 빠르다.
+ * 친구 목록이 바뀌면 새로 만든다. ({@link #isBuiltFrom(List)})
+ */
+public final class FriendSearchIndex {
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_INFIX = 2;
+
+    private static final Comparator<Match> MATCH_ORDER = Comparator
+        .comparingInt(Match::getRank)
+        .thenComparingInt(Match::getPosition)
+        .thenComparingInt(match -> match.getEntry().getJamo().length())
+        .thenComparing(match -> match.getEntry().getJamo());
+
+    private final List<FriendGetListRes> source;
+    private final List<Entry> entries;
+
+    private FriendSearchIndex(List<FriendGetListRes> source, List<Entry> entries) {
+        this.source = source;
+        this.entries = entries;
+    }
+
+    public static FriendSearchIndex of(List<FriendGetListRes> friends) {
+        List<Entry> entries = new ArrayList<>(friends.size());
+        for (FriendGetListRes friend : friends) {
+            String username = friend.getUsername() == null ? "" : friend.getUsername();
+            entries.add(new Entry(friend, HangulJamo.decompose(username),
+                HangulJamo.choseong(username)));
+        }
+        return new FriendSearchIndex(friends, entries);
+    }
+
+    // L2(Redis) 에서 읽은 목록은 매번 새 인스턴스이므로 참조가 아닌 내용으로 비교한다.
+    public boolean isBuiltFrom(List<FriendGetListRes> friends) {
+        if (source == friends) {
+            return true;
+        }
+        if (source.size() != friends.size()) {
+            return false;
+        }
+        for (int i = 0; i < source.size(); i++) {
+            FriendGetListRes built = source.get(i);
+            FriendGetListRes friend = friends.get(i);
+            if (!Objects.equals(built.getUserId(), friend.getUserId())
+                || !Objects.equals(built.getUsername(), friend.getUsername())
+                || !Objects.equals(built.getProfileImage(), friend.getProfileImage())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 완전 일치, 접두 일치, 중간 일치 순으로 정렬해 반환한다. 자음만 입력하면 초성으로 찾는다.
+     */
+    public List<FriendGetSearchListRes> search(String keyword) {
+        String query = keyword == null ? "" : keyword.strip();
+        if (query.isEmpty()) {
+            return entries.stream().map(entry -> toRes(entry.getFriend())).toList();
+        }
+        boolean choseongQuery = HangulJamo.isChoseongOnly(query);
+        String needle = choseongQuery ? query : HangulJamo.decompose(query);
+
+        List<Match> matches = new ArrayList<>();
+        for (Entry entry : entries) {
+            String target = choseongQuery ? entry.getChoseong() : entry.getJamo();
+            int position = target.indexOf(needle);
+            if (position < 0) {
+                continue;
+            }
+            int rank = target.length() == needle.length() ? RANK_EXACT
+                : position == 0 ? RANK_PREFIX : RANK_INFIX;
+            matches.add(new Match(entry, rank, position));
+        }
+        matches.sort(MATCH_ORDER);
+        return matches.stream().map(match -> toRes(match.getEntry().getFriend())).toList();
+    }
+
+    private FriendGetSearchListRes toRes(FriendGetListRes friend) {
+        return new FriendGetSearchListRes(friend.getUserId(), friend.getUsername(),
+            friend.getProfileImage());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Entry {
+
+        private final FriendGetListRes friend;
+        private final String jamo;
+        private final String choseong;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Match {
+
+        private final Entry entry;
+        private final int rank;
+        private final int position;
+    }
+}
@@ -0,0 +1,76 @@
+package com.clover.youngchat.domain.friend.search;
+
+/**
+ * 한글 음절을 자모(호환용 자모) 단위로 분해한다. 완성되지 않은 입력("김ㅁ", "기")도 부분 문자열로
+ * 비교할 수 있도록 검색어와 이름을 같은 방식으로 분해해 쓴다.
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char CONSONANT_BEGIN = 'ㄱ';
+    private static final char CONSONANT_END = 'ㅎ';
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    // 0 번은 받침 없음
+    private static final char[] JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private HangulJamo() {
+    }
+
+    // "김민수" -> "ㄱㅣㅁㅁㅣㄴㅅㅜ", 한글이 아닌 문자는 소문자로 그대로 둔다.
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                sb.append(Character.toLowerCase(c));
+                continue;
+            }
+            int code = c - SYLLABLE_BEGIN;
+            sb.append(CHOSEONG[code / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            sb.append(JUNGSEONG[code % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT]);
+            int jongseong = code % JONGSEONG_COUNT;
+            if (jongseong != 0) {
+                sb.append(JONGSEONG[jongseong]);
+            }
+        }
+        return sb.toString();
+    }
+
+    // "김민수" -> "ㄱㅁㅅ"
+    public static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHOSEONG[(c - SYLLABLE_BEGIN) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+            } else {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 자음만으로 이루어진 검색어는 초성 검색으로 본다.
+    public static boolean isChoseongOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < CONSONANT_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
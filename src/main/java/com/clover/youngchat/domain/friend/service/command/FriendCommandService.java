@@ -5,15 +5,18 @@ import static com.clover.youngchat.global.exception.ResultCode.ALREADY_FRIEND;
 import static com.clover.youngchat.global.exception.ResultCode.INVALID_INPUT;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_USER;
 
+import com.clover.youngchat.domain.friend.cache.FriendListCache;
+import com.clover.youngchat.domain.friend.cache.FriendPairBloomFilter;
 import com.clover.youngchat.domain.friend.dto.response.FriendAddRes;
 import com.clover.youngchat.domain.friend.dto.response.FriendDeleteRes;
-import com.clover.youngchat.domain.friend.entity.Friend;
+import com.clover.youngchat.domain.friend.repository.FriendJdbcRepository;
 import com.clover.youngchat.domain.friend.repository.FriendRepository;
 import com.clover.youngchat.domain.user.entity.User;
-import com.clover.youngchat.domain.user.repository.UserRepository;
 import com.clover.youngchat.global.exception.GlobalException;
 import com.clover.youngchat.global.exception.ResultCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,35 +25,40 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class FriendCommandService {
 
-    private final UserRepository userRepository;
     private final FriendRepository friendRepository;
+    private final FriendJdbcRepository friendJdbcRepository;
+    private final FriendListCache friendListCache;
+    private final FriendPairBloomFilter friendPairBloomFilter;
 
 
     public FriendAddRes addFriend(Long friendId, User user) {
         if (user.getId().equals(friendId)) {
             throw new GlobalException(INVALID_INPUT);
         }
-        if (friendRepository.existsByUser_IdAndFriend_Id(user.getId(), friendId)) {
+        // bloom filter 가 없다고 하면 DB 를 확인하지 않고 바로 넣는다. 그 사이 추가된 관계는 PK 에 걸린다.
+        if (friendPairBloomFilter.mightBeFriend(user.getId(), friendId)
+            && friendRepository.existsByUser_IdAndFriend_Id(user.getId(), friendId)) {
             throw new GlobalException(ALREADY_FRIEND);
         }
-        User friendUser = userRepository.findById(friendId)
-            .orElseThrow(() -> new GlobalException(NOT_FOUND_USER));
-
-        Friend friend = Friend.builder()
-            .user(user)
-            .friend(friendUser)
-            .build();
-
-        friendRepository.save(friend);
+        try {
+            friendJdbcRepository.insertPair(user.getId(), friendId);
+        } catch (DuplicateKeyException e) {
+            throw new GlobalException(ALREADY_FRIEND);
+        } catch (DataIntegrityViolationException e) {
+            // 없는 사용자면 friend_id 의 FK 에 걸린다.
+            throw new GlobalException(NOT_FOUND_USER);
+        }
+        friendPairBloomFilter.add(user.getId(), friendId);
+        friendListCache.evict(user.getId());
 
         return new FriendAddRes();
     }
 
     public FriendDeleteRes deleteFriend(Long friendId, User user) {
-        if (!friendRepository.existsByUser_IdAndFriend_Id(user.getId(), friendId)) {
+        if (friendRepository.deleteByUser_IdAndFriend_Id(user.getId(), friendId) == 0) {
             throw new GlobalException(ResultCode.NOT_FOUND_FRIEND);
         }
-        friendRepository.deleteByFriend_Id(friendId);
+        friendListCache.evict(user.getId());
 
         return new FriendDeleteRes();
     }
@@ -1,15 +1,13 @@
 package com.clover.youngchat.domain.friend.service.query;
 
+import static com.clover.youngchat.domain.friend.constant.FriendConstant.FRIEND_LIMIT_SIZE;
+
+import com.clover.youngchat.domain.friend.cache.FriendListCache;
 import com.clover.youngchat.domain.friend.dto.response.FriendGetListRes;
 import com.clover.youngchat.domain.friend.dto.response.FriendGetSearchListRes;
-import com.clover.youngchat.domain.friend.entity.Friend;
 import com.clover.youngchat.domain.friend.repository.FriendRepository;
-import com.clover.youngchat.domain.user.entity.User;
-import com.clover.youngchat.domain.user.repository.UserRepository;
-import com.clover.youngchat.global.exception.GlobalException;
-import com.clover.youngchat.global.exception.ResultCode;
+import com.clover.youngchat.global.response.RestSlice;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,25 +17,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class FriendQueryService {
 
-    private final UserRepository userRepository;
     private final FriendRepository friendRepository;
+    private final FriendListCache friendListCache;
 
-    public List<FriendGetListRes> getFriendList(User user) {
-        List<Friend> friends = findByUser(user);
-
-        return friends.stream()
-            .map(friend -> FriendGetListRes.to(friend.getFriend().getId(),
-                friend.getFriend().getUsername(),
-                friend.getFriend().getProfileImage()))
-            .collect(Collectors.toList());
+    public List<FriendGetListRes> getFriendList(Long userId) {
+        return friendListCache.get(userId);
     }
 
-    public List<FriendGetSearchListRes> getFriendSearchList(String keyword, User user) {
-        return friendRepository.findFriendByKeyword(user.getId(), keyword);
+    public RestSlice<FriendGetListRes> getFriendSlice(Long userId, Long cursorFriendId) {
+        return friendRepository.findFriendsByUserId(userId, cursorFriendId,
+            FRIEND_LIMIT_SIZE);
     }
 
-    private List<Friend> findByUser(User user) {
-        return friendRepository.findByUser(user)
-            .orElseThrow(() -> new GlobalException(ResultCode.NOT_FOUND_FRIEND));
+    public List<FriendGetSearchListRes> getFriendSearchList(String keyword, Long userId) {
+        return friendListCache.getSearchIndex(userId).search(keyword);
     }
 }
@@ -0,0 +1,51 @@
+package com.clover.youngchat.domain.user.cache;
+
+import com.clover.youngchat.domain.user.repository.UserJdbcRepository;
+import com.clover.youngchat.global.bloom.ReplicatedBloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입된 이메일 bloom filter. MySQL 비교가 대소문자를 구분하지 않으므로 소문자로 맞춰 넣는다.
+ * <p>
+ * false 면 가입 시 DB 확인을 건너뛴다. 그 사이 가입된 이메일은 unique 제약(uk_users_email)으로 막는다.
+ */
+@Component
+public class UserEmailBloomFilter extends ReplicatedBloomFilter {
+
+    private final UserJdbcRepository userJdbcRepository;
+
+    public UserEmailBloomFilter(UserJdbcRepository userJdbcRepository,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        MeterRegistry meterRegistry,
+        @Value("${bloom.email.expected-insertions:1000000}") long expectedInsertions,
+        @Value("${bloom.email.fpp:0.01}") double fpp) {
+        super("email", expectedInsertions, fpp, stringRedisTemplate,
+            redisMessageListenerContainer, meterRegistry);
+        this.userJdbcRepository = userJdbcRepository;
+    }
+
+    // false 면 가입되지 않은 이메일이다. true 면 DB 로 확인해야 한다.
+    public boolean mightExist(String email) {
+        return mightContain(normalize(email));
+    }
+
+    public void add(String email) {
+        put(normalize(email));
+    }
+
+    @Override
+    protected void scan(Consumer<String> sink) {
+        userJdbcRepository.streamEmails(email -> sink.accept(normalize(email)));
+    }
+
+    private String normalize(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -42,7 +42,7 @@ public class UserController {
     @GetMapping("/profile")
     public RestResponse<UserProfileGetRes> getProfile(@RequestParam(required = false) Long userId,
         @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return RestResponse.success(userQueryService.getProfile(userId, userDetails.getUser()));
+        return RestResponse.success(userQueryService.getProfile(userId, userDetails.getUserId()));
     }
 
     @GetMapping(value = "/search", headers = "Keyword")
@@ -75,7 +75,7 @@ public class UserController {
         @AuthenticationPrincipal UserDetailsImpl userDetails) {
         return RestResponse.success(
             userCommandService.editProfile(userId, req, multipartFile,
-                userDetails.getUser().getId()));
+                userDetails.getUserId()));
     }
 
     @PatchMapping("/password")
@@ -83,7 +83,7 @@ public class UserController {
         @Valid @RequestBody UserUpdatePasswordReq userUpdatePasswordReq,
         @AuthenticationPrincipal UserDetailsImpl userDetails) {
         return RestResponse.success(
-            userCommandService.updatePassword(userDetails.getUser().getId(),
+            userCommandService.updatePassword(userDetails.getUserId(),
                 userUpdatePasswordReq));
     }
 
@@ -1,11 +1,11 @@
 package com.clover.youngchat.domain.user.entity;
 
 import com.clover.youngchat.domain.user.dto.request.UserProfileEditReq;
+import com.clover.youngchat.global.id.SnowflakeId;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,12 +13,13 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "users")
+@Table(name = "users",
+    uniqueConstraints = @UniqueConstraint(name = "uk_users_email", columnNames = "email"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     private String email;
@@ -0,0 +1,39 @@
+package com.clover.youngchat.domain.user.repository;
+
+import jakarta.annotation.PostConstruct;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class UserJdbcRepository {
+
+    private static final String SELECT_EMAILS_SQL = "SELECT email FROM users";
+
+    private final DataSource dataSource;
+
+    // MySQL Connector/J 는 fetch size 가 Integer.MIN_VALUE 일 때 한 행씩 스트리밍한다.
+    @Value("${bloom.scan.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    private JdbcTemplate streamingJdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void streamEmails(Consumer<String> consumer) {
+        streamingJdbcTemplate.query(SELECT_EMAILS_SQL, rs -> {
+            String email = rs.getString("email");
+            if (email != null) {
+                consumer.accept(email);
+            }
+        });
+    }
+}
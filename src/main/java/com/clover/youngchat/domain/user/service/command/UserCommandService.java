@@ -3,6 +3,7 @@ package com.clover.youngchat.domain.user.service.command;
 import static com.clover.youngchat.domain.user.constant.UserConstant.EMAIL_AUTHENTICATION;
 import static com.clover.youngchat.domain.user.constant.UserConstant.JPEG;
 import static com.clover.youngchat.domain.user.constant.UserConstant.PNG;
+import static com.clover.youngchat.global.cache.CacheNames.USER_PROFILE;
 import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
 import static com.clover.youngchat.global.exception.ResultCode.DUPLICATED_EMAIL;
 import static com.clover.youngchat.global.exception.ResultCode.INVALID_PROFILE_IMAGE_TYPE;
@@ -13,6 +14,9 @@ import static com.clover.youngchat.global.exception.ResultCode.SAME_OLD_PASSWORD
 import static com.clover.youngchat.global.exception.ResultCode.UNAUTHORIZED_EMAIL;
 
 import com.clover.youngchat.domain.auth.entity.EmailAuth;
+import com.clover.youngchat.domain.chat.service.command.ChatSenderProfileSyncBuffer;
+import com.clover.youngchat.domain.friend.cache.FriendListCache;
+import com.clover.youngchat.domain.user.cache.UserEmailBloomFilter;
 import com.clover.youngchat.domain.user.dto.request.UserEmailAuthCheckReq;
 import com.clover.youngchat.domain.user.dto.request.UserEmailAuthReq;
 import com.clover.youngchat.domain.user.dto.request.UserProfileEditReq;
@@ -32,6 +36,8 @@ import com.clover.youngchat.global.s3.S3Util.FilePath;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,6 +52,9 @@ public class UserCommandService {
     private final PasswordEncoder passwordEncoder;
     private final S3Util s3Util;
     private final EmailUtil emailUtil;
+    private final ChatSenderProfileSyncBuffer chatSenderProfileSyncBuffer;
+    private final FriendListCache friendListCache;
+    private final UserEmailBloomFilter userEmailBloomFilter;
 
     @Value("${default.image.url}")
     private String defaultProfileImageUrl;
@@ -62,11 +71,18 @@ public class UserCommandService {
             .profileImage(defaultProfileImageUrl)
             .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 이메일로 동시에 가입하면 unique 제약(uk_users_email)에 걸린다.
+            throw new GlobalException(DUPLICATED_EMAIL);
+        }
+        userEmailBloomFilter.add(user.getEmail());
 
         return new UserSignupRes();
     }
 
+    @CacheEvict(cacheNames = USER_PROFILE, key = "#userId")
     public UserProfileEditRes editProfile(Long userId, UserProfileEditReq req,
         MultipartFile multipartFile,
         Long authUserId) {
@@ -92,7 +108,13 @@ public class UserCommandService {
             profileImageUrl = s3Util.uploadFile(multipartFile, FilePath.PROFILE);
         }
 
+        boolean profileChanged = !Objects.equals(user.getUsername(), req.getUsername())
+            || !Objects.equals(user.getProfileImage(), profileImageUrl);
         user.updateProfile(req, profileImageUrl);
+        if (profileChanged) {
+            chatSenderProfileSyncBuffer.record(user);
+            friendListCache.evictContaining(user.getId());
+        }
 
         return new UserProfileEditRes();
     }
@@ -124,7 +146,10 @@ public class UserCommandService {
     }
 
     private void validateSignup(UserSignupReq req) {
-        if (userRepository.existsByEmail(req.getEmail())) {
+        // bloom filter 가 없다고 하면 DB 를 확인하지 않는다.
+        // 다른 노드의 가입이 아직 전달되지 않았다면 insert 가 unique 제약에 걸려 DUPLICATED_EMAIL 이 된다.
+        if (userEmailBloomFilter.mightExist(req.getEmail())
+            && userRepository.existsByEmail(req.getEmail())) {
             throw new GlobalException(DUPLICATED_EMAIL);
         }
 
@@ -1,15 +1,19 @@
 package com.clover.youngchat.domain.user.service.query;
 
+import static com.clover.youngchat.global.cache.CacheNames.USER_PROFILE;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_EMAIL;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_USER;
 
+import com.clover.youngchat.domain.user.cache.UserEmailBloomFilter;
 import com.clover.youngchat.domain.user.dto.response.UserEmailCheckRes;
 import com.clover.youngchat.domain.user.dto.response.UserProfileGetRes;
 import com.clover.youngchat.domain.user.dto.response.UserProfileSearchRes;
 import com.clover.youngchat.domain.user.entity.User;
 import com.clover.youngchat.domain.user.repository.UserRepository;
+import com.clover.youngchat.global.datasource.PrimaryReader;
 import com.clover.youngchat.global.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,18 +23,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserQueryService {
 
     private final UserRepository userRepository;
+    private final UserEmailBloomFilter userEmailBloomFilter;
+    private final PrimaryReader primaryReader;
 
-    public UserProfileGetRes getProfile(Long userId, User user) {
-        String email = null;
-
+    // 다른 사용자의 프로필(이메일 제외)만 캐시한다.
+    // 수정 직후 replica 의 이전 값으로 채우지 않도록 캐시할 값은 primary 에서 읽는다.
+    @Cacheable(cacheNames = USER_PROFILE, key = "#userId", condition = "#userId != null")
+    public UserProfileGetRes getProfile(Long userId, Long authUserId) {
         if (userId != null) {
-            user = userRepository.findById(userId)
-                .orElseThrow(() -> new GlobalException(NOT_FOUND_USER));
-        } else {
-            email = user.getEmail();
+            return primaryReader.read(() -> UserProfileGetRes.to(findById(userId), null));
         }
 
-        return UserProfileGetRes.to(user, email);
+        User user = findById(authUserId);
+        return UserProfileGetRes.to(user, user.getEmail());
     }
 
     public UserProfileSearchRes searchProfile(String email) {
@@ -40,8 +45,15 @@ public class UserQueryService {
         return UserProfileSearchRes.to(user);
     }
 
+    // 가입 전 안내용이므로 bloom filter 의 "없음" 을 그대로 쓴다. 가입은 unique 제약으로 막는다.
     public UserEmailCheckRes checkEmailDuplicated(final String email) {
-        return UserEmailCheckRes.to(userRepository.existsByEmail(email));
+        return UserEmailCheckRes.to(
+            userEmailBloomFilter.mightExist(email) && userRepository.existsByEmail(email));
+    }
+
+    private User findById(Long userId) {
+        return userRepository.findById(userId)
+            .orElseThrow(() -> new GlobalException(NOT_FOUND_USER));
     }
 
 }
@@ -0,0 +1,34 @@
+package com.clover.youngchat.global.bloom;
+
+/**
+ * bloom filter 에서 쓰는 두 개의 64bit 해시. i 번째 인덱스는 h1 + i * h2 로 만든다.
+ */
+final class BloomHash {
+
+    private BloomHash() {
+    }
+
+    static long h1(String key) {
+        return hash(key, 0xcbf29ce484222325L);
+    }
+
+    // 짝수면 일부 인덱스만 돌게 되므로 홀수로 만든다.
+    static long h2(String key) {
+        return hash(key, 0x84222325cbf29ce4L) | 1L;
+    }
+
+    // FNV-1a 뒤에 murmur3 의 finalizer 로 비트를 섞는다.
+    private static long hash(String key, long seed) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,86 @@
+package com.clover.youngchat.global.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 삭제를 지원하는 counting bloom filter. 비트 대신 4bit 카운터를 long 하나에 16개씩 담는다.
+ * <p>
+ * 카운터가 15 에 닿으면 더 이상 늘리거나 줄이지 않는다. (false negative 방지)
+ * remove 는 add 했던 키에만 호출해야 한다. 동시에 추가/삭제/조회해도 안전하다.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final int COUNTER_BITS = 4;
+    private static final long MAX_COUNT = 0xFL;
+
+    private final long numCounters;
+    private final int numHashes;
+    private final AtomicLongArray words;
+
+    public CountingBloomFilter(long expectedInsertions, double fpp) {
+        long capacity = Math.max(expectedInsertions, 1L);
+        long counters = (long) Math.ceil(
+            -capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.numCounters = Math.max(COUNTERS_PER_WORD,
+            (counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD * COUNTERS_PER_WORD);
+        this.numHashes = Math.max(1,
+            (int) Math.round((double) numCounters / capacity * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact(numCounters / COUNTERS_PER_WORD));
+    }
+
+    public void add(String key) {
+        long h1 = BloomHash.h1(key);
+        long h2 = BloomHash.h2(key);
+        for (int i = 0; i < numHashes; i++) {
+            update(index(h1, h2, i), 1);
+        }
+    }
+
+    public void remove(String key) {
+        long h1 = BloomHash.h1(key);
+        long h2 = BloomHash.h2(key);
+        for (int i = 0; i < numHashes; i++) {
+            update(index(h1, h2, i), -1);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = BloomHash.h1(key);
+        long h2 = BloomHash.h2(key);
+        for (int i = 0; i < numHashes; i++) {
+            if (count(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long h1, long h2, int i) {
+        return ((h1 + i * h2) & Long.MAX_VALUE) % numCounters;
+    }
+
+    private long count(long index) {
+        return (words.get((int) (index / COUNTERS_PER_WORD)) >>> shift(index)) & MAX_COUNT;
+    }
+
+    private void update(long index, int delta) {
+        int word = (int) (index / COUNTERS_PER_WORD);
+        int shift = shift(index);
+        long prev;
+        long next;
+        do {
+            prev = words.get(word);
+            long count = (prev >>> shift) & MAX_COUNT;
+            // 포화된 카운터는 실제 개수를 알 수 없으므로 고정한다.
+            if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+                return;
+            }
+            next = delta > 0 ? prev + (1L << shift) : prev - (1L << shift);
+        } while (!words.compareAndSet(word, prev, next));
+    }
+
+    private int shift(long index) {
+        return (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+    }
+}
@@ -0,0 +1,179 @@
+package com.clover.youngchat.global.bloom;
+
+import com.clover.youngchat.global.redis.PubSubHeartbeat;
+import com.clover.youngchat.global.redis.PubSubHeartbeat.Change;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * "없음" 응답이 대부분인 존재 확인 앞에 두는 노드별 bloom filter.
+ * <p>
+ * 기동 후 DB 전체를 스트리밍으로 읽어 채우고, 다 채우기 전에는 항상 "있을 수 있음" 을 반환해 DB 로 넘긴다.
+ * 추가는 Redis pub/sub(bloom:{name}) 으로 다른 노드에도 전달한다. 구독이 끊기면 그동안의 추가를 알 수 없으므로
+ * 다시 채울 때까지 "있을 수 있음" 을 반환하고, 놓친 메세지가 남지 않도록 주기적으로 새 filter 를 채워 교체한다.
+ * <p>
+ * 그래도 전달되기 전 잠깐 동안은 false negative 가 날 수 있으므로 "없음" 만으로 유일성을 판단하면 안 된다.
+ * "없음" 이면 DB 확인 없이 쓰되 유일성은 DB 제약으로 보장하고, 제약 위반을 중복으로 처리한다.
+ * "있을 수 있음" 은 반드시 DB 로 다시 확인한다.
+ */
+@Slf4j(topic = "bloom filter")
+public abstract class ReplicatedBloomFilter implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "bloom:";
+
+    private final String name;
+    private final long expectedInsertions;
+    private final double fpp;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean loaderRunning = new AtomicBoolean();
+
+    @Value("${bloom.heartbeat-timeout-ms:15000}")
+    private long heartbeatTimeoutMillis;
+
+    private PubSubHeartbeat heartbeat;
+    private volatile ScalableBloomFilter filter;
+    // 다시 채우는 중인 filter. 채우는 동안의 추가도 빠지지 않도록 양쪽에 넣는다.
+    private volatile ScalableBloomFilter next;
+    private volatile boolean ready;
+    private volatile boolean reloadRequested;
+
+    protected ReplicatedBloomFilter(String name, long expectedInsertions, double fpp,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.meterRegistry = meterRegistry;
+        this.filter = new ScalableBloomFilter(expectedInsertions, fpp);
+    }
+
+    /**
+     * DB 의 모든 키를 넘긴다. 결과를 메모리에 모으지 않도록 스트리밍으로 읽어야 한다.
+     */
+    protected abstract void scan(Consumer<String> sink);
+
+    @PostConstruct
+    public void init() {
+        heartbeat = new PubSubHeartbeat(CHANNEL_PREFIX + name, stringRedisTemplate,
+            heartbeatTimeoutMillis);
+        redisMessageListenerContainer.addMessageListener(this,
+            new ChannelTopic(CHANNEL_PREFIX + name));
+        Gauge.builder("bloom.filter.fpp", this, bloom -> bloom.filter.expectedFpp())
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("bloom.filter.size", this, bloom -> bloom.filter.approximateCount())
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    // 이미 채우는 중이면 끝난 뒤 한 번 더 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${bloom.rebuild-interval-ms:3600000}",
+        fixedDelayString = "${bloom.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        reloadRequested = true;
+        if (!loaderRunning.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                while (reloadRequested) {
+                    reloadRequested = false;
+                    load();
+                }
+            } finally {
+                loaderRunning.set(false);
+            }
+            if (reloadRequested) {
+                rebuild();
+            }
+        }, "bloom-" + name + "-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 구독이 끊기면 다시 이어질 때까지 DB 로 확인하고, 이어지면 놓친 추가가 있으므로 다시 채운다.
+    @Scheduled(fixedDelayString = "${bloom.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        Change change = heartbeat.beat();
+        if (change == Change.LOST) {
+            ready = false;
+        } else if (change == Change.RESTORED) {
+            rebuild();
+        }
+    }
+
+    void load() {
+        long startedAt = System.currentTimeMillis();
+        long lostCount = heartbeat.lostCount();
+        ScalableBloomFilter loaded = new ScalableBloomFilter(expectedInsertions, fpp);
+        next = loaded;
+        try {
+            scan(loaded::put);
+            filter = loaded;
+            // 채우는 동안 구독이 끊겼다면 이어진 뒤 다시 채울 때까지 믿지 않는다.
+            ready = heartbeat.isConnected() && heartbeat.lostCount() == lostCount;
+            log.info("bloom filter {} loaded {} keys in {} ms", name, loaded.approximateCount(),
+                System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 채우지 못하면 기존 filter 를 그대로 쓰고, 처음이라면 계속 DB 로 확인한다.
+            log.warn("failed to load bloom filter {}: {}", name, e.getMessage());
+        } finally {
+            next = null;
+        }
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    protected boolean mightContain(String key) {
+        return !ready || filter.mightContain(key);
+    }
+
+    // 로딩 중이어도 바로 넣는다. 스캔과 겹쳐 두 번 들어가도 결과는 같다.
+    protected void put(String key) {
+        add(key);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + name, key);
+        } catch (Exception e) {
+            log.warn("failed to publish to bloom filter {}: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (heartbeat.received(message.getBody())) {
+            return;
+        }
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 교체 중에도 빠지지 않도록 새 filter 에 먼저 넣는다. (교체는 filter 를 바꾼 뒤 next 를 비운다)
+    private void add(String key) {
+        ScalableBloomFilter loadingFilter = next;
+        if (loadingFilter != null) {
+            loadingFilter.put(key);
+        }
+        filter.put(key);
+    }
+}
@@ -0,0 +1,142 @@
+package com.clover.youngchat.global.bloom;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 원소 수를 미리 알 수 없을 때 쓰는 scalable bloom filter.
+ * <p>
+ * 현재 slice 가 용량에 닿으면 용량을 두 배로, 오탐률을 절반으로 줄인 slice 를 덧붙인다.
+ * 각 slice 의 오탐률 합이 목표 오탐률을 넘지 않도록 첫 slice 는 목표의 절반으로 만든다.
+ * 동시에 추가/조회해도 안전하며, 삭제는 지원하지 않는다.
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final List<Slice> slices = new CopyOnWriteArrayList<>();
+
+    public ScalableBloomFilter(long initialCapacity, double fpp) {
+        slices.add(new Slice(Math.max(initialCapacity, 1L), fpp * (1 - TIGHTENING_RATIO)));
+    }
+
+    public void put(String key) {
+        long h1 = BloomHash.h1(key);
+        long h2 = BloomHash.h2(key);
+        for (Slice slice : slices) {
+            // 이미 들어 있으면 새 slice 를 채우지 않는다.
+            if (slice.mightContain(h1, h2)) {
+                return;
+            }
+        }
+        current().put(h1, h2);
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = BloomHash.h1(key);
+        long h2 = BloomHash.h2(key);
+        for (Slice slice : slices) {
+            if (slice.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 현재 채워진 비트 비율로 추정한 오탐률
+    public double expectedFpp() {
+        double negative = 1.0;
+        for (Slice slice : slices) {
+            negative *= 1.0 - slice.expectedFpp();
+        }
+        return 1.0 - negative;
+    }
+
+    public long approximateCount() {
+        return slices.stream().mapToLong(slice -> slice.count.get()).sum();
+    }
+
+    public long bitSize() {
+        return slices.stream().mapToLong(slice -> slice.numBits).sum();
+    }
+
+    private Slice current() {
+        Slice last = slices.get(slices.size() - 1);
+        if (last.count.get() < last.capacity) {
+            return last;
+        }
+        synchronized (slices) {
+            last = slices.get(slices.size() - 1);
+            if (last.count.get() >= last.capacity) {
+                last = new Slice(last.capacity * GROWTH_FACTOR, last.fpp * TIGHTENING_RATIO);
+                slices.add(last);
+            }
+            return last;
+        }
+    }
+
+    private static class Slice {
+
+        private final long capacity;
+        private final double fpp;
+        private final long numBits;
+        private final int numHashes;
+        private final AtomicLongArray words;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong bitCount = new AtomicLong();
+
+        private Slice(long capacity, double fpp) {
+            this.capacity = capacity;
+            this.fpp = fpp;
+            long bits = (long) Math.ceil(-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            this.numBits = Math.max(64L, (bits + 63) / 64 * 64);
+            this.numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * Math.log(2)));
+            this.words = new AtomicLongArray(Math.toIntExact(numBits / 64));
+        }
+
+        private void put(long h1, long h2) {
+            boolean changed = false;
+            for (int i = 0; i < numHashes; i++) {
+                changed |= setBit(index(h1, h2, i));
+            }
+            if (changed) {
+                count.incrementAndGet();
+            }
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < numHashes; i++) {
+                long index = index(h1, h2, i);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private double expectedFpp() {
+            return Math.pow((double) bitCount.get() / numBits, numHashes);
+        }
+
+        private long index(long h1, long h2, int i) {
+            return ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+        }
+
+        private boolean setBit(long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long prev;
+            do {
+                prev = words.get(word);
+                if ((prev & mask) != 0) {
+                    return false;
+                }
+            } while (!words.compareAndSet(word, prev, prev | mask));
+            bitCount.incrementAndGet();
+            return true;
+        }
+    }
+}
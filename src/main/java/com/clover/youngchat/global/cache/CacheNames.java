@@ -0,0 +1,9 @@
+package com.clover.youngchat.global.cache;
+
+public class CacheNames {
+
+    public static final String USER_PROFILE = "userProfile";
+    public static final String CHAT_ROOM = "chatRoom";
+    public static final String FRIEND_LIST = "friendList";
+
+}
@@ -0,0 +1,29 @@
+package com.clover.youngchat.global.cache;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시별 로컬(L1) ttl/최대 개수와 Redis(L2) ttl.
+ * <p>
+ * 다른 노드의 변경은 pub/sub 으로 바로 무효화되므로, 로컬 ttl 은 메세지를 놓쳤을 때의 최대 지연이다.
+ * Redis ttl 은 무효화가 실패했을 때 이전 값이 남는 최대 시간이므로 짧게 둔다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CacheType {
+
+    USER_PROFILE(CacheNames.USER_PROFILE, Duration.ofMinutes(1), 10_000, Duration.ofMinutes(5)),
+    CHAT_ROOM(CacheNames.CHAT_ROOM, Duration.ofMinutes(1), 10_000, Duration.ofMinutes(5)),
+    FRIEND_LIST(CacheNames.FRIEND_LIST, Duration.ofSeconds(30), 10_000, Duration.ofMinutes(2));
+
+    // 위에 없는 이름으로 조회된 캐시
+    public static final Duration DEFAULT_LOCAL_TTL = Duration.ofSeconds(30);
+    public static final long DEFAULT_LOCAL_MAX_SIZE = 1_000;
+
+    private final String cacheName;
+    private final Duration localTtl;
+    private final long localMaxSize;
+    private final Duration redisTtl;
+}
@@ -0,0 +1,139 @@
+package com.clover.youngchat.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * 로컬 Caffeine(L1) 앞단 + Redis(L2) 캐시. L1 에 있으면 Redis 왕복과 역직렬화 없이 반환한다.
+ * <p>
+ * evict/clear 는 L1, L2 를 지우고 다른 노드의 L1 도 지우도록 무효화 메세지를 보낸다.
+ * put 은 DB 에서 막 읽은 값을 넣는 경우이므로 다른 노드에 알리지 않는다.
+ * Redis 장애 시에는 L1 과 DB 만으로 동작한다.
+ */
+@Slf4j(topic = "layered cache")
+public class LayeredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final org.springframework.cache.Cache redisCache;
+    private final Consumer<String> invalidationPublisher;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public LayeredCache(String name, Cache<String, Object> localCache,
+        org.springframework.cache.Cache redisCache, Consumer<String> invalidationPublisher,
+        MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.redisHitCounter = Counter.builder("cache.redis.gets")
+            .tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.redisMissCounter = Counter.builder("cache.redis.gets")
+            .tag("cache", name).tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        try {
+            ValueWrapper wrapper = redisCache.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                redisHitCounter.increment();
+                localCache.put(localKey, wrapper.get());
+                return wrapper.get();
+            }
+            redisMissCounter.increment();
+        } catch (Exception e) {
+            log.warn("failed to read {} of cache {} from redis: {}", key, name, e.getMessage());
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        localCache.put(localKey(key), value);
+        try {
+            redisCache.put(key, value);
+        } catch (Exception e) {
+            log.warn("failed to write {} of cache {} to redis: {}", key, name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        localCache.invalidate(localKey);
+        try {
+            redisCache.evict(key);
+        } catch (Exception e) {
+            log.warn("failed to evict {} of cache {} from redis: {}", key, name, e.getMessage());
+        }
+        invalidationPublisher.accept(localKey);
+    }
+
+    @Override
+    public void clear() {
+        localCache.invalidateAll();
+        try {
+            redisCache.clear();
+        } catch (Exception e) {
+            log.warn("failed to clear cache {} in redis: {}", name, e.getMessage());
+        }
+        invalidationPublisher.accept(null);
+    }
+
+    // 다른 노드에서 온 무효화. L2 는 보낸 쪽에서 이미 지웠다.
+    void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            localCache.invalidateAll();
+            return;
+        }
+        localCache.invalidate(localKey);
+    }
+
+    // Redis 키와 같은 규칙(문자열)으로 맞춰, 무효화 메세지로 받은 키로도 지울 수 있게 한다.
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
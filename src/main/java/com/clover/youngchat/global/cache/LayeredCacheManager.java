@@ -0,0 +1,109 @@
+package com.clover.youngchat.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 캐시 이름마다 {@link LayeredCache} 를 만든다. L2 는 넘겨받은 Redis CacheManager 의 캐시를 쓴다.
+ * <p>
+ * 무효화 메세지는 cache:invalidate 채널에 "{cacheName}:{key}" (clear 는 "{cacheName}") 로 보내고,
+ * 자신이 보낸 메세지도 받지만 로컬 캐시를 한 번 더 지울 뿐이다.
+ * 트랜잭션 안의 put/evict 는 커밋 이후에 반영된다.
+ */
+@Slf4j(topic = "layered cache")
+public class LayeredCacheManager extends AbstractTransactionSupportingCacheManager
+    implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private final CacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public LayeredCacheManager(CacheManager redisCacheManager,
+        StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return Arrays.stream(CacheType.values())
+            .map(type -> createCache(type.getCacheName(), type.getLocalTtl(),
+                type.getLocalMaxSize()))
+            .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name, CacheType.DEFAULT_LOCAL_TTL, CacheType.DEFAULT_LOCAL_MAX_SIZE);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        String name = separator < 0 ? body : body.substring(0, separator);
+        String key = separator < 0 ? null : body.substring(separator + 1);
+
+        // 아직 이 노드에서 쓰지 않은 캐시라면 지울 것도 없다.
+        LayeredCache cache = findLayeredCache(name);
+        if (cache == null) {
+            return;
+        }
+        cache.invalidateLocal(key);
+        Counter.builder("cache.invalidations")
+            .tag("cache", name)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    // 트랜잭션 지원 데코레이터로 감싸져 있으면 원본을 꺼낸다.
+    private LayeredCache findLayeredCache(String name) {
+        Cache cache = lookupCache(name);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return cache instanceof LayeredCache layeredCache ? layeredCache : null;
+    }
+
+    private LayeredCache createCache(String name, Duration localTtl, long localMaxSize) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+            .expireAfterWrite(localTtl)
+            .maximumSize(localMaxSize)
+            .recordStats()
+            .build();
+        // l1 hit/miss/eviction 은 cache.gets, cache.evictions 등으로 노출된다.
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, List.of());
+
+        Cache redisCache = redisCacheManager.getCache(name);
+        return new LayeredCache(name, localCache, redisCache,
+            key -> publishInvalidation(name, key), meterRegistry);
+    }
+
+    private void publishInvalidation(String name, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                key == null ? name : name + ":" + key);
+        } catch (Exception e) {
+            log.warn("failed to publish invalidation of cache {}: {}", name, e.getMessage());
+        }
+    }
+}
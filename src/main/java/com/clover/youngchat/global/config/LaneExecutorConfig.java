@@ -0,0 +1,50 @@
+package com.clover.youngchat.global.config;
+
+import com.clover.youngchat.global.executor.OrderedLaneExecutor;
+import com.clover.youngchat.global.executor.OrderedLaneExecutor.OverflowPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LaneExecutorConfig implements DisposableBean {
+
+    // 기본은 꺼 두고, 켜면 같은 채팅방의 전송을 lane 순서대로 처리한다.
+    @Value("${chat.lane.enabled:false}")
+    private boolean enabled;
+
+    // 0 이면 CPU 코어 수만큼 lane 을 만든다.
+    @Value("${chat.lane.count:0}")
+    private int laneCount;
+
+    @Value("${chat.lane.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${chat.lane.overflow-policy:BLOCK}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${chat.lane.offer-timeout-ms:200}")
+    private long offerTimeoutMillis;
+
+    @Value("${chat.lane.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMillis;
+
+    private OrderedLaneExecutor chatLaneExecutor;
+
+    @Bean
+    public OrderedLaneExecutor chatLaneExecutor(MeterRegistry meterRegistry) {
+        int lanes = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors();
+        chatLaneExecutor = new OrderedLaneExecutor("chat", enabled, lanes, queueCapacity,
+            overflowPolicy, offerTimeoutMillis, meterRegistry);
+        return chatLaneExecutor;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (chatLaneExecutor != null) {
+            chatLaneExecutor.shutdown(shutdownTimeoutMillis);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.clover.youngchat.global.config;
 
+import com.clover.youngchat.global.id.SnowflakeIdModule;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -10,6 +11,7 @@ import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
@@ -42,6 +44,9 @@ public class RabbitConfig {
     @Value("${rabbitmq.routing.key}")
     private String routingKey;
 
+    @Value("${rabbitmq.channel-cache-size:25}")
+    private int channelCacheSize;
+
 
     @Bean
     public Queue queue() {
@@ -74,6 +79,9 @@ public class RabbitConfig {
         factory.setUsername(rabbitmqUsername);
         factory.setPassword(rabbitmqPassword);
         factory.setVirtualHost("/");
+        // AsyncRabbitPublisher 가 CorrelationData 로 confirm 을 추적한다.
+        factory.setPublisherConfirmType(ConfirmType.CORRELATED);
+        factory.setChannelCacheSize(channelCacheSize);
         return factory;
     }
 
@@ -82,6 +90,8 @@ public class RabbitConfig {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, true);
         objectMapper.registerModule(dateTimeModule());
+        // STOMP 로 클라이언트에 바로 전달되므로 HTTP 응답과 같은 id 표현을 쓴다.
+        objectMapper.registerModule(new SnowflakeIdModule());
         return new Jackson2JsonMessageConverter(objectMapper);
     }
 
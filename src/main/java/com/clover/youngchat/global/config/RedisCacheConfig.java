@@ -1,10 +1,15 @@
 package com.clover.youngchat.global.config;
 
+import com.clover.youngchat.global.cache.CacheType;
+import com.clover.youngchat.global.cache.LayeredCacheManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -12,6 +17,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -21,7 +29,10 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class RedisCacheConfig {
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+        StringRedisTemplate stringRedisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        MeterRegistry meterRegistry) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(typeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
@@ -35,11 +46,26 @@ public class RedisCacheConfig {
                 genericJackson2JsonRedisSerializer))
             .entryTtl(Duration.ofMinutes(3L));
 
-        return RedisCacheManager
+        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            cacheConfigurations.put(cacheType.getCacheName(),
+                redisCacheConfiguration.entryTtl(cacheType.getRedisTtl()));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
             .RedisCacheManagerBuilder
             .fromConnectionFactory(redisConnectionFactory)
             .cacheDefaults(redisCacheConfiguration)
+            .withInitialCacheConfigurations(cacheConfigurations)
             .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 로컬 캐시를 앞에 두고, 다른 노드의 변경은 pub/sub 으로 받아 로컬 캐시를 지운다.
+        LayeredCacheManager layeredCacheManager = new LayeredCacheManager(redisCacheManager,
+            stringRedisTemplate, meterRegistry);
+        redisMessageListenerContainer.addMessageListener(layeredCacheManager,
+            new ChannelTopic(LayeredCacheManager.INVALIDATION_CHANNEL));
+        return layeredCacheManager;
     }
 
     private PolymorphicTypeValidator typeValidator() {
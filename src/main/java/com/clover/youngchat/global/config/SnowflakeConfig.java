@@ -0,0 +1,36 @@
+package com.clover.youngchat.global.config;
+
+import com.clover.youngchat.global.id.SnowflakeIdGenerator;
+import com.clover.youngchat.global.id.SnowflakeIdModule;
+import com.clover.youngchat.global.id.SnowflakeIdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SnowflakeConfig {
+
+    // 배포되는 인스턴스마다 서로 다른 값(0 ~ 1023)을 지정해야 한다.
+    @Value("${snowflake.node-id:0}")
+    private long nodeId;
+
+    // EntityManagerFactory 보다 먼저 생성되도록 하여 첫 insert 전에 generator 가 등록되게 한다.
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor snowflakeDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor("snowflakeIdGenerator");
+    }
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(nodeId);
+        SnowflakeIdentifierGenerator.install(generator);
+        return generator;
+    }
+
+    // Spring 이 만드는 ObjectMapper 에 Module 빈으로 등록되어 HTTP 응답과 Redis 캐시 JSON 에 적용된다.
+    @Bean
+    public SnowflakeIdModule snowflakeIdModule() {
+        return new SnowflakeIdModule();
+    }
+}
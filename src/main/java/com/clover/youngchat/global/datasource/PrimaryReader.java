@@ -0,0 +1,28 @@
+package com.clover.youngchat.global.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시를 채우는 조회를 primary 에서 실행한다.
+ * <p>
+ * readOnly 트랜잭션은 replica 로 가므로, 변경 직후 캐시가 지워진 사이에 replica 지연으로 이전 값을 읽어
+ * 다시 채우면 ttl 동안 이전 값이 남는다. 조회하는 동안만 라우팅을 primary 로 고정한다.
+ * <p>
+ * 새 트랜잭션을 열지 않으므로 커넥션을 하나만 쓴다. 커넥션은 첫 쿼리에서 정해지므로(LazyConnectionDataSourceProxy)
+ * 호출하는 트랜잭션이 이미 replica 에서 쿼리를 실행했다면 그 커넥션을 그대로 쓴다. 캐시 조회는 트랜잭션의
+ * 첫 쿼리보다 먼저 하도록 둔다.
+ */
+@Component
+public class PrimaryReader {
+
+    public <T> T read(Supplier<T> query) {
+        boolean forced = TransactionRoutingDataSource.isPrimaryForced();
+        TransactionRoutingDataSource.forcePrimary(true);
+        try {
+            return query.get();
+        } finally {
+            TransactionRoutingDataSource.forcePrimary(forced);
+        }
+    }
+}
@@ -7,12 +7,30 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 public class TransactionRoutingDataSource extends AbstractRoutingDataSource {
 
+    // readOnly 트랜잭션 안에서도 primary 로 보내야 하는 조회 (PrimaryReader)
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    static void forcePrimary(boolean forced) {
+        if (forced) {
+            PRIMARY_FORCED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+
     @Nullable
     @Override
     protected Object determineCurrentLookupKey() {
+        if (isPrimaryForced()) {
+            return DataSourceType.READ_WRITE;
+        }
         return TransactionSynchronizationManager
             .isCurrentTransactionReadOnly() ?
             DataSourceType.READ_ONLY :
             DataSourceType.READ_WRITE;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.clover.youngchat.global.dedupe;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 window 동안 추가된 key 만 기억하는 집합.
+ * <p>
+ * window 를 bucketCount 개의 시간 구간으로 나누고, 오래된 구간은 통째로 교체하여 별도의 만료 처리 없이
+ * 메모리를 회수한다. key 는 최소 window - bucket 길이, 최대 window 동안 유지된다.
+ */
+public class TimeBucketedSet {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public TimeBucketedSet(long windowMillis, int bucketCount) {
+        if (bucketCount < 2 || windowMillis < bucketCount) {
+            throw new IllegalArgumentException(
+                "invalid window " + windowMillis + "ms with " + bucketCount + " buckets");
+        }
+        this.bucketMillis = windowMillis / bucketCount;
+        this.bucketCount = bucketCount;
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    public boolean contains(String key, long nowMillis) {
+        long current = nowMillis / bucketMillis;
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && current - bucket.epoch < bucketCount
+                && bucket.keys.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void add(String key, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        currentBucket(epoch).keys.add(key);
+    }
+
+    public void remove(String key) {
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null) {
+                bucket.keys.remove(key);
+            }
+        }
+    }
+
+    private Bucket currentBucket(long epoch) {
+        int index = (int) (epoch % bucketCount);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch == epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static class Bucket {
+
+        private final long epoch;
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
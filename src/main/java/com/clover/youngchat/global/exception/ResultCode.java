@@ -34,6 +34,7 @@ public enum ResultCode {
 
     // 채팅 4000번대
     NOT_FOUND_CHAT(HttpStatus.NOT_FOUND, 4000, "채팅을 찾을 수 없습니다."),
+    CHAT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 4001, "요청이 많아 채팅을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 친구 5000번대
     NOT_FOUND_FRIEND(HttpStatus.NOT_FOUND, 5000, "친구를 찾을 수 없습니다."),
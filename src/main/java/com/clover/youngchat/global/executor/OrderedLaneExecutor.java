@@ -0,0 +1,208 @@
+package com.clover.youngchat.global.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * key 를 N 개의 단일 스레드 lane 에 해시하여 실행한다.
+ * <p>
+ * 같은 key 의 작업은 제출된 순서대로 한 lane 에서 실행되고, 서로 다른 key 는 여러 lane 으로 분산된다.
+ * lane 큐가 가득 찼을 때의 동작은 {@link OverflowPolicy} 로 정한다.
+ * <p>
+ * 종료 시에는 worker 를 interrupt 하지 않고 큐 끝에 종료 표시를 넣는다. 실행 중인 작업이 Redis 호출
+ * 도중에 끊기지 않고, 종료 표시 앞에 쌓인 작업은 모두 처리된다.
+ */
+@Slf4j(topic = "ordered lane executor")
+public class OrderedLaneExecutor {
+
+    // lane 큐 끝에 넣어 worker 를 멈추는 종료 표시
+    private static final TimedTask STOP = new TimedTask(() -> { }, 0);
+
+    private final String name;
+    private final boolean enabled;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutMillis;
+    private final Lane[] lanes;
+
+    private volatile boolean running = true;
+
+    public OrderedLaneExecutor(String name, boolean enabled, int laneCount, int queueCapacity,
+        OverflowPolicy overflowPolicy, long offerTimeoutMillis, MeterRegistry meterRegistry) {
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException("lane count must be positive: " + laneCount);
+        }
+        this.name = name;
+        this.enabled = enabled;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.lanes = new Lane[enabled ? laneCount : 0];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i, queueCapacity, meterRegistry);
+        }
+    }
+
+    public void execute(long key, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return;
+        }
+        if (!running) {
+            throw new RejectedExecutionException(name + " is shutting down");
+        }
+        lanes[laneOf(key)].submit(task);
+    }
+
+    public int laneOf(long key) {
+        return (int) Long.remainderUnsigned(mix(key), lanes.length);
+    }
+
+    public void shutdown(long timeoutMillis) throws InterruptedException {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Lane lane : lanes) {
+            // 큐가 가득 차 있으면 worker 가 자리를 비울 때까지 기다린다.
+            if (!lane.queue.offer(STOP, remainingMillis(deadline), TimeUnit.MILLISECONDS)) {
+                log.warn("{} lane {} did not accept stop signal within timeout", name,
+                    lane.index);
+            }
+        }
+        for (Lane lane : lanes) {
+            lane.worker.join(remainingMillis(deadline));
+            if (lane.worker.isAlive()) {
+                log.warn("{} lane {} did not finish within timeout, {} tasks left", name,
+                    lane.index, lane.queue.size());
+            } else if (!lane.queue.isEmpty()) {
+                // 종료 표시와 경합해 뒤에 들어온 작업
+                log.warn("{} lane {} dropped {} tasks on shutdown", name, lane.index,
+                    lane.queue.size());
+            }
+        }
+    }
+
+    private static long remainingMillis(long deadlineNanos) {
+        return Math.max(TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()), 1);
+    }
+
+    // Snowflake id 처럼 하위 비트가 고르지 않은 key 도 고르게 분산되도록 섞는다. (murmur3 fmix64)
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    public enum OverflowPolicy {
+        // offer-timeout 동안 기다린 뒤에도 자리가 없으면 거절한다.
+        BLOCK,
+        // 즉시 거절한다.
+        REJECT,
+        // 호출 스레드에서 실행한다. 유실은 없지만 해당 작업의 순서 보장은 깨진다.
+        CALLER_RUNS
+    }
+
+    private class Lane {
+
+        private final int index;
+        private final BlockingQueue<TimedTask> queue;
+        private final Thread worker;
+        private final Timer waitTimer;
+        private final Counter rejectedCounter;
+        private final Counter callerRunsCounter;
+
+        private Lane(int index, int queueCapacity, MeterRegistry meterRegistry) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+            Tags tags = Tags.of(Tag.of("executor", name), Tag.of("lane", String.valueOf(index)));
+            Gauge.builder("executor.lane.queue.depth", queue, BlockingQueue::size)
+                .tags(tags)
+                .register(meterRegistry);
+            this.waitTimer = Timer.builder("executor.lane.wait")
+                .tags(tags)
+                .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("executor.lane.rejected")
+                .tags(tags)
+                .register(meterRegistry);
+            this.callerRunsCounter = Counter.builder("executor.lane.caller_runs")
+                .tags(tags)
+                .register(meterRegistry);
+
+            this.worker = new Thread(this::runLoop, name + "-lane-" + index);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        private void submit(Runnable task) {
+            TimedTask timedTask = new TimedTask(task, System.nanoTime());
+            if (queue.offer(timedTask)) {
+                return;
+            }
+            switch (overflowPolicy) {
+                case CALLER_RUNS -> {
+                    callerRunsCounter.increment();
+                    task.run();
+                }
+                case BLOCK -> {
+                    try {
+                        if (queue.offer(timedTask, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                            return;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    reject();
+                }
+                default -> reject();
+            }
+        }
+
+        private void reject() {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException(name + " lane " + index + " is full");
+        }
+
+        private void runLoop() {
+            while (true) {
+                TimedTask timedTask;
+                try {
+                    timedTask = queue.take();
+                } catch (InterruptedException e) {
+                    log.warn("{} lane {} interrupted, {} tasks left", name, index, queue.size());
+                    return;
+                }
+                if (timedTask == STOP) {
+                    return;
+                }
+                waitTimer.record(System.nanoTime() - timedTask.enqueuedAtNanos,
+                    TimeUnit.NANOSECONDS);
+                try {
+                    timedTask.task.run();
+                } catch (Exception e) {
+                    log.error("{} lane {} task failed: {}", name, index, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private static class TimedTask {
+
+        private final Runnable task;
+        private final long enqueuedAtNanos;
+
+        private TimedTask(Runnable task, long enqueuedAtNanos) {
+            this.task = task;
+            this.enqueuedAtNanos = enqueuedAtNanos;
+        }
+    }
+}
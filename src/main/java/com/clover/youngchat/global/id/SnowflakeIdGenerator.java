@@ -0,0 +1,74 @@
+package com.clover.youngchat.global.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 64bit 시간순 ID 생성기.
+ * <pre>
+ * | 1bit sign(0) | 41bit timestamp(ms, EPOCH 기준) | 10bit node | 12bit sequence |
+ * </pre>
+ * 마지막 timestamp 와 sequence 를 하나의 AtomicLong 에 담아 CAS 로 갱신하므로 lock 없이 동작한다.
+ */
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    // (timestamp << SEQUENCE_BITS) | sequence
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                "snowflake node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long now = System.currentTimeMillis() - EPOCH;
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((current & MAX_SEQUENCE) < MAX_SEQUENCE) {
+                // 같은 ms 이거나 시계가 뒤로 간 경우 마지막 timestamp 를 유지하며 sequence 만 올린다.
+                next = current + 1;
+            } else {
+                // sequence 소진: 다음 ms 까지 대기
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+                    | (nodeId << SEQUENCE_BITS)
+                    | (next & MAX_SEQUENCE);
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    // 해당 시각 이전에 생성된 모든 ID 보다 큰 가장 작은 ID (cursor 비교용)
+    public static long minIdAt(long epochMillis) {
+        return (epochMillis - EPOCH) << TIMESTAMP_SHIFT;
+    }
+}
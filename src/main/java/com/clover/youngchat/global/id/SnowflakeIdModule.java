@@ -0,0 +1,84 @@
+package com.clover.youngchat.global.id;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Snowflake id 는 2^53 을 넘으므로 JS 클라이언트에서 정밀도가 깨지지 않도록 문자열로 내보낸다.
+ * <p>
+ * 이름이 id, ~Id 인 Long 필드와 ~Ids 인 Long 컬렉션 필드가 대상이다.
+ * 요청 본문은 Jackson 이 숫자 문자열을 Long 으로 바꿔 주므로 숫자와 문자열 모두 받는다.
+ */
+public class SnowflakeIdModule extends SimpleModule {
+
+    public SnowflakeIdModule() {
+        super("SnowflakeIdModule");
+        setSerializerModifier(new IdSerializerModifier());
+    }
+
+    static boolean isIdProperty(String name) {
+        return name.equals("id") || name.endsWith("Id");
+    }
+
+    static boolean isIdListProperty(String name) {
+        return name.equals("ids") || name.endsWith("Ids");
+    }
+
+    private static class IdSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+            BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+            for (BeanPropertyWriter writer : beanProperties) {
+                JavaType type = writer.getType();
+                String name = writer.getName();
+                if (isLong(type) && isIdProperty(name)) {
+                    writer.assignSerializer(ToStringSerializer.instance);
+                } else if (type.isCollectionLikeType() && isLong(type.getContentType())
+                    && isIdListProperty(name)) {
+                    writer.assignSerializer(IdCollectionSerializer.INSTANCE);
+                }
+            }
+            return beanProperties;
+        }
+
+        private boolean isLong(JavaType type) {
+            return type.hasRawClass(Long.class) || type.hasRawClass(long.class);
+        }
+    }
+
+    private static class IdCollectionSerializer extends StdSerializer<Object> {
+
+        private static final IdCollectionSerializer INSTANCE = new IdCollectionSerializer();
+
+        private IdCollectionSerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+            Collection<?> ids = (Collection<?>) value;
+            gen.writeStartArray(value, ids.size());
+            for (Object id : ids) {
+                if (id == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeString(id.toString());
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+}
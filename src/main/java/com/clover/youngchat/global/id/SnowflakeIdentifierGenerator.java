@@ -0,0 +1,39 @@
+package com.clover.youngchat.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Hibernate 가 직접 생성하는 클래스라 Spring Bean 을 주입받을 수 없으므로, SnowflakeConfig 에서 등록한
+ * 노드 공용 {@link SnowflakeIdGenerator} 에 위임한다.
+ */
+@Slf4j(topic = "SnowflakeIdentifierGenerator")
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    private static volatile SnowflakeIdGenerator delegate;
+
+    public static void install(SnowflakeIdGenerator generator) {
+        delegate = generator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return delegate().nextId();
+    }
+
+    private static SnowflakeIdGenerator delegate() {
+        SnowflakeIdGenerator generator = delegate;
+        if (generator == null) {
+            synchronized (SnowflakeIdentifierGenerator.class) {
+                if (delegate == null) {
+                    // SnowflakeConfig 가 없는 slice 테스트 등에서만 사용된다.
+                    log.warn("snowflake generator is not installed, falling back to node 0");
+                    delegate = new SnowflakeIdGenerator(0);
+                }
+                generator = delegate;
+            }
+        }
+        return generator;
+    }
+}
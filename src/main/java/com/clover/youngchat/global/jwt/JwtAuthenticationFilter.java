@@ -62,7 +62,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         User user = ((UserDetailsImpl) authResult.getPrincipal()).getUser();
 
-        String accessToken = jwtUtil.createAccessToken(user.getEmail());
+        String accessToken = jwtUtil.createAccessToken(user.getId(), user.getEmail(),
+            user.getUsername());
         String refreshToken = jwtUtil.createRefreshToken();
 
         response.addHeader(JwtUtil.ACCESS_TOKEN_HEADER, accessToken);
@@ -4,11 +4,15 @@ import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
 import static com.clover.youngchat.global.jwt.JwtUtil.ACCESS_TOKEN_HEADER;
 import static com.clover.youngchat.global.jwt.JwtUtil.BEARER_PREFIX;
 import static com.clover.youngchat.global.jwt.JwtUtil.REFRESH_TOKEN_HEADER;
+import static com.clover.youngchat.global.jwt.JwtUtil.USERNAME_KEY;
+import static com.clover.youngchat.global.jwt.JwtUtil.USER_ID_KEY;
 
 import com.clover.youngchat.domain.auth.service.BlacklistService;
 import com.clover.youngchat.global.exception.GlobalException;
 import com.clover.youngchat.global.redis.RedisUtil;
+import com.clover.youngchat.global.security.UserDetailsImpl;
 import com.clover.youngchat.global.security.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -48,12 +52,15 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             throw new GlobalException(ACCESS_DENY);
         }
 
-        if (!jwtUtil.validateToken(accessToken)) {
+        // 서명 검증은 요청당 한 번, 최근에 검증한 토큰은 캐시된 claims 를 쓴다.
+        Claims claims = jwtUtil.getVerifiedClaims(accessToken);
+        if (claims == null) {
             accessToken = createNewAccessToken(refreshToken);
             response.addHeader("AccessToken", BEARER_PREFIX + accessToken);
+            claims = jwtUtil.getVerifiedClaims(accessToken);
         }
         try {
-            setAuthentication(jwtUtil.getUserInfoFromToken(accessToken));
+            setAuthentication(claims);
         } catch (Exception e) {
             log.error(e.getMessage());
             return;
@@ -62,9 +69,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    public void setAuthentication(String email) {
+    public void setAuthentication(Claims claims) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(email);
+        Authentication authentication = createAuthentication(claims);
         context.setAuthentication(authentication);
 
         SecurityContextHolder.setContext(context);
@@ -77,15 +84,24 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         }
         if (StringUtils.hasText(refreshToken) && jwtUtil.validateToken(refreshToken)) {
             String email = (String) redisUtil.get(refreshToken);
-            newAccessToken = jwtUtil.createAccessToken(email)
+            UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(
+                email);
+            newAccessToken = jwtUtil.createAccessToken(userDetails.getUserId(), email,
+                    userDetails.getUsername())
                 .split(" ")[1].trim();
         }
 
         return newAccessToken;
     }
 
-    private Authentication createAuthentication(String email) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    // userId claim 이 없는 이전 토큰만 사용자를 조회한다.
+    private Authentication createAuthentication(Claims claims) {
+        Long userId = claims.get(USER_ID_KEY, Long.class);
+        UserDetails userDetails = userId == null
+            ? userDetailsService.loadUserByUsername(claims.getSubject())
+            : UserDetailsImpl.of(userId, claims.getSubject(),
+                claims.get(USERNAME_KEY, String.class),
+                () -> userDetailsService.loadUserById(userId));
         return new UsernamePasswordAuthenticationToken(userDetails, null,
             userDetails.getAuthorities());
     }
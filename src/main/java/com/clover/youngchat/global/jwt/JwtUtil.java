@@ -1,7 +1,11 @@
 package com.clover.youngchat.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -9,9 +13,16 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -24,6 +35,8 @@ public class JwtUtil {
     public static final String ACCESS_TOKEN_HEADER = "AccessToken";
     public static final String REFRESH_TOKEN_HEADER = "RefreshToken";
     public static final String AUTHORIZATION_KEY = "auth";
+    public static final String USER_ID_KEY = "uid";
+    public static final String USERNAME_KEY = "username";
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String AUTHORITY = "ROLE_USER";
     public static final long ACCESS_TOKEN_TIME = 60 * 30 * 1000;
@@ -32,21 +45,36 @@ public class JwtUtil {
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
     @Value("${jwt.secret.key}")
     private String secretKey;
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+    @Value("${jwt.claims-cache.max-ttl-seconds:60}")
+    private long claimsCacheMaxTtlSeconds;
     private Key key;
+    // 빌드된 parser 는 thread-safe 하므로 하나를 재사용한다.
+    private JwtParser jwtParser;
+    private Cache<ByteBuffer, Claims> claimsCache;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        claimsCache = Caffeine.newBuilder()
+            .maximumSize(claimsCacheMaxSize)
+            .expireAfter(new ClaimsExpiry(Duration.ofSeconds(claimsCacheMaxTtlSeconds)))
+            .build();
     }
 
-    public String createAccessToken(String email) {
+    // 요청마다 사용자를 조회하지 않도록 userId, username 을 함께 담는다.
+    public String createAccessToken(Long userId, String email, String username) {
         Date date = new Date();
 
         return BEARER_PREFIX +
             Jwts.builder()
                 .setSubject(email)
                 .claim(AUTHORIZATION_KEY, AUTHORITY)
+                .claim(USER_ID_KEY, userId)
+                .claim(USERNAME_KEY, username)
                 .setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME))
                 .setIssuedAt(date)
                 .signWith(key, signatureAlgorithm)
@@ -73,9 +101,32 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
+        return parse(token) != null;
+    }
+
+    /**
+     * 서명과 만료를 검증한 claims 를 반환하고, 유효하지 않으면 null 을 반환한다.
+     * 최근에 검증한 토큰은 토큰 해시로 캐시해 두고 만료 시각까지만 재사용한다.
+     */
+    public Claims getVerifiedClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        ByteBuffer tokenHash = hash(token);
+        Claims claims = claimsCache.getIfPresent(tokenHash);
+        if (claims != null) {
+            return claims;
+        }
+        claims = parse(token);
+        if (claims != null && claims.getExpiration() != null) {
+            claimsCache.put(tokenHash, claims);
+        }
+        return claims;
+    }
+
+    private Claims parse(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
@@ -85,20 +136,14 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
-    }
-
-    public String getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody()
-            .getSubject();
+        return null;
     }
 
     public long getExpirationSecondsFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build().
-            parseClaimsJws(token)
-            .getBody();
+        Claims claims = getVerifiedClaims(token);
+        if (claims == null) {
+            return 0;
+        }
 
         long expirationMillis = claims.getExpiration().getTime();
         long currentMillis = System.currentTimeMillis();
@@ -106,4 +151,38 @@ public class JwtUtil {
         return (expirationMillis - currentMillis) / MILLISECONDS_TO_SECONDS;
     }
 
-}
\ No newline at end of file
+    private ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 토큰 만료 시각과 max-ttl 중 먼저 오는 시점에 캐시에서 제거한다.
+    @RequiredArgsConstructor
+    private static class ClaimsExpiry implements Expiry<ByteBuffer, Claims> {
+
+        private final Duration maxTtl;
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, Math.min(remainingMillis, maxTtl.toMillis())));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime,
+            long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.clover.youngchat.global.rabbit;
+
+import com.clover.youngchat.global.executor.OrderedLaneExecutor;
+import com.clover.youngchat.global.executor.OrderedLaneExecutor.OverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP 수신 스레드를 막지 않는 비동기 RabbitMQ 발행기.
+ * <p>
+ * routing key 를 단일 스레드 lane 에 해시하여 같은 채팅방(routing key)의 프레임은 제출된 순서대로
+ * 발행한다. lane 은 발행한 프레임의 publisher confirm 을 기다린 뒤 다음 작업으로 넘어가며,
+ * nack 이나 confirm timeout 이 나면 같은 lane 에서 backoff 후 재발행한다. 재발행이 뒤에 들어온
+ * 프레임보다 늦게 나가지 않도록 재시도 동안 lane 을 막는다.
+ * lane 큐가 가득 차면 호출 스레드를 막지 않고 즉시 실패한 future 를 반환한다.
+ */
+@Slf4j(topic = "async rabbit publisher")
+@Component
+@RequiredArgsConstructor
+public class AsyncRabbitPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rabbitmq.publisher.async.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rabbitmq.publisher.threads:4}")
+    private int threads;
+
+    // lane 하나당 큐 크기
+    @Value("${rabbitmq.publisher.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${rabbitmq.publisher.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${rabbitmq.publisher.retry-backoff-ms:200}")
+    private long retryBackoffMillis;
+
+    @Value("${rabbitmq.publisher.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMillis;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private OrderedLaneExecutor publishLanes;
+
+    private Timer confirmTimer;
+    private Counter nackCounter;
+    private Counter retryCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        publishLanes = new OrderedLaneExecutor("rabbit-publisher", true, threads, queueCapacity,
+            OverflowPolicy.REJECT, 0, meterRegistry);
+
+        Gauge.builder("rabbit.publish.in_flight", inFlight, AtomicInteger::get)
+            .register(meterRegistry);
+        confirmTimer = Timer.builder("rabbit.publish.confirm.latency")
+            .register(meterRegistry);
+        nackCounter = Counter.builder("rabbit.publish.nacked").register(meterRegistry);
+        retryCounter = Counter.builder("rabbit.publish.retried").register(meterRegistry);
+        failedCounter = Counter.builder("rabbit.publish.failed").register(meterRegistry);
+        rejectedCounter = Counter.builder("rabbit.publish.rejected").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        // 재시도까지 마칠 수 있도록 confirm timeout 의 재시도 횟수배 만큼 기다린다.
+        publishLanes.shutdown(confirmTimeoutMillis * (maxRetries + 1L));
+        if (inFlight.get() > 0) {
+            log.warn("{} publishes still unconfirmed on shutdown", inFlight.get());
+        }
+    }
+
+    public Message toMessage(Object payload) {
+        return rabbitTemplate.getMessageConverter().toMessage(payload, new MessageProperties());
+    }
+
+    public CompletableFuture<Void> publish(String exchange, String routingKey, Object payload) {
+        return publish(exchange, List.of(routingKey), toMessage(payload));
+    }
+
+    /**
+     * 같은 메세지를 여러 routing key 로 발행한다. routing key 를 lane 별로 묶어 lane 마다 하나의
+     * 채널로 연속 발행하며, 모든 routing key 가 confirm 되면 future 가 완료된다.
+     */
+    public CompletableFuture<Void> publish(String exchange, Collection<String> routingKeys,
+        Message message) {
+        if (!enabled) {
+            rabbitTemplate.invoke(operations -> {
+                routingKeys.forEach(routingKey -> operations.send(exchange, routingKey, message));
+                return null;
+            });
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Map<Integer, List<PendingPublish>> batches = new LinkedHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(routingKeys.size());
+        for (String routingKey : routingKeys) {
+            PendingPublish pending = new PendingPublish(exchange, routingKey, message);
+            batches.computeIfAbsent(publishLanes.laneOf(laneKey(routingKey)),
+                lane -> new ArrayList<>()).add(pending);
+            futures.add(pending.future);
+        }
+        batches.values().forEach(this::submit);
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    private void submit(List<PendingPublish> batch) {
+        try {
+            publishLanes.execute(laneKey(batch.get(0).routingKey), () -> sendUntilConfirmed(batch));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment(batch.size());
+            batch.forEach(pending -> pending.future.completeExceptionally(e));
+        }
+    }
+
+    private long laneKey(String routingKey) {
+        return routingKey.hashCode();
+    }
+
+    // lane 스레드에서 실행된다. 모두 confirm 되거나 재시도를 다 쓸 때까지 반환하지 않는다.
+    private void sendUntilConfirmed(List<PendingPublish> batch) {
+        List<PendingPublish> unconfirmed = batch;
+        String reason = null;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                send(unconfirmed);
+                unconfirmed = awaitConfirms(unconfirmed);
+            } catch (AmqpException e) {
+                // 채널을 얻지 못한 경우 등. 이번 시도 전체를 다시 보낸다.
+                reason = e.getMessage();
+                inFlight.addAndGet(-unconfirmed.size());
+            }
+            if (unconfirmed.isEmpty()) {
+                return;
+            }
+            if (reason == null) {
+                reason = unconfirmed.get(0).failureReason;
+            }
+            if (attempt > maxRetries) {
+                fail(unconfirmed, attempt, reason);
+                return;
+            }
+            retryCounter.increment(unconfirmed.size());
+            sleepUninterruptibly(retryBackoffMillis * attempt);
+            reason = null;
+        }
+    }
+
+    private void send(List<PendingPublish> batch) {
+        batch.forEach(PendingPublish::nextAttempt);
+        inFlight.addAndGet(batch.size());
+        rabbitTemplate.invoke(operations -> {
+            for (PendingPublish pending : batch) {
+                operations.send(pending.exchange, pending.routingKey, pending.message,
+                    pending.correlationData);
+            }
+            return null;
+        });
+    }
+
+    private List<PendingPublish> awaitConfirms(List<PendingPublish> batch) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMillis);
+        List<PendingPublish> unconfirmed = new ArrayList<>();
+        for (PendingPublish pending : batch) {
+            Confirm confirm = awaitConfirm(pending, deadline);
+            inFlight.decrementAndGet();
+            if (confirm != null && confirm.isAck()) {
+                confirmTimer.record(System.nanoTime() - pending.sentAtNanos,
+                    TimeUnit.NANOSECONDS);
+                pending.future.complete(null);
+                continue;
+            }
+            if (confirm != null) {
+                nackCounter.increment();
+                pending.failureReason = confirm.getReason();
+            }
+            unconfirmed.add(pending);
+        }
+        return unconfirmed;
+    }
+
+    // shutdown 중 lane 이 interrupt 되어도 confirm 을 끝까지 기다린다.
+    private Confirm awaitConfirm(PendingPublish pending, long deadline) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return pending.correlationData.getFuture()
+                        .get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (TimeoutException e) {
+                    pending.failureReason = "confirm timeout";
+                    return null;
+                } catch (ExecutionException e) {
+                    pending.failureReason = e.getCause().getMessage();
+                    return null;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void fail(List<PendingPublish> unconfirmed, int attempts, String reason) {
+        for (PendingPublish pending : unconfirmed) {
+            failedCounter.increment();
+            log.error("publish to {} failed after {} attempts: {}", pending.routingKey, attempts,
+                reason);
+            pending.future.completeExceptionally(
+                new AmqpException("publish failed after retries: " + reason));
+        }
+    }
+
+    private void sleepUninterruptibly(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean interrupted = false;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class PendingPublish {
+
+        private final String exchange;
+        private final String routingKey;
+        private final Message message;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private CorrelationData correlationData;
+        private long sentAtNanos;
+        private String failureReason;
+
+        private PendingPublish(String exchange, String routingKey, Message message) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.message = message;
+        }
+
+        // 재발행마다 새로운 correlation id 를 사용해 늦게 도착한 이전 confirm 과 구분한다.
+        private void nextAttempt() {
+            sentAtNanos = System.nanoTime();
+            failureReason = null;
+            correlationData = new CorrelationData(UUID.randomUUID().toString());
+        }
+    }
+}
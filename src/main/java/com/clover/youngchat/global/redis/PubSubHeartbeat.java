@@ -0,0 +1,86 @@
+package com.clover.youngchat.global.redis;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis pub/sub 구독이 살아 있는지 확인한다. 노드마다 같은 채널에 빈 메세지를 주기적으로 보내고,
+ * 자기 것을 포함해 어떤 메세지도 timeout 동안 받지 못하면 구독이 끊긴 것으로 본다.
+ * <p>
+ * pub/sub 은 끊긴 동안의 메세지를 다시 보내주지 않으므로, 끊긴 동안에는 로컬 상태를 믿지 않고
+ * 다시 받기 시작하면 원본에서 다시 채워야 한다.
+ */
+@Slf4j(topic = "pub/sub heartbeat")
+public class PubSubHeartbeat {
+
+    public enum Change {
+        NONE, LOST, RESTORED
+    }
+
+    private final String channel;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long timeoutMillis;
+    private final LongSupplier clock;
+    // 끊긴 횟수. 다시 채우는 동안 끊겼었는지 확인하는 데 쓴다.
+    private final AtomicLong lostCount = new AtomicLong();
+
+    private volatile long lastReceivedAt;
+    private volatile boolean connected = true;
+
+    public PubSubHeartbeat(String channel, StringRedisTemplate stringRedisTemplate,
+        long timeoutMillis) {
+        this(channel, stringRedisTemplate, timeoutMillis, System::currentTimeMillis);
+    }
+
+    PubSubHeartbeat(String channel, StringRedisTemplate stringRedisTemplate, long timeoutMillis,
+        LongSupplier clock) {
+        this.channel = channel;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.timeoutMillis = timeoutMillis;
+        this.clock = clock;
+        this.lastReceivedAt = clock.getAsLong();
+    }
+
+    /**
+     * 구독한 채널에서 받은 모든 메세지를 넘긴다. heartbeat 이면 true 를 반환하므로 호출하는 쪽은 무시하면 된다.
+     */
+    public boolean received(byte[] body) {
+        lastReceivedAt = clock.getAsLong();
+        return body.length == 0;
+    }
+
+    /**
+     * heartbeat 를 보내고 구독 상태를 갱신한다. 주기적으로 호출해야 한다.
+     */
+    public Change beat() {
+        Change change = Change.NONE;
+        boolean silent = clock.getAsLong() - lastReceivedAt > timeoutMillis;
+        if (silent && connected) {
+            connected = false;
+            lostCount.incrementAndGet();
+            log.warn("no message on {} for {} ms, treating the subscription as lost", channel,
+                timeoutMillis);
+            change = Change.LOST;
+        } else if (!silent && !connected) {
+            connected = true;
+            log.info("subscription on {} restored", channel);
+            change = Change.RESTORED;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(channel, "");
+        } catch (Exception e) {
+            log.warn("failed to publish heartbeat to {}: {}", channel, e.getMessage());
+        }
+        return change;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public long lostCount() {
+        return lostCount.get();
+    }
+}
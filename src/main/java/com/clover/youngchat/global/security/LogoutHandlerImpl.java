@@ -32,7 +32,10 @@ public class LogoutHandlerImpl implements LogoutHandler {
             redisUtil.delete(refreshToken);
         }
 
+        // 이미 만료되었거나 유효하지 않은 토큰은 막을 필요가 없다.
         long expiration = jwtUtil.getExpirationSecondsFromToken(accessToken);
-        blacklistService.addTokenToBlacklist(accessToken, expiration);
+        if (expiration > 0) {
+            blacklistService.addTokenToBlacklist(accessToken, expiration);
+        }
     }
 }
@@ -5,30 +5,64 @@ import static com.clover.youngchat.global.jwt.JwtUtil.AUTHORITY;
 import com.clover.youngchat.domain.user.entity.User;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-@Getter
-@RequiredArgsConstructor
+/**
+ * 인증된 사용자. 토큰으로 인증한 경우 claim(userId, email, username) 만 가지고 있고
+ * User 엔티티는 {@link #getUser()} 를 처음 호출할 때 조회한다.
+ */
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
+    @Getter
+    private final Long userId;
+    @Getter
+    private final String email;
+    private final String username;
+    private final Supplier<User> userLoader;
+    private User user;
+
+    public UserDetailsImpl(User user) {
+        this(user.getId(), user.getEmail(), user.getUsername(), () -> user);
+        this.user = user;
+    }
+
+    private UserDetailsImpl(Long userId, String email, String username,
+        Supplier<User> userLoader) {
+        this.userId = userId;
+        this.email = email;
+        this.username = username;
+        this.userLoader = userLoader;
+    }
+
+    public static UserDetailsImpl of(Long userId, String email, String username,
+        Supplier<User> userLoader) {
+        return new UserDetailsImpl(userId, email, username, userLoader);
+    }
+
+    public User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+        }
+        return user;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(() -> AUTHORITY);
     }
 
+    // 로그인 시에만 사용된다.
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return getUser().getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     @Override
@@ -50,4 +84,4 @@ public class UserDetailsImpl implements UserDetails {
     public boolean isEnabled() {
         return true;
     }
-}
\ No newline at end of file
+}
@@ -25,4 +25,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
         return new UserDetailsImpl(user);
     }
+
+    public User loadUserById(Long userId) {
+        return userRepository.findById(userId)
+            .orElseThrow(() -> new GlobalException(ResultCode.NOT_FOUND_USER));
+    }
 }
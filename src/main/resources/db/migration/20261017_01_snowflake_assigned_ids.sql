@@ -0,0 +1,14 @@
+-- Snowflake id 전환 (user-002)
+--
+-- users, chatroom, chat 의 id 는 애플리케이션이 Snowflake 로 할당하므로 AUTO_INCREMENT 를 제거한다.
+-- ddl-auto 는 기존 컬럼의 AUTO_INCREMENT 를 지우지 않으므로 배포 전에 수동으로 적용한다.
+-- 기존 id 는 그대로 유지되며, 새 id 는 2024-01-01 기준 시각이 상위 비트에 들어가므로 기존 값보다 항상 크다.
+-- 따라서 id 기준 커서 페이지네이션(chat.id < lastChatId)도 그대로 동작한다.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE users MODIFY id BIGINT NOT NULL;
+ALTER TABLE chatroom MODIFY id BIGINT NOT NULL;
+ALTER TABLE chat MODIFY id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
@@ -0,0 +1,15 @@
+-- outbox relay 의 claim 과 ordering key (user-006)
+--
+-- relay 는 짧은 트랜잭션에서 claimed_until 을 채워 행을 가져가고, confirm 은 트랜잭션 밖에서 기다린다.
+-- 같은 ordering_key 의 행은 id 순서대로 발행된다.
+
+ALTER TABLE chat_outbox
+    ADD COLUMN ordering_key VARCHAR(100) NULL,
+    ADD COLUMN claimed_until DATETIME(6) NULL;
+
+UPDATE chat_outbox SET ordering_key = SUBSTRING_INDEX(routing_keys, ',', 1)
+WHERE ordering_key IS NULL;
+
+ALTER TABLE chat_outbox MODIFY ordering_key VARCHAR(100) NOT NULL;
+
+CREATE INDEX idx_chat_outbox_ordering_key ON chat_outbox (ordering_key, sent_at, id);
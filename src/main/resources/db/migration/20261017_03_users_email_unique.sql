@@ -0,0 +1,8 @@
+-- users.email unique 제약 (user-021)
+--
+-- 가입 시 중복 확인과 insert 사이에 같은 이메일이 들어오는 것을 DB 에서 막는다.
+-- 배포 전에 수동으로 적용한다. 이미 중복된 이메일이 있으면 실패하므로 아래 조회로 먼저 정리한다.
+--
+-- SELECT email, COUNT(*) FROM users GROUP BY email HAVING COUNT(*) > 1;
+
+ALTER TABLE users ADD CONSTRAINT uk_users_email UNIQUE (email);
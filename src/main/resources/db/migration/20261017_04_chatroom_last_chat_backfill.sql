@@ -0,0 +1,25 @@
+-- chatroom 마지막 메세지 컬럼 추가와 backfill (user-014)
+--
+-- 채팅방 목록과 inbox 재구성은 last_chat_id 가 있는 방만 보여주므로, 채우지 않으면 기존 방이 새 메세지가 올 때까지
+-- 목록에서 사라진다. 새 코드를 배포하기 전에 수동으로 적용한다.
+-- 이미 배포되어 ddl-auto 가 컬럼을 만들었다면 ALTER 는 건너뛰고 UPDATE 만 적용한다.
+-- UPDATE 는 더 최신 값을 덮어쓰지 않으므로 배포 중이나 배포 후에 다시 실행해도 된다.
+
+ALTER TABLE chatroom
+    ADD COLUMN last_chat_id BIGINT NULL,
+    ADD COLUMN last_chat_preview VARCHAR(255) NULL,
+    ADD COLUMN last_chat_at DATETIME(6) NULL,
+    ADD COLUMN last_chat_deleted BIT(1) NOT NULL DEFAULT 0;
+
+-- 방마다 가장 큰 chat id 가 마지막 메세지이다. preview 는 LAST_CHAT_PREVIEW_LENGTH(100) 자로 자른다.
+UPDATE chatroom r
+    JOIN (SELECT chatroom_id, MAX(id) AS last_chat_id
+          FROM chat
+          GROUP BY chatroom_id) last ON last.chatroom_id = r.id
+    JOIN chat c ON c.id = last.last_chat_id
+SET r.last_chat_id      = c.id,
+    r.last_chat_preview = LEFT(c.message, 100),
+    r.last_chat_at      = c.created_at,
+    r.last_chat_deleted = c.is_deleted
+WHERE r.last_chat_id IS NULL
+   OR r.last_chat_id < c.id;
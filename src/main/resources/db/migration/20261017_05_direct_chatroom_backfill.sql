@@ -0,0 +1,23 @@
+-- direct_chatroom 생성과 기존 1:1 채팅방 backfill (user-016)
+--
+-- 1:1 채팅방 생성은 direct_chatroom 의 (low_user_id, high_user_id) 행으로 기존 방을 찾으므로, 채우지 않으면
+-- 도입 이전에 만든 방을 두고 같은 두 사용자 사이에 새 방이 또 만들어진다. 새 코드를 배포하기 전에 수동으로 적용한다.
+-- 이미 배포되어 ddl-auto 가 테이블을 만들었다면 CREATE 는 아무것도 하지 않는다.
+-- INSERT IGNORE 이므로 이미 있는 쌍은 건너뛰고, 배포 중이나 배포 후에 다시 실행해도 된다.
+
+CREATE TABLE IF NOT EXISTS direct_chatroom
+(
+    low_user_id  BIGINT NOT NULL,
+    high_user_id BIGINT NOT NULL,
+    chatroom_id  BIGINT NULL,
+    PRIMARY KEY (low_user_id, high_user_id),
+    INDEX idx_direct_chatroom_chatroom_id (chatroom_id)
+);
+
+-- 참여자가 정확히 두 명인 채팅방을 옮긴다. 같은 쌍의 방이 여럿이면 가장 먼저 만든 방을 남긴다.
+INSERT IGNORE INTO direct_chatroom (low_user_id, high_user_id, chatroom_id)
+SELECT MIN(cu.user_id), MAX(cu.user_id), cu.chatroom_id
+FROM chatroom_user cu
+GROUP BY cu.chatroom_id
+HAVING COUNT(*) = 2
+ORDER BY cu.chatroom_id;
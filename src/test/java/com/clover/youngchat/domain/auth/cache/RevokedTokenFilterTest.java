@@ -0,0 +1,156 @@
+package com.clover.youngchat.domain.auth.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.auth.repository.BlacklistRepository;
+import com.clover.youngchat.domain.auth.service.BlacklistService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.BlacklistTest;
+
+@ExtendWith(MockitoExtension.class)
+class RevokedTokenFilterTest implements BlacklistTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    @Mock
+    private BlacklistRepository blacklistRepository;
+
+    private RevokedTokenFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new RevokedTokenFilter(stringRedisTemplate, redisMessageListenerContainer,
+            new SimpleMeterRegistry(), 1_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 메세지를 놓쳐도 주기적으로 다시 채우면 걸러낸다.")
+    void resyncMissedMessageTest() {
+        // given
+        init(60_000L);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.scan(eq("blacklist"), any(ScanOptions.class))).willReturn(cursor);
+        given(cursor.hasNext()).willReturn(false, true, false);
+        given(cursor.next()).willReturn(TEST_ACCESS_TOKEN);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+            .willReturn(List.of(60_000L));
+        filter.load();
+
+        // 다른 노드에서 폐기했지만 메세지가 오지 않았다.
+        assertThat(filter.isRevoked(TEST_ACCESS_TOKEN)).isFalse();
+
+        // when
+        filter.load();
+
+        // then
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.isRevoked(TEST_ACCESS_TOKEN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("hash 가 만료된 id 는 다시 채울 때 blacklist set 에서 지운다.")
+    void pruneExpiredTest() {
+        // given
+        String expiredAccessToken = "expiredaccesstoken";
+        init(60_000L);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.scan(eq("blacklist"), any(ScanOptions.class))).willReturn(cursor);
+        given(cursor.hasNext()).willReturn(true, true, false);
+        given(cursor.next()).willReturn(TEST_ACCESS_TOKEN, expiredAccessToken);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+            .willReturn(List.of(60_000L, -2L));
+
+        // when
+        filter.load();
+
+        // then
+        assertThat(filter.isRevoked(TEST_ACCESS_TOKEN)).isTrue();
+        assertThat(filter.isRevoked(expiredAccessToken)).isFalse();
+        verify(setOperations).remove("blacklist", expiredAccessToken);
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 다시 채울 때까지 Redis 로 폐기 여부를 확인한다.")
+    void subscriptionLostTest() throws InterruptedException {
+        // given
+        init(0L);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.scan(eq("blacklist"), any(ScanOptions.class))).willReturn(cursor);
+        given(cursor.hasNext()).willReturn(false);
+        given(blacklistRepository.existsById(TEST_ACCESS_TOKEN)).willReturn(true);
+        BlacklistService blacklistService = new BlacklistService(blacklistRepository, filter);
+        filter.load();
+
+        // when
+        Thread.sleep(5);
+        filter.heartbeat();
+
+        // then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(blacklistService.isTokenBlackListed(TEST_ACCESS_TOKEN)).isTrue();
+
+        // 끊긴 동안 다시 채워도 그 뒤의 폐기를 받을 수 없으므로 믿지 않는다.
+        filter.load();
+        assertThat(filter.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("heartbeat 는 무시하고 폐기 메세지만 반영한다.")
+    void onMessageTest() throws NoSuchAlgorithmException {
+        // given
+        init(60_000L);
+        String tokenHash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+            .digest(TEST_ACCESS_TOKEN.getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        filter.onMessage(message(""), null);
+        filter.onMessage(message(tokenHash + ":" + (System.currentTimeMillis() + 60_000L)),
+            null);
+
+        // then
+        assertThat(filter.isRevoked(TEST_ACCESS_TOKEN)).isTrue();
+    }
+
+    private void init(long heartbeatTimeoutMillis) {
+        ReflectionTestUtils.setField(filter, "heartbeatTimeoutMillis", heartbeatTimeoutMillis);
+        filter.init();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("blacklist:revoke".getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,9 +1,13 @@
 package com.clover.youngchat.domain.auth.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.clover.youngchat.domain.auth.cache.RevokedTokenFilter;
 import com.clover.youngchat.domain.auth.entity.Blacklist;
 import com.clover.youngchat.domain.auth.repository.BlacklistRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +24,9 @@ class BlacklistServiceTest implements BlacklistTest {
     @Mock
     private BlacklistRepository blacklistRepository;
 
+    @Mock
+    private RevokedTokenFilter revokedTokenFilter;
+
     @InjectMocks
     private BlacklistService blacklistService;
 
@@ -31,5 +38,36 @@ class BlacklistServiceTest implements BlacklistTest {
 
         // then
         verify(blacklistRepository, times(1)).save(any(Blacklist.class));
+        verify(revokedTokenFilter, times(1)).revoke(TEST_ACCESS_TOKEN, TEST_EXPIRATION);
+    }
+
+    @Test
+    @DisplayName("블랙리스트 확인 : 로컬 목록이 준비되면 Redis 를 조회하지 않는다.")
+    public void isTokenBlackListedLocalTest() {
+        // given
+        given(revokedTokenFilter.isReady()).willReturn(true);
+        given(revokedTokenFilter.isRevoked(TEST_ACCESS_TOKEN)).willReturn(true);
+
+        // when
+        boolean actual = blacklistService.isTokenBlackListed(TEST_ACCESS_TOKEN);
+
+        // then
+        assertThat(actual).isTrue();
+        verify(blacklistRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("블랙리스트 확인 : 로컬 목록을 채우는 중이면 Redis 로 확인한다.")
+    public void isTokenBlackListedFallbackTest() {
+        // given
+        given(revokedTokenFilter.isReady()).willReturn(false);
+        given(blacklistRepository.existsById(TEST_ACCESS_TOKEN)).willReturn(true);
+
+        // when
+        boolean actual = blacklistService.isTokenBlackListed(TEST_ACCESS_TOKEN);
+
+        // then
+        assertThat(actual).isTrue();
+        verify(revokedTokenFilter, never()).isRevoked(any());
     }
-}
\ No newline at end of file
+}
@@ -73,6 +73,7 @@ class ChatRepositoryTest implements ChatTest {
         assertThat(foundChat).isPresent();
         assertThat(foundChat.get().getMessage()).isEqualTo(TEST_CHAT_MESSAGE);
         assertThat(foundChat.get().getSender()).isEqualTo(user);
+        assertThat(foundChat.get().getSenderUsername()).isEqualTo(user.getUsername());
         assertThat(foundChat.get().getChatRoom()).isEqualTo(chatRoom);
     }
 
@@ -0,0 +1,83 @@
+package com.clover.youngchat.domain.chat.service;
+
+import static com.clover.youngchat.domain.chat.entity.ChatOutboxEventType.ALERT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chat.service.command.ChatAlertPublisher;
+import com.clover.youngchat.domain.chat.service.command.ChatAlertPublisher.FanOutMode;
+import com.clover.youngchat.domain.chat.service.command.ChatOutboxService;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatAlertRes;
+import com.clover.youngchat.global.rabbit.AsyncRabbitPublisher;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.ChatTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatAlertPublisherTest implements ChatTest {
+
+    @Mock
+    private AsyncRabbitPublisher asyncRabbitPublisher;
+
+    @Mock
+    private ChatOutboxService chatOutboxService;
+
+    @InjectMocks
+    private ChatAlertPublisher chatAlertPublisher;
+
+    private ChatAlertRes res;
+    private Message message;
+
+    @BeforeEach
+    void setup() {
+        res = ChatAlertRes.to(TEST_CHAT_ROOM_ID, TEST_CHAT_ROOM_TITLE, TEST_USER_NAME,
+            TEST_USER_PROFILE_IMAGE, TEST_CHAT_MESSAGE);
+        message = new Message(new byte[0], new MessageProperties());
+    }
+
+    @Test
+    @DisplayName("ROOM 모드는 방 단위 routing key 로 한 번만 발행한다.")
+    void roomModeTest() {
+        // given
+        ReflectionTestUtils.setField(chatAlertPublisher, "fanOutMode", FanOutMode.ROOM);
+        given(asyncRabbitPublisher.toMessage(res)).willReturn(message);
+
+        // when
+        chatAlertPublisher.publish(TEST_CHAT_ROOM_ID, new long[]{2L, 3L, 4L}, res);
+
+        // then
+        verify(chatOutboxService).publish(ALERT,
+            List.of("chat-rooms." + TEST_CHAT_ROOM_ID + ".alerts"), message);
+    }
+
+    @Test
+    @DisplayName("BATCHED 모드는 한 번 직렬화한 메세지를 참여자별 routing key 로 발행한다.")
+    @SuppressWarnings("unchecked")
+    void batchedModeTest() {
+        // given
+        ReflectionTestUtils.setField(chatAlertPublisher, "fanOutMode", FanOutMode.BATCHED);
+        given(asyncRabbitPublisher.toMessage(res)).willReturn(message);
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+
+        // when
+        chatAlertPublisher.publish(TEST_CHAT_ROOM_ID, new long[]{2L, 3L, 4L}, res);
+
+        // then
+        verify(chatOutboxService).publish(eq(ALERT), captor.capture(), any(Message.class));
+        assertThat(captor.getValue()).containsExactly("users.2", "users.3", "users.4");
+    }
+}
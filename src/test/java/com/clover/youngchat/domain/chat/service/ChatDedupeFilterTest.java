@@ -0,0 +1,89 @@
+package com.clover.youngchat.domain.chat.service;
+
+import static com.clover.youngchat.global.exception.ResultCode.INVALID_INPUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.clover.youngchat.domain.chat.service.command.ChatDedupeFilter;
+import com.clover.youngchat.global.exception.GlobalException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.UserTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatDedupeFilterTest implements UserTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ChatDedupeFilter chatDedupeFilter;
+
+    @BeforeEach
+    void setup() {
+        chatDedupeFilter = new ChatDedupeFilter(stringRedisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(chatDedupeFilter, "windowSeconds", 60L);
+        ReflectionTestUtils.setField(chatDedupeFilter, "localBuckets", 6);
+        chatDedupeFilter.init();
+    }
+
+    @Test
+    @DisplayName("처음 보는 clientMessageId 는 선점하고, 같은 id 는 다시 받지 않는다.")
+    void claimOnceTest() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), eq("1"), any(Duration.class)))
+            .willReturn(true);
+
+        // when
+        boolean first = chatDedupeFilter.claim(TEST_USER_ID, "a1b2-c3d4_e5");
+        boolean second = chatDedupeFilter.claim(TEST_USER_ID, "a1b2-c3d4_e5");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("64글자를 넘는 clientMessageId 는 Redis 에 기록하지 않고 거절한다.")
+    void rejectTooLongIdTest() {
+        // given
+        String clientMessageId = "a".repeat(65);
+
+        // when
+        GlobalException exception = assertThrows(GlobalException.class,
+            () -> chatDedupeFilter.claim(TEST_USER_ID, clientMessageId));
+
+        // then
+        assertThat(exception.getResultCode()).isEqualTo(INVALID_INPUT);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("허용하지 않는 문자가 있는 clientMessageId 는 거절한다.")
+    void rejectInvalidCharacterTest() {
+        // when
+        GlobalException exception = assertThrows(GlobalException.class,
+            () -> chatDedupeFilter.claim(TEST_USER_ID, "id:with*glob"));
+
+        // then
+        assertThat(exception.getResultCode()).isEqualTo(INVALID_INPUT);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
@@ -0,0 +1,99 @@
+package com.clover.youngchat.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.clover.youngchat.domain.chat.dto.response.ChatRes;
+import com.clover.youngchat.domain.chat.repository.ChatExportJdbcRepository;
+import com.clover.youngchat.domain.chat.service.query.ChatExportService;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.global.exception.GlobalException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import test.ChatTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatExportServiceTest implements ChatTest {
+
+    @Mock
+    private ChatExportJdbcRepository chatExportJdbcRepository;
+
+    @Mock
+    private ChatRoomMemberCache chatRoomMemberCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatExportService chatExportService;
+
+    @BeforeEach
+    void setup() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        chatExportService = new ChatExportService(chatExportJdbcRepository, chatRoomMemberCache,
+            transactionManager, objectMapper);
+        chatExportService.init();
+    }
+
+    @Test
+    @DisplayName("채팅 내역을 한 줄에 하나씩 gzip 으로 압축해 쓴다.")
+    void exportGzipNdjsonTest() throws Exception {
+        // given
+        given(chatRoomMemberCache.isMember(TEST_CHAT_ROOM_ID, TEST_USER_ID)).willReturn(true);
+        willAnswer(invocation -> {
+            Consumer<ChatRes> consumer = invocation.getArgument(1);
+            consumer.accept(chatRes(TEST_CHAT_ID, TEST_CHAT_MESSAGE));
+            consumer.accept(chatRes(TEST_ANOTHER_CHAT_ID, TEST_ANOTHER_CHAT_MESSAGE));
+            return null;
+        }).given(chatExportJdbcRepository).streamChats(eq(TEST_CHAT_ROOM_ID), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        chatExportService.exportChats(TEST_CHAT_ROOM_ID, TEST_USER_ID, true).writeTo(out);
+
+        // then
+        String ndjson = new String(
+            new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+            StandardCharsets.UTF_8);
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains(TEST_CHAT_MESSAGE);
+        assertThat(lines[1]).contains(TEST_ANOTHER_CHAT_MESSAGE);
+    }
+
+    @Test
+    @DisplayName("실패 : 채팅방 참여자가 아니면 내보낼 수 없다.")
+    void exportFailTest_AccessDeny() {
+        // given
+        given(chatRoomMemberCache.isMember(TEST_CHAT_ROOM_ID, TEST_USER_ID)).willReturn(false);
+
+        // when - then
+        assertThrows(GlobalException.class,
+            () -> chatExportService.exportChats(TEST_CHAT_ROOM_ID, TEST_USER_ID, false));
+    }
+
+    private ChatRes chatRes(Long chatId, String message) {
+        return ChatRes.builder()
+            .chatId(chatId)
+            .userId(TEST_USER_ID)
+            .username(TEST_USER_NAME)
+            .message(message)
+            .isDeleted(false)
+            .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.clover.youngchat.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chat.repository.ChatOutboxJdbcRepository;
+import com.clover.youngchat.domain.chat.repository.ChatOutboxJdbcRepository.PendingOutbox;
+import com.clover.youngchat.domain.chat.service.command.ChatOutboxRelay;
+import com.clover.youngchat.global.rabbit.AsyncRabbitPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ChatOutboxRelayTest {
+
+    private static final String EXCHANGE = "chat.exchange";
+    private static final String ROOM_1 = "chat-rooms.1";
+    private static final String ROOM_2 = "chat-rooms.2";
+
+    private static final PendingOutbox FIRST = new PendingOutbox(1L, ROOM_1, ROOM_1, "first");
+    private static final PendingOutbox SECOND = new PendingOutbox(2L, ROOM_1, ROOM_1, "second");
+    private static final PendingOutbox OTHER_ROOM = new PendingOutbox(3L, ROOM_2, ROOM_2, "other");
+
+    @Mock
+    private ChatOutboxJdbcRepository chatOutboxJdbcRepository;
+
+    @Mock
+    private AsyncRabbitPublisher asyncRabbitPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatOutboxRelay chatOutboxRelay;
+
+    private final List<String> published = new CopyOnWriteArrayList<>();
+    private final Map<String, CompletableFuture<Void>> confirms = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatOutboxRelay = new ChatOutboxRelay(chatOutboxJdbcRepository, asyncRabbitPublisher,
+            transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(chatOutboxRelay, "exchangeName", EXCHANGE);
+        ReflectionTestUtils.setField(chatOutboxRelay, "enabled", true);
+        ReflectionTestUtils.setField(chatOutboxRelay, "batchSize", 10);
+        ReflectionTestUtils.setField(chatOutboxRelay, "confirmTimeoutMillis", 200L);
+        ReflectionTestUtils.setField(chatOutboxRelay, "claimLeaseMillis", 30000L);
+        chatOutboxRelay.init();
+    }
+
+    @Test
+    @DisplayName("같은 채팅방의 이벤트는 앞 이벤트가 confirm 된 뒤에 순서대로 발행한다.")
+    void publishInOrderTest() {
+        // given
+        givenPending(List.of(FIRST, SECOND, OTHER_ROOM));
+        confirms.put("first", CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)));
+        confirms.put("second", CompletableFuture.completedFuture(null));
+        confirms.put("other", CompletableFuture.completedFuture(null));
+        List<Boolean> firstDoneWhenSecondSent = new CopyOnWriteArrayList<>();
+        givenPublisher(payload -> {
+            if (payload.equals("second")) {
+                firstDoneWhenSecondSent.add(confirms.get("first").isDone());
+            }
+        });
+
+        // when
+        chatOutboxRelay.relay();
+
+        // then
+        assertThat(published).containsSubsequence("first", "second");
+        assertThat(firstDoneWhenSecondSent).containsExactly(true);
+        verify(chatOutboxJdbcRepository).markSent(eq(List.of(1L, 2L, 3L)), any());
+        verify(chatOutboxJdbcRepository).release(List.of());
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 같은 채팅방의 뒤 이벤트는 발행하지 않고 다음 배치로 넘긴다.")
+    void stopAtFirstFailureTest() {
+        // given
+        givenPending(List.of(FIRST, SECOND, OTHER_ROOM));
+        confirms.put("first", CompletableFuture.failedFuture(new AmqpException("nack")));
+        confirms.put("other", CompletableFuture.completedFuture(null));
+        givenPublisher(payload -> {
+        });
+
+        // when
+        chatOutboxRelay.relay();
+
+        // then
+        assertThat(published).containsExactlyInAnyOrder("first", "other");
+        verify(chatOutboxJdbcRepository).markSent(eq(List.of(3L)), any());
+        verify(chatOutboxJdbcRepository).release(List.of(1L, 2L));
+        assertThat(meterRegistry.get("chat.outbox.relay.failed").counter().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("confirm timeout 이 지나면 표시하지 않고 남은 이벤트도 더 발행하지 않는다.")
+    void confirmTimeoutTest() throws InterruptedException {
+        // given
+        givenPending(List.of(FIRST, SECOND));
+        CompletableFuture<Void> neverConfirmed = new CompletableFuture<>();
+        confirms.put("first", neverConfirmed);
+        confirms.put("second", CompletableFuture.completedFuture(null));
+        givenPublisher(payload -> {
+        });
+
+        // when
+        chatOutboxRelay.relay();
+        neverConfirmed.complete(null);
+        Thread.sleep(50);
+
+        // then
+        assertThat(published).containsExactly("first");
+        verify(chatOutboxJdbcRepository).markSent(eq(List.of()), any());
+        verify(chatOutboxJdbcRepository).release(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("앞선 이벤트가 다른 relay 에 잡혀 있는 채팅방은 건너뛴다.")
+    void skipKeyClaimedByOtherRelayTest() {
+        // given
+        given(chatOutboxJdbcRepository.lockPending(any(), eq(10)))
+            .willReturn(List.of(FIRST, SECOND, OTHER_ROOM));
+        given(chatOutboxJdbcRepository.findFirstPendingIds(anyCollection()))
+            .willReturn(Map.of(ROOM_1, 0L, ROOM_2, 3L));
+        confirms.put("other", CompletableFuture.completedFuture(null));
+        givenPublisher(payload -> {
+        });
+
+        // when
+        chatOutboxRelay.relay();
+
+        // then
+        verify(chatOutboxJdbcRepository).claim(eq(List.of(3L)), any());
+        assertThat(published).containsExactly("other");
+        verify(chatOutboxJdbcRepository).markSent(eq(List.of(3L)), any());
+    }
+
+    private void givenPending(List<PendingOutbox> rows) {
+        given(chatOutboxJdbcRepository.lockPending(any(), eq(10))).willReturn(rows);
+        given(chatOutboxJdbcRepository.findFirstPendingIds(anyCollection()))
+            .willReturn(Map.of(ROOM_1, 1L, ROOM_2, 3L));
+    }
+
+    private void givenPublisher(PublishListener listener) {
+        given(asyncRabbitPublisher.publish(eq(EXCHANGE), anyList(), any(Message.class)))
+            .willAnswer(invocation -> {
+                Message message = invocation.getArgument(2);
+                String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+                listener.onPublish(payload);
+                published.add(payload);
+                return confirms.get(payload);
+            });
+    }
+
+    private interface PublishListener {
+
+        void onPublish(String payload);
+    }
+}
@@ -0,0 +1,110 @@
+package com.clover.youngchat.domain.chat.service;
+
+import static com.clover.youngchat.domain.chat.entity.ChatOutboxEventType.CHAT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chat.entity.ChatOutbox;
+import com.clover.youngchat.domain.chat.repository.ChatOutboxRepository;
+import com.clover.youngchat.domain.chat.service.command.ChatOutboxService;
+import com.clover.youngchat.domain.chat.service.command.ChatWriteBehindBuffer;
+import com.clover.youngchat.global.rabbit.AsyncRabbitPublisher;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ChatOutboxServiceTest {
+
+    private static final String EXCHANGE = "chat.exchange";
+    private static final String ROUTING_KEY = "chat-rooms.1";
+
+    @Mock
+    private ChatOutboxRepository chatOutboxRepository;
+
+    @Mock
+    private AsyncRabbitPublisher asyncRabbitPublisher;
+
+    @Mock
+    private ChatWriteBehindBuffer chatWriteBehindBuffer;
+
+    @InjectMocks
+    private ChatOutboxService chatOutboxService;
+
+    private Message message;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(chatOutboxService, "exchangeName", EXCHANGE);
+        ReflectionTestUtils.setField(chatOutboxService, "enabled", true);
+        message = new Message("{\"chatId\":1}".getBytes(StandardCharsets.UTF_8),
+            new MessageProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 outbox 에 기록만 하고 바로 발행하지 않는다.")
+    void writeOutboxInTransactionTest() {
+        // given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        given(chatWriteBehindBuffer.isEnabled()).willReturn(false);
+        ArgumentCaptor<ChatOutbox> captor = ArgumentCaptor.forClass(ChatOutbox.class);
+
+        // when
+        chatOutboxService.publish(CHAT, List.of(ROUTING_KEY), message);
+
+        // then
+        verify(chatOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getRoutingKeys()).isEqualTo(ROUTING_KEY);
+        assertThat(captor.getValue().getPayload()).isEqualTo("{\"chatId\":1}");
+        verify(asyncRabbitPublisher, never()).publish(any(), any(List.class), any());
+    }
+
+    @Test
+    @DisplayName("write-behind 모드에서는 outbox 를 거치지 않고 바로 발행한다.")
+    void bypassOutboxOnWriteBehindTest() {
+        // given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        given(chatWriteBehindBuffer.isEnabled()).willReturn(true);
+
+        // when
+        chatOutboxService.publish(CHAT, List.of(ROUTING_KEY), message);
+
+        // then
+        verify(asyncRabbitPublisher).publish(EXCHANGE, List.of(ROUTING_KEY), message);
+        verify(chatOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("routing key 가 비어 있으면 기록하거나 발행하지 않고 거절한다.")
+    void rejectEmptyRoutingKeysTest() {
+        // given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // when - then
+        assertThrows(IllegalArgumentException.class,
+            () -> chatOutboxService.publish(CHAT, List.of(), message));
+        verify(chatOutboxRepository, never()).save(any());
+        verify(asyncRabbitPublisher, never()).publish(any(), any(List.class), any());
+    }
+}
@@ -0,0 +1,142 @@
+package com.clover.youngchat.domain.chat.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chat.repository.ChatJdbcRepository;
+import com.clover.youngchat.domain.chat.repository.ChatJdbcRepository.SenderChat;
+import com.clover.youngchat.domain.chat.service.command.ChatSenderProfileSyncBuffer;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomTailCache;
+import com.clover.youngchat.domain.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.UserTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSenderProfileSyncBufferTest implements UserTest {
+
+    private static final String PROFILE_JSON =
+        "{\"username\":\"username\",\"profileImage\":\"images/profileImage.png\"}";
+
+    @Mock
+    private ChatJdbcRepository chatJdbcRepository;
+
+    @Mock
+    private ChatRoomTailCache chatRoomTailCache;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ChatSenderProfileSyncBuffer buffer;
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        buffer = new ChatSenderProfileSyncBuffer(chatJdbcRepository, chatRoomTailCache,
+            stringRedisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(buffer, "batchSize", 2);
+        user = User.builder()
+            .email(TEST_USER_EMAIL)
+            .username(TEST_USER_NAME)
+            .password(TEST_USER_PASSWORD)
+            .profileImage(TEST_USER_PROFILE_IMAGE)
+            .build();
+        ReflectionTestUtils.setField(user, "id", TEST_USER_ID);
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+    }
+
+    @Test
+    @DisplayName("프로필 변경은 Redis 에 기록해 재시작해도 남아있게 한다.")
+    void recordToRedisTest() {
+        // when
+        buffer.record(user);
+
+        // then
+        verify(hashOperations).put(ChatSenderProfileSyncBuffer.PENDING_KEY,
+            String.valueOf(TEST_USER_ID), PROFILE_JSON);
+    }
+
+    @Test
+    @DisplayName("id 순으로 batch 범위를 나누어 반영하고 채팅방 최근 메세지 캐시를 지운다.")
+    void syncByKeysetTest() {
+        // given
+        given(hashOperations.entries(ChatSenderProfileSyncBuffer.PENDING_KEY))
+            .willReturn(Map.of(String.valueOf(TEST_USER_ID), PROFILE_JSON));
+        given(chatJdbcRepository.findSenderChats(TEST_USER_ID, 0L, 2))
+            .willReturn(List.of(new SenderChat(10L, 100L), new SenderChat(20L, 200L)));
+        given(chatJdbcRepository.findSenderChats(TEST_USER_ID, 20L, 2))
+            .willReturn(List.of(new SenderChat(30L, 100L)));
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(chatJdbcRepository).updateSenderProfile(TEST_USER_ID, TEST_USER_NAME,
+            TEST_USER_PROFILE_IMAGE, 0L, 20L);
+        verify(chatJdbcRepository).updateSenderProfile(TEST_USER_ID, TEST_USER_NAME,
+            TEST_USER_PROFILE_IMAGE, 20L, 30L);
+        verify(chatRoomTailCache).evict(100L);
+        verify(chatRoomTailCache).evict(200L);
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of(ChatSenderProfileSyncBuffer.PENDING_KEY)),
+            eq(String.valueOf(TEST_USER_ID)), eq(PROFILE_JSON));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 Redis 에서 지우지 않고 다음 flush 때 다시 시도한다.")
+    void keepPendingOnFailureTest() {
+        // given
+        given(hashOperations.entries(ChatSenderProfileSyncBuffer.PENDING_KEY))
+            .willReturn(Map.of(String.valueOf(TEST_USER_ID), PROFILE_JSON));
+        given(chatJdbcRepository.findSenderChats(TEST_USER_ID, 0L, 2))
+            .willThrow(new IllegalStateException("db down"));
+
+        // when
+        buffer.flush();
+
+        // then
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), any(List.class),
+            anyString(), anyString());
+        verify(chatRoomTailCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("Redis 에 기록하지 못하면 로컬에 남겨두었다가 flush 때 반영한다.")
+    void fallbackToLocalTest() {
+        // given
+        willThrow(new IllegalStateException("redis down")).given(hashOperations)
+            .put(anyString(), any(), any());
+        given(hashOperations.entries(ChatSenderProfileSyncBuffer.PENDING_KEY))
+            .willReturn(Map.of());
+        given(chatJdbcRepository.findSenderChats(TEST_USER_ID, 0L, 2))
+            .willReturn(List.of(new SenderChat(10L, 100L)));
+
+        // when
+        buffer.record(user);
+        buffer.flush();
+
+        // then
+        verify(chatJdbcRepository).updateSenderProfile(TEST_USER_ID, TEST_USER_NAME,
+            TEST_USER_PROFILE_IMAGE, 0L, 10L);
+        verify(chatRoomTailCache).evict(100L);
+    }
+}
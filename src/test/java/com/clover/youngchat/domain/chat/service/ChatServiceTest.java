@@ -1,5 +1,6 @@
 package com.clover.youngchat.domain.chat.service;
 
+import static com.clover.youngchat.domain.chat.entity.ChatOutboxEventType.CHAT;
 import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_CHAT;
 import static com.clover.youngchat.global.exception.ResultCode.NOT_FOUND_CHATROOM;
@@ -8,27 +9,31 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.clover.youngchat.domain.chat.dto.request.ChatCreateReq;
 import com.clover.youngchat.domain.chat.dto.request.ChatDeleteReq;
-import com.clover.youngchat.domain.chat.dto.response.ChatRes;
+import com.clover.youngchat.domain.chat.dto.response.ChatDeleteRes;
 import com.clover.youngchat.domain.chat.repository.ChatRepository;
 import com.clover.youngchat.domain.chat.service.command.ChatCommandService;
+import com.clover.youngchat.domain.chat.service.command.ChatDedupeFilter;
+import com.clover.youngchat.domain.chat.service.command.ChatOutboxService;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInfoCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomTailCache;
 import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
-import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
 import com.clover.youngchat.global.exception.GlobalException;
-import java.util.Optional;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import test.ChatTest;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,17 +46,23 @@ class ChatServiceTest implements ChatTest {
     private ChatRoomRepository chatRoomRepository;
 
     @Mock
-    private ChatRoomUserRepository chatRoomUserRepository;
+    private ChatRoomMemberCache chatRoomMemberCache;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private ChatRoomTailCache chatRoomTailCache;
+
+    @Mock
+    private ChatRoomInfoCache chatRoomInfoCache;
+
+    @Mock
+    private ChatOutboxService chatOutboxService;
+
+    @Mock
+    private ChatDedupeFilter chatDedupeFilter;
 
     @InjectMocks
     private ChatCommandService chatCommandService;
 
-    @Value("${rabbitmq.exchange.name}")
-    private String exchangeName;
-
     @Nested
     @DisplayName("채팅 입력 테스트")
     class createChatTest {
@@ -63,6 +74,7 @@ class ChatServiceTest implements ChatTest {
             req = ChatCreateReq.builder()
                 .message(TEST_CHAT_MESSAGE)
                 .userId(TEST_USER_ID)
+                .clientMessageId(TEST_CLIENT_MESSAGE_ID)
                 .build();
         }
 
@@ -70,8 +82,9 @@ class ChatServiceTest implements ChatTest {
         @DisplayName("실패 : 존재하지 않는 채팅방 id")
         void createChatFailTest_notFoundChatRoom() {
             // given
-            given(chatRoomRepository.findById(TEST_CHAT_ROOM_ID)).willReturn(
-                Optional.empty());
+            given(chatDedupeFilter.claim(any(), any())).willReturn(true);
+            given(chatRoomInfoCache.get(TEST_CHAT_ROOM_ID)).willThrow(
+                new GlobalException(NOT_FOUND_CHATROOM));
 
             // when
             GlobalException exception = assertThrows(GlobalException.class,
@@ -81,6 +94,20 @@ class ChatServiceTest implements ChatTest {
             assertThat(exception.getResultCode().getMessage())
                 .isEqualTo(NOT_FOUND_CHATROOM.getMessage());
         }
+
+        @Test
+        @DisplayName("중복 : 이미 처리된 clientMessageId 는 저장하지 않는다")
+        void createChatDuplicatedTest() {
+            // given
+            given(chatDedupeFilter.claim(any(), any())).willReturn(false);
+
+            // when
+            chatCommandService.sendMessage(TEST_CHAT_ROOM_ID, req);
+
+            // then
+            verify(chatRoomInfoCache, never()).get(any());
+            verify(chatRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -101,26 +128,54 @@ class ChatServiceTest implements ChatTest {
         @DisplayName("성공")
         void deleteChatSuccessTest() {
             // given
-            given(chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(any(), any()))
+            given(chatRoomMemberCache.isMember(any(), any()))
                 .willReturn(true);
-            given(chatRepository.findById(any())).willReturn(Optional.of(TEST_CHAT));
+            given(chatRepository.softDeleteChats(List.of(TEST_CHAT_ID), TEST_CHAT_ROOM_ID,
+                TEST_USER_ID)).willReturn(1);
 
             // when
             chatCommandService.deleteChat(TEST_CHAT_ROOM_ID, req);
 
             // then
-            assertThat(TEST_CHAT.isDeleted()).isTrue();
-            verify(rabbitTemplate).convertAndSend(eq(exchangeName),
+            verify(chatOutboxService).publish(eq(CHAT),
                 eq("chat-rooms." + TEST_CHAT_ROOM_ID),
-                any(ChatRes.class));
+                any(ChatDeleteRes.class));
+            verify(chatRoomTailCache).evict(TEST_CHAT_ROOM_ID);
+            verify(chatRoomRepository).markLastChatDeleted(TEST_CHAT_ROOM_ID,
+                List.of(TEST_CHAT_ID));
+        }
 
+        @Test
+        @DisplayName("성공 : 여러 메세지 중 일부만 삭제되면 실제 삭제된 id 만 브로드캐스트한다")
+        void deleteChatsPartialSuccessTest() {
+            // given
+            List<Long> chatIds = List.of(TEST_CHAT_ID, TEST_ANOTHER_CHAT_ID);
+            req = ChatDeleteReq.builder()
+                .userId(TEST_USER_ID)
+                .chatIds(chatIds)
+                .build();
+            given(chatRoomMemberCache.isMember(any(), any()))
+                .willReturn(true);
+            given(chatRepository.softDeleteChats(chatIds, TEST_CHAT_ROOM_ID, TEST_USER_ID))
+                .willReturn(1);
+            given(chatRepository.findDeletedChatIds(chatIds, TEST_CHAT_ROOM_ID, TEST_USER_ID))
+                .willReturn(List.of(TEST_CHAT_ID));
+            ArgumentCaptor<ChatDeleteRes> captor = ArgumentCaptor.forClass(ChatDeleteRes.class);
+
+            // when
+            chatCommandService.deleteChat(TEST_CHAT_ROOM_ID, req);
+
+            // then
+            verify(chatOutboxService).publish(eq(CHAT), eq("chat-rooms." + TEST_CHAT_ROOM_ID),
+                captor.capture());
+            assertThat(captor.getValue().getChatIds()).containsExactly(TEST_CHAT_ID);
         }
 
         @Test
         @DisplayName("실패 : 방id와 유저id와 일치한 chatuser가 없을 때")
         void deleteChatFailTest_AccessDeny() {
             // given
-            given(chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(any(), any()))
+            given(chatRoomMemberCache.isMember(any(), any()))
                 .willReturn(false);
 
             // when
@@ -137,9 +192,9 @@ class ChatServiceTest implements ChatTest {
         @DisplayName("실패 : 존재하지 않는 chat id로 삭제를 시도할 때")
         void deleteChatFailTest_NotFoundChat() {
             // given
-            given(chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(any(), any()))
+            given(chatRoomMemberCache.isMember(any(), any()))
                 .willReturn(true);
-            given(chatRepository.findById(any())).willReturn(Optional.empty());
+            given(chatRepository.softDeleteChats(any(), any(), any())).willReturn(0);
 
             // when
             GlobalException exception = assertThrows(GlobalException.class,
@@ -0,0 +1,183 @@
+package com.clover.youngchat.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chat.entity.PendingChat;
+import com.clover.youngchat.domain.chat.repository.ChatJdbcRepository;
+import com.clover.youngchat.domain.chat.service.command.ChatWriteBehindBuffer;
+import com.clover.youngchat.global.id.SnowflakeIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.ChatTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatWriteBehindBufferTest implements ChatTest {
+
+    @Mock
+    private ChatJdbcRepository chatJdbcRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObjectMapper objectMapper;
+    private ChatWriteBehindBuffer buffer;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        buffer = new ChatWriteBehindBuffer(chatJdbcRepository, new SnowflakeIdGenerator(0),
+            meterRegistry, stringRedisTemplate, objectMapper);
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+        ReflectionTestUtils.setField(buffer, "capacity", 100);
+        ReflectionTestUtils.setField(buffer, "batchSize", 3);
+        ReflectionTestUtils.setField(buffer, "flushIntervalMillis", 1000L);
+        ReflectionTestUtils.setField(buffer, "shutdownTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(buffer, "maxRetries", 2);
+        ReflectionTestUtils.setField(buffer, "retryBackoffMillis", 10L);
+        ReflectionTestUtils.setField(buffer, "retryMaxBackoffMillis", 20L);
+        ReflectionTestUtils.setField(buffer, "deadLetterReplayBatchSize", 100);
+        buffer.start();
+    }
+
+    @Test
+    @DisplayName("batch size 만큼 쌓이면 한 번에 flush 한다.")
+    void flushOnBatchSizeTest() throws InterruptedException {
+        // when
+        buffer.append(TEST_CHAT);
+        buffer.append(TEST_CHAT);
+        buffer.append(TEST_CHAT);
+
+        // then
+        verify(chatJdbcRepository, timeout(500)).batchInsert(argThat(list -> list.size() == 3));
+        buffer.stop();
+    }
+
+    @Test
+    @DisplayName("종료 시 남아있는 메세지를 모두 flush 한다.")
+    void drainOnShutdownTest() throws InterruptedException {
+        // given
+        buffer.append(TEST_CHAT);
+
+        // when
+        buffer.stop();
+
+        // then
+        verify(chatJdbcRepository, timeout(500)).batchInsert(anyList());
+        assertThat(meterRegistry.get("chat.write_behind.flush.rows").summary().totalAmount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 일시 장애로 flush 가 실패하면 backoff 후 같은 batch 를 다시 저장한다.")
+    void retryOnTransientFailureTest() throws InterruptedException {
+        // given
+        given(chatJdbcRepository.batchInsert(anyList()))
+            .willThrow(new QueryTimeoutException("timeout"))
+            .willReturn(3);
+
+        // when
+        buffer.append(TEST_CHAT);
+        buffer.append(TEST_CHAT);
+        buffer.append(TEST_CHAT);
+
+        // then
+        verify(chatJdbcRepository, timeout(500).times(2))
+            .batchInsert(argThat(list -> list.size() == 3));
+        buffer.stop();
+        verify(chatJdbcRepository, never()).insert(any());
+        assertThat(meterRegistry.get("chat.write_behind.flush.retries").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("batch 저장이 거부되면 한 건씩 저장하고 실패한 행만 dead-letter 로 보낸다.")
+    void isolateBadRowTest() throws InterruptedException {
+        // given
+        given(chatJdbcRepository.batchInsert(anyList()))
+            .willThrow(new DataIntegrityViolationException("data too long"));
+        given(chatJdbcRepository.insert(any()))
+            .willReturn(1)
+            .willThrow(new DataIntegrityViolationException("data too long"))
+            .willReturn(1);
+        given(stringRedisTemplate.opsForList()).willReturn(listOperations);
+
+        // when
+        buffer.append(TEST_CHAT);
+        buffer.append(TEST_CHAT);
+        buffer.append(TEST_CHAT);
+
+        // then
+        verify(listOperations, timeout(500))
+            .rightPush(eq(ChatWriteBehindBuffer.DEAD_LETTER_KEY), anyString());
+        buffer.stop();
+        verify(chatJdbcRepository, times(1)).batchInsert(anyList());
+        verify(chatJdbcRepository, times(3)).insert(any());
+        assertThat(meterRegistry.get("chat.write_behind.dead_letter.rows").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("chat.write_behind.flush.rows").summary().totalAmount())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("dead-letter 를 다시 저장해 성공한 항목은 지우고, 여전히 거부되는 항목은 끝으로 옮긴다.")
+    void replayDeadLettersTest() throws Exception {
+        // given
+        String saved = objectMapper.writeValueAsString(pendingChat(1L));
+        String rejected = objectMapper.writeValueAsString(pendingChat(2L));
+        given(stringRedisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.range(ChatWriteBehindBuffer.DEAD_LETTER_KEY, 0, 99))
+            .willReturn(List.of(saved, rejected));
+        given(chatJdbcRepository.insert(any()))
+            .willReturn(1)
+            .willThrow(new DataIntegrityViolationException("data too long"));
+        given(listOperations.size(ChatWriteBehindBuffer.DEAD_LETTER_KEY)).willReturn(1L);
+
+        // when
+        buffer.replayDeadLetters();
+
+        // then
+        verify(chatJdbcRepository).insert(argThat(chat -> chat.getId() == 1L
+            && chat.getCreatedAt().equals(LocalDateTime.of(2026, 10, 17, 12, 0))));
+        verify(listOperations).remove(ChatWriteBehindBuffer.DEAD_LETTER_KEY, 1, saved);
+        verify(listOperations).rightPush(ChatWriteBehindBuffer.DEAD_LETTER_KEY, rejected);
+        verify(listOperations).remove(ChatWriteBehindBuffer.DEAD_LETTER_KEY, 1, rejected);
+        assertThat(meterRegistry.get("chat.write_behind.dead_letter.replayed").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("chat.write_behind.dead_letter.depth").gauge().value())
+            .isEqualTo(1);
+        buffer.stop();
+    }
+
+    private PendingChat pendingChat(long id) {
+        return new PendingChat(id, TEST_CHAT_MESSAGE, TEST_USER_ID, TEST_USER_NAME, null,
+            TEST_CHAT_ROOM_ID, LocalDateTime.of(2026, 10, 17, 12, 0));
+    }
+}
@@ -0,0 +1,195 @@
+package com.clover.youngchat.domain.chatRoom.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInbox;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomAndLastChatGetRes;
+import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
+import com.clover.youngchat.global.datasource.PrimaryReader;
+import com.clover.youngchat.global.id.SnowflakeIdGenerator;
+import com.clover.youngchat.global.response.RestSlice;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.UserTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomInboxTest implements UserTest {
+
+    private static final SnowflakeIdGenerator ID_GENERATOR = new SnowflakeIdGenerator(1);
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatRoomUserRepository chatRoomUserRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ObjectMapper objectMapper;
+    private ChatRoomInbox chatRoomInbox;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        chatRoomInbox = new ChatRoomInbox(chatRoomRepository, chatRoomUserRepository,
+            stringRedisTemplate, objectMapper, new PrimaryReader());
+        ReflectionTestUtils.setField(chatRoomInbox, "summaryTtlMinutes", 60L);
+        ReflectionTestUtils.setField(chatRoomInbox, "inboxTtlHours", 24L);
+        ReflectionTestUtils.setField(chatRoomInbox, "rebuildTimeoutMillis", 30000L);
+    }
+
+    @Test
+    @DisplayName("inbox 의 방 요약을 마지막 메세지 순으로 정렬하고 cursor 이후는 제외한다.")
+    void getChatRoomsFromRedisTest() throws Exception {
+        // given
+        long olderChatId = ID_GENERATOR.nextId();
+        long newerChatId = ID_GENERATOR.nextId();
+        long cursorChatId = ID_GENERATOR.nextId();
+        long afterCursorChatId = ID_GENERATOR.nextId();
+        Set<String> members = new LinkedHashSet<>(List.of("1", "2", "3"));
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore(eq("inbox:" + TEST_USER_ID), anyDouble(),
+            anyDouble(), anyLong(), anyLong())).willReturn(members);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(
+            Arrays.asList(summaryJson(1L, olderChatId), null),
+            Arrays.asList(summaryJson(2L, afterCursorChatId), null),
+            Arrays.asList(summaryJson(3L, newerChatId), "1")));
+
+        // when
+        RestSlice<ChatRoomAndLastChatGetRes> slice = chatRoomInbox.getChatRooms(TEST_USER_ID,
+            cursorChatId, 15);
+
+        // then
+        assertThat(slice.getContent()).extracting(ChatRoomAndLastChatGetRes::getChatRoomId)
+            .containsExactly(3L, 1L);
+        assertThat(slice.hasNext()).isFalse();
+        verify(chatRoomRepository, never()).findAllByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("요약이 없는 방은 MySQL 에서 읽고, 요약을 읽을 때의 ver 로 적재한다.")
+    void hydrateMissingSummaryTest() throws Exception {
+        // given
+        ChatRoom chatRoom = ChatRoom.builder().title("title1").build();
+        ReflectionTestUtils.setField(chatRoom, "id", 1L);
+        ReflectionTestUtils.setField(chatRoom, "lastChatId", ID_GENERATOR.nextId());
+        ReflectionTestUtils.setField(chatRoom, "lastChatPreview", "message");
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore(eq("inbox:" + TEST_USER_ID), anyDouble(),
+            anyDouble(), anyLong(), anyLong())).willReturn(new LinkedHashSet<>(List.of("1")));
+        // 지워진 요약은 json 없이 ver 만 남는다.
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+            .willReturn(List.of(Arrays.asList(null, "2")));
+        given(chatRoomRepository.findAllByIdIn(Set.of(1L))).willReturn(List.of(chatRoom));
+
+        // when
+        RestSlice<ChatRoomAndLastChatGetRes> slice = chatRoomInbox.getChatRooms(TEST_USER_ID,
+            null, 15);
+
+        // then
+        ChatRoomAndLastChatGetRes summary = ChatRoomAndLastChatGetRes.to(chatRoom);
+        assertThat(slice.getContent()).extracting(ChatRoomAndLastChatGetRes::getChatRoomId)
+            .containsExactly(1L);
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of("chatroom:summary:1")),
+            eq(String.valueOf(Duration.ofMinutes(60).toSeconds())),
+            eq(String.valueOf(chatRoom.getLastChatId())),
+            eq(objectMapper.writeValueAsString(summary)), eq("2"));
+    }
+
+    @Test
+    @DisplayName("inbox 가 없으면 MySQL 에서 다시 만든다.")
+    void rebuildOnMissTest() {
+        // given
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeByScore(anyString(), anyDouble(), anyDouble(),
+            anyLong(), anyLong())).willReturn(Set.of());
+        given(stringRedisTemplate.hasKey("inbox:" + TEST_USER_ID)).willReturn(false);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(chatRoomUserRepository.findAllChatRoomsAndLastChatByUserId(TEST_USER_ID))
+            .willReturn(List.of());
+
+        // when
+        RestSlice<ChatRoomAndLastChatGetRes> slice = chatRoomInbox.getChatRooms(TEST_USER_ID,
+            null, 15);
+
+        // then
+        assertThat(slice.getContent()).isEmpty();
+        verify(chatRoomUserRepository).findAllChatRoomsAndLastChatByUserId(TEST_USER_ID);
+    }
+
+    @Test
+    @DisplayName("재적재는 읽기 전에 재적재 표시를 남기고, 읽은 목록을 재적재 로그와 함께 한 번에 적재한다.")
+    void rebuildWithLogTest() throws Exception {
+        // given
+        long chatId = ID_GENERATOR.nextId();
+        ChatRoomAndLastChatGetRes chatRoom = ChatRoomAndLastChatGetRes.builder()
+            .chatRoomId(1L)
+            .title("title1")
+            .chatId(chatId)
+            .lastChat("message")
+            .build();
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(chatRoomUserRepository.findAllChatRoomsAndLastChatByUserId(TEST_USER_ID))
+            .willReturn(List.of(chatRoom));
+
+        // when
+        chatRoomInbox.rebuild(TEST_USER_ID);
+
+        // then
+        String inboxKey = "inbox:" + TEST_USER_ID;
+        verify(valueOperations).set(inboxKey + ":rebuilding", "1", Duration.ofMillis(30000));
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of(inboxKey, inboxKey + ":rebuilding", inboxKey + ":rebuild-log")),
+            eq(String.valueOf(Duration.ofHours(24).toSeconds())),
+            eq(String.valueOf(SnowflakeIdGenerator.timestampOf(chatId))), eq("1"));
+        // 지워진 적 없는 요약(ver 0)만 같은 chatId 로 다시 채운다.
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of("chatroom:summary:1")),
+            eq(String.valueOf(Duration.ofMinutes(60).toSeconds())), eq(String.valueOf(chatId)),
+            eq(objectMapper.writeValueAsString(chatRoom)), eq("0"));
+    }
+
+    private String summaryJson(Long chatRoomId, Long chatId) throws Exception {
+        return objectMapper.writeValueAsString(ChatRoomAndLastChatGetRes.builder()
+            .chatRoomId(chatRoomId)
+            .title("title" + chatRoomId)
+            .chatId(chatId)
+            .lastChat("message")
+            .build());
+    }
+}
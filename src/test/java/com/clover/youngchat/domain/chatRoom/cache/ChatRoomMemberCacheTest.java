@@ -0,0 +1,135 @@
+package com.clover.youngchat.domain.chatRoom.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
+import com.clover.youngchat.global.datasource.PrimaryReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.ChatRoomTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMemberCacheTest implements ChatRoomTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long LEAVING_MEMBER_ID = 2L;
+
+    @Mock
+    private ChatRoomUserRepository chatRoomUserRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ChatRoomMemberCache chatRoomMemberCache;
+
+    // 스크립트가 다루는 Redis 상태 (set, version)
+    private final Set<String> redisMembers = new HashSet<>();
+    private long redisVersion;
+
+    @BeforeEach
+    void setup() {
+        chatRoomMemberCache = new ChatRoomMemberCache(chatRoomUserRepository,
+            stringRedisTemplate, new PrimaryReader());
+        ReflectionTestUtils.setField(chatRoomMemberCache, "localTtlSeconds", 5L);
+        ReflectionTestUtils.setField(chatRoomMemberCache, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(chatRoomMemberCache, "redisTtlMinutes", 30L);
+        chatRoomMemberCache.init();
+
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members(anyString()))
+            .willAnswer(invocation -> new HashSet<>(redisMembers));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString()))
+            .willAnswer(invocation -> redisVersion == 0 ? null : String.valueOf(redisVersion));
+        willAnswer(invocation -> runScript(invocation.getArgument(0),
+            Arrays.copyOfRange(invocation.getArguments(), 2, invocation.getArguments().length)))
+            .given(stringRedisTemplate).execute(any(RedisScript.class), anyList(),
+                any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("DB 를 읽는 동안 변경이 없으면 읽은 목록을 Redis 에 설치한다.")
+    void loadAndInstallTest() {
+        // given
+        given(chatRoomUserRepository.findUserIdsByChatRoomId(TEST_CHAT_ROOM_ID))
+            .willReturn(List.of(MEMBER_ID, LEAVING_MEMBER_ID));
+
+        // when
+        boolean actual = chatRoomMemberCache.isMember(TEST_CHAT_ROOM_ID, LEAVING_MEMBER_ID);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(redisMembers).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    @DisplayName("DB 를 읽는 동안 나간 사용자는 Redis 에도 로컬에도 다시 들어가지 않는다.")
+    void removeDuringReloadTest() {
+        // given
+        given(chatRoomUserRepository.findUserIdsByChatRoomId(TEST_CHAT_ROOM_ID))
+            .willAnswer(invocation -> {
+                // 퇴장 트랜잭션이 DB 조회 이후, 설치 이전에 커밋된다.
+                chatRoomMemberCache.removeMember(TEST_CHAT_ROOM_ID, LEAVING_MEMBER_ID);
+                return List.of(MEMBER_ID, LEAVING_MEMBER_ID);
+            })
+            .willReturn(List.of(MEMBER_ID));
+
+        // when
+        chatRoomMemberCache.get(TEST_CHAT_ROOM_ID);
+
+        // then
+        assertThat(redisMembers).isEmpty();
+        assertThat(chatRoomMemberCache.isMember(TEST_CHAT_ROOM_ID, LEAVING_MEMBER_ID)).isFalse();
+        assertThat(chatRoomMemberCache.isMember(TEST_CHAT_ROOM_ID, MEMBER_ID)).isTrue();
+        assertThat(redisMembers).containsExactly("1");
+        verify(chatRoomUserRepository, times(2)).findUserIdsByChatRoomId(TEST_CHAT_ROOM_ID);
+    }
+
+    private Long runScript(RedisScript<?> script, Object[] args) {
+        String source = script.getScriptAsString();
+        if (source.contains("SREM")) {
+            redisMembers.remove((String) args[1]);
+            redisVersion++;
+            return 1L;
+        }
+        if (source.contains("GET")) {
+            String version = redisVersion == 0 ? "" : String.valueOf(redisVersion);
+            if (!version.equals(args[0])) {
+                return 0L;
+            }
+            redisMembers.clear();
+            for (int i = 2; i < args.length; i++) {
+                redisMembers.add((String) args[i]);
+            }
+            return 1L;
+        }
+        throw new IllegalStateException("unexpected script: " + source);
+    }
+}
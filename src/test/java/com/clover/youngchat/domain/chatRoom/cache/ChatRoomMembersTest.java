@@ -0,0 +1,47 @@
+package com.clover.youngchat.domain.chatRoom.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMembers;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatRoomMembersTest {
+
+    private final ChatRoomMembers members = ChatRoomMembers.of(List.of(30L, 10L, 20L, 10L));
+
+    @Test
+    @DisplayName("참여자 여부를 확인한다.")
+    void containsTest() {
+        assertThat(members.size()).isEqualTo(3);
+        assertThat(members.contains(20L)).isTrue();
+        assertThat(members.contains(40L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("본인을 제외한 참여자 목록을 반환한다.")
+    void othersThanTest() {
+        assertThat(members.othersThan(20L)).containsExactly(10L, 30L);
+        assertThat(members.othersThan(40L)).containsExactly(10L, 20L, 30L);
+    }
+
+    @Test
+    @DisplayName("입장/퇴장은 기존 스냅샷을 바꾸지 않고 새 스냅샷을 만든다.")
+    void withAndWithoutTest() {
+        ChatRoomMembers joined = members.with(List.of(40L));
+        ChatRoomMembers left = joined.without(10L);
+
+        assertThat(members.contains(40L)).isFalse();
+        assertThat(joined.toArray()).containsExactly(10L, 20L, 30L, 40L);
+        assertThat(left.toArray()).containsExactly(20L, 30L, 40L);
+    }
+
+    @Test
+    @DisplayName("다른 집합과의 교집합을 구한다.")
+    void intersectTest() {
+        ChatRoomMembers online = ChatRoomMembers.of(List.of(20L, 30L, 50L));
+
+        assertThat(members.intersect(online).toArray()).containsExactly(20L, 30L);
+    }
+}
@@ -0,0 +1,143 @@
+package com.clover.youngchat.domain.chatRoom.cache;
+
+import static com.clover.youngchat.domain.chatroom.constant.ChatRoomConstant.CHAT_ROOM_DETAIL_LIMIT_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chat.dto.response.ChatRes;
+import com.clover.youngchat.domain.chat.repository.ChatRepository;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomTailCache;
+import com.clover.youngchat.global.datasource.PrimaryReader;
+import com.clover.youngchat.global.response.RestSlice;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.ChatTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomTailCacheTest implements ChatTest {
+
+    @Mock
+    private ChatRepository chatRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ObjectMapper objectMapper;
+    private ChatRoomTailCache chatRoomTailCache;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        chatRoomTailCache = new ChatRoomTailCache(chatRepository, stringRedisTemplate,
+            objectMapper, new PrimaryReader());
+        ReflectionTestUtils.setField(chatRoomTailCache, "tailSize", 50);
+        ReflectionTestUtils.setField(chatRoomTailCache, "ttlMinutes", 10L);
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("캐시에 있으면 DB 를 조회하지 않고 첫 페이지를 만든다.")
+    void getFirstPageFromRedisTest() throws Exception {
+        // given
+        Set<String> values = new LinkedHashSet<>();
+        for (long chatId = CHAT_ROOM_DETAIL_LIMIT_SIZE + 1; chatId > 0; chatId--) {
+            values.add(String.format("%019d", chatId)
+                + objectMapper.writeValueAsString(chatRes(chatId)));
+        }
+        given(zSetOperations.reverseRange(anyString(), anyLong(), anyLong())).willReturn(values);
+
+        // when
+        RestSlice<ChatRes> slice = chatRoomTailCache.getFirstPage(TEST_CHAT_ROOM_ID,
+            CHAT_ROOM_DETAIL_LIMIT_SIZE);
+
+        // then
+        assertThat(slice.getContent()).hasSize(CHAT_ROOM_DETAIL_LIMIT_SIZE);
+        assertThat(slice.getContent().get(0).getChatId())
+            .isEqualTo(CHAT_ROOM_DETAIL_LIMIT_SIZE + 1L);
+        assertThat(slice.hasNext()).isTrue();
+        verify(chatRepository, never()).findChatsByChatRoomId(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 DB 에서 읽어 첫 페이지를 만들고, 읽기 전의 version 으로 ZSET 을 설치한다.")
+    void getFirstPageFallbackTest() {
+        // given
+        String key = "chatroom:tail:" + TEST_CHAT_ROOM_ID;
+        given(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
+            .willReturn(Set.of());
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(key + ":version")).willReturn("3");
+        List<ChatRes> chats = List.of(chatRes(3L), chatRes(2L), chatRes(1L));
+        given(chatRepository.findChatsByChatRoomId(TEST_CHAT_ROOM_ID, null, 50))
+            .willReturn(new RestSlice<>(chats, 0, 50, false));
+
+        // when
+        RestSlice<ChatRes> slice = chatRoomTailCache.getFirstPage(TEST_CHAT_ROOM_ID,
+            CHAT_ROOM_DETAIL_LIMIT_SIZE);
+
+        // then
+        assertThat(slice.getContent()).extracting(ChatRes::getChatId).containsExactly(3L, 2L, 1L);
+        assertThat(slice.hasNext()).isFalse();
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+            eq(List.of(key, key + ":version")), eq("3"), anyString(), anyString(), anyString(),
+            anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("version 을 읽지 못하면 DB 결과를 캐시하지 않는다.")
+    void skipInstallWithoutVersionTest() {
+        // given
+        given(zSetOperations.reverseRange(anyString(), anyLong(), anyLong()))
+            .willReturn(Set.of());
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willThrow(new IllegalStateException("down"));
+        given(chatRepository.findChatsByChatRoomId(TEST_CHAT_ROOM_ID, null, 50))
+            .willReturn(new RestSlice<>(List.of(chatRes(1L)), 0, 50, false));
+
+        // when
+        RestSlice<ChatRes> slice = chatRoomTailCache.getFirstPage(TEST_CHAT_ROOM_ID,
+            CHAT_ROOM_DETAIL_LIMIT_SIZE);
+
+        // then
+        assertThat(slice.getContent()).hasSize(1);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), any(List.class),
+            any(Object[].class));
+    }
+
+    private ChatRes chatRes(long chatId) {
+        return ChatRes.builder()
+            .chatId(chatId)
+            .userId(TEST_USER_ID)
+            .username(TEST_USER_NAME)
+            .message(TEST_CHAT_MESSAGE)
+            .isDeleted(false)
+            .build();
+    }
+}
@@ -7,6 +7,7 @@ import static test.ChatRoomTest.TEST_CHAT_ROOM_TITLE;
 import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
 import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
 import com.clover.youngchat.global.config.QueryDslConfig;
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,4 +32,20 @@ public class ChatRoomRepositoryTest {
 
         assertThat(chatRoom.getTitle()).isEqualTo(TEST_CHAT_ROOM_TITLE);
     }
+
+    @Test
+    @DisplayName("마지막 메세지는 더 최신 id 일 때만 갱신된다.")
+    void updateLastChatTest() {
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+            .title(TEST_CHAT_ROOM_TITLE)
+            .build());
+
+        int updated = chatRoomRepository.updateLastChat(chatRoom.getId(), 10L, "newer",
+            LocalDateTime.now());
+        int ignored = chatRoomRepository.updateLastChat(chatRoom.getId(), 5L, "older",
+            LocalDateTime.now());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(ignored).isZero();
+    }
 }
@@ -0,0 +1,73 @@
+package com.clover.youngchat.domain.chatRoom.service;
+
+import static com.clover.youngchat.global.exception.ResultCode.ACCESS_DENY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomUnreadCounter;
+import com.clover.youngchat.domain.chatroom.dto.request.ChatReadReq;
+import com.clover.youngchat.domain.chatroom.service.command.ChatRoomReadPositionBuffer;
+import com.clover.youngchat.domain.chatroom.service.command.ChatRoomReadService;
+import com.clover.youngchat.global.exception.GlobalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import test.ChatTest;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomReadServiceTest implements ChatTest {
+
+    @Mock
+    private ChatRoomMemberCache chatRoomMemberCache;
+
+    @Mock
+    private ChatRoomUnreadCounter chatRoomUnreadCounter;
+
+    @Mock
+    private ChatRoomReadPositionBuffer chatRoomReadPositionBuffer;
+
+    @InjectMocks
+    private ChatRoomReadService chatRoomReadService;
+
+    private final ChatReadReq req = ChatReadReq.builder()
+        .userId(TEST_USER_ID)
+        .lastReadChatId(TEST_CHAT_ID)
+        .build();
+
+    @Test
+    @DisplayName("성공 : 안 읽은 수를 초기화하고 읽음 위치를 기록한다.")
+    void markReadSuccessTest() {
+        // given
+        given(chatRoomMemberCache.isMember(TEST_CHAT_ROOM_ID, TEST_USER_ID)).willReturn(true);
+
+        // when
+        chatRoomReadService.markRead(TEST_CHAT_ROOM_ID, req);
+
+        // then
+        verify(chatRoomUnreadCounter).reset(TEST_USER_ID, TEST_CHAT_ROOM_ID);
+        verify(chatRoomReadPositionBuffer).record(TEST_CHAT_ROOM_ID, TEST_USER_ID, TEST_CHAT_ID);
+    }
+
+    @Test
+    @DisplayName("실패 : 채팅방 참여자가 아닐 때")
+    void markReadFailTest_AccessDeny() {
+        // given
+        given(chatRoomMemberCache.isMember(TEST_CHAT_ROOM_ID, TEST_USER_ID)).willReturn(false);
+
+        // when
+        GlobalException exception = assertThrows(GlobalException.class,
+            () -> chatRoomReadService.markRead(TEST_CHAT_ROOM_ID, req));
+
+        // then
+        assertThat(exception.getResultCode().getMessage()).isEqualTo(ACCESS_DENY.getMessage());
+        verify(chatRoomUnreadCounter, never()).reset(any(), any());
+    }
+}
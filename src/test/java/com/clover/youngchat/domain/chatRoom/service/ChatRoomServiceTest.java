@@ -8,6 +8,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -16,18 +17,28 @@ import static test.ChatTest.TEST_CHAT;
 import static test.ChatTest.TEST_CHAT_LIST;
 
 import com.clover.youngchat.domain.chat.repository.ChatRepository;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInbox;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomInfoCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomMemberCache;
+import com.clover.youngchat.domain.chatroom.cache.ChatRoomUnreadCounter;
 import com.clover.youngchat.domain.chatroom.dto.request.ChatRoomEditReq;
+import com.clover.youngchat.domain.chatroom.dto.request.GroupChatRoomCreateReq;
 import com.clover.youngchat.domain.chatroom.dto.request.PersonalChatRoomCreateReq;
 import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomDetailGetRes;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomInfoRes;
 import com.clover.youngchat.domain.chatroom.dto.response.PersonalChatRoomCreateRes;
 import com.clover.youngchat.domain.chatroom.entity.ChatRoom;
 import com.clover.youngchat.domain.chatroom.repository.ChatRoomRepository;
+import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserJdbcRepository;
 import com.clover.youngchat.domain.chatroom.repository.ChatRoomUserRepository;
+import com.clover.youngchat.domain.chatroom.repository.DirectChatRoomJdbcRepository;
+import com.clover.youngchat.domain.chatroom.repository.DirectChatRoomRepository;
 import com.clover.youngchat.domain.chatroom.service.command.ChatRoomCommandService;
 import com.clover.youngchat.domain.chatroom.service.query.ChatRoomQueryService;
 import com.clover.youngchat.domain.user.entity.User;
 import com.clover.youngchat.domain.user.repository.UserRepository;
 import com.clover.youngchat.global.exception.GlobalException;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -61,9 +72,30 @@ public class ChatRoomServiceTest implements ChatRoomTest {
     @Mock
     private ChatRoomUserRepository chatRoomUserRepository;
 
+    @Mock
+    private ChatRoomUserJdbcRepository chatRoomUserJdbcRepository;
+
+    @Mock
+    private DirectChatRoomRepository directChatRoomRepository;
+
+    @Mock
+    private DirectChatRoomJdbcRepository directChatRoomJdbcRepository;
+
+    @Mock
+    private ChatRoomMemberCache chatRoomMemberCache;
+
+    @Mock
+    private ChatRoomUnreadCounter chatRoomUnreadCounter;
+
+    @Mock
+    private ChatRoomInbox chatRoomInbox;
+
+    @Mock
+    private ChatRoomInfoCache chatRoomInfoCache;
+
     private ChatRoom chatRoom;
     private User user;
-
+    private User friend;
 
     @BeforeEach
     void setup() {
@@ -81,6 +113,14 @@ public class ChatRoomServiceTest implements ChatRoomTest {
             .build();
 
         ReflectionTestUtils.setField(user, "id", TEST_USER_ID);
+
+        friend = User.builder()
+            .username(TEST_ANOTHER_USER_NAME)
+            .email(TEST_ANOTHER_USER_EMAIL)
+            .password(TEST_ANOTHER_USER_PASSWORD)
+            .build();
+
+        ReflectionTestUtils.setField(friend, "id", ANOTHER_TEST_USER_ID);
     }
 
     @Nested
@@ -94,16 +134,19 @@ public class ChatRoomServiceTest implements ChatRoomTest {
                 .friendId(ANOTHER_TEST_USER_ID)
                 .build();
 
-            given(userRepository.findById(anyLong())).willReturn(Optional.of(TEST_USER));
-            given(chatRoomUserRepository.findChatRoomByOnlyTwoUsers(any(), any()))
-                .willReturn(Optional.empty());
+            given(userRepository.findById(anyLong())).willReturn(Optional.of(friend));
+            given(directChatRoomRepository.findChatRoomByUserPair(TEST_USER_ID,
+                ANOTHER_TEST_USER_ID)).willReturn(Optional.empty());
+            given(directChatRoomJdbcRepository.claim(any())).willReturn(true);
+            given(chatRoomRepository.saveAndFlush(any())).willReturn(chatRoom);
 
             PersonalChatRoomCreateRes res = chatRoomCommandService.createPersonalChatRoom(req,
-                TEST_USER);
+                user);
 
             verify(userRepository, times(1)).findById(anyLong());
-            verify(chatRoomRepository, times(1)).save(any());
-            verify(chatRoomUserRepository, times(1)).saveAll(any());
+            verify(chatRoomRepository, times(1)).saveAndFlush(any());
+            verify(chatRoomUserJdbcRepository, times(1)).insertMembers(any(), any());
+            verify(directChatRoomJdbcRepository, times(1)).assign(any(), any());
         }
 
         @Test
@@ -113,16 +156,16 @@ public class ChatRoomServiceTest implements ChatRoomTest {
                 .friendId(ANOTHER_TEST_USER_ID)
                 .build();
 
-            given(userRepository.findById(anyLong())).willReturn(Optional.of(TEST_USER));
-            given(chatRoomUserRepository.findChatRoomByOnlyTwoUsers(any(), any()))
-                .willReturn(Optional.of(chatRoom));
+            given(userRepository.findById(anyLong())).willReturn(Optional.of(friend));
+            given(directChatRoomRepository.findChatRoomByUserPair(TEST_USER_ID,
+                ANOTHER_TEST_USER_ID)).willReturn(Optional.of(chatRoom));
 
             PersonalChatRoomCreateRes res = chatRoomCommandService.createPersonalChatRoom(req,
-                TEST_USER);
+                user);
 
             verify(userRepository, times(1)).findById(anyLong());
-            verify(chatRoomRepository, times(0)).save(any());
-            verify(chatRoomUserRepository, times(0)).saveAll(any());
+            verify(chatRoomRepository, times(0)).saveAndFlush(any());
+            verify(chatRoomUserJdbcRepository, times(0)).insertMembers(any(), any());
             assertThat(res.getChatRoomId()).isEqualTo(chatRoom.getId());
         }
 
@@ -143,6 +186,47 @@ public class ChatRoomServiceTest implements ChatRoomTest {
         }
     }
 
+    @Nested
+    @DisplayName("그룹 채팅방 생성")
+    class createGroupChatRoom {
+
+        @Test
+        @DisplayName("성공 : 참여자를 한 번에 조회하고 한 번에 저장한다.")
+        void createGroupChatRoomSuccess() {
+            GroupChatRoomCreateReq req = GroupChatRoomCreateReq.builder()
+                .friendIds(List.of(ANOTHER_TEST_USER_ID, ANOTHER_TEST_USER_ID, TEST_USER_ID))
+                .build();
+
+            given(userRepository.findUsersByIdIn(List.of(ANOTHER_TEST_USER_ID)))
+                .willReturn(Optional.of(List.of(friend)));
+            given(chatRoomRepository.saveAndFlush(any())).willReturn(chatRoom);
+
+            chatRoomCommandService.createGroupChatRoom(req, user);
+
+            verify(userRepository, times(0)).findById(anyLong());
+            verify(chatRoomUserJdbcRepository, times(1)).insertMembers(eq(TEST_CHAT_ROOM_ID),
+                eq(List.of(ANOTHER_TEST_USER_ID, TEST_USER_ID)));
+        }
+
+        @Test
+        @DisplayName("실패 : 존재하지 않는 유저가 포함된 경우")
+        void createGroupChatRoomFail_NotFoundUser() {
+            GroupChatRoomCreateReq req = GroupChatRoomCreateReq.builder()
+                .friendIds(List.of(ANOTHER_TEST_USER_ID, 3L))
+                .build();
+
+            given(userRepository.findUsersByIdIn(any()))
+                .willReturn(Optional.of(List.of(friend)));
+
+            GlobalException exception = assertThrows(GlobalException.class,
+                () -> chatRoomCommandService.createGroupChatRoom(req, user));
+
+            verify(chatRoomRepository, times(0)).saveAndFlush(any());
+            assertThat(exception.getResultCode().getMessage()).isEqualTo(
+                NOT_FOUND_USER.getMessage());
+        }
+    }
+
     @Nested
     @DisplayName("채팅방 상세 조회")
     class getDetailChatRoom {
@@ -151,19 +235,17 @@ public class ChatRoomServiceTest implements ChatRoomTest {
         @DisplayName("성공")
         void getDetailChatRoomSuccess() {
             // given
-            given(chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(anyLong(),
-                anyLong())).willReturn(true);
+            given(chatRoomMemberCache.isMember(anyLong(), anyLong())).willReturn(true);
             given(chatRepository.findAllByChatRoom_Id(anyLong())).willReturn(
                 Optional.of(TEST_CHAT_LIST));
-            given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
+            given(chatRoomInfoCache.get(anyLong())).willReturn(ChatRoomInfoRes.to(chatRoom));
 
             // when
             ChatRoomDetailGetRes res = chatRoomQueryService.getDetailChatRoom(TEST_CHAT_ROOM_ID,
-                user);
+                user.getId());
 
             // then
-            verify(chatRoomUserRepository, times(1)).existsByChatRoom_IdAndUser_Id(anyLong(),
-                anyLong());
+            verify(chatRoomMemberCache, times(1)).isMember(anyLong(), anyLong());
             verify(chatRepository, times(1)).findAllByChatRoom_Id(anyLong());
 
             assertThat(res.getChatResList().get(0).getMessage()).isEqualTo(TEST_CHAT.getMessage());
@@ -174,28 +256,26 @@ public class ChatRoomServiceTest implements ChatRoomTest {
         @Test
         @DisplayName("실패 : 채팅방 멤버가 아닐 경우")
         void getDetailChatRoomFail_AccessDeny() {
-            given(chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(anyLong(),
-                anyLong())).willReturn(false);
+            given(chatRoomMemberCache.isMember(anyLong(), anyLong())).willReturn(false);
 
             GlobalException exception = assertThrows(GlobalException.class, () ->
-                chatRoomQueryService.getDetailChatRoom(TEST_CHAT_ROOM_ID, user));
+                chatRoomQueryService.getDetailChatRoom(TEST_CHAT_ROOM_ID, user.getId()));
 
-            verify(chatRoomUserRepository, times(1)).existsByChatRoom_IdAndUser_Id(anyLong(),
-                anyLong());
+            verify(chatRoomMemberCache, times(1)).isMember(anyLong(), anyLong());
             assertThat(exception.getResultCode().getMessage()).isEqualTo(ACCESS_DENY.getMessage());
         }
 
         @Test
         @DisplayName("실패 : 존재하지 않는 채팅방")
         void getDetailChatRoomFail_NotFoundChatRoom() {
-            given(chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(anyLong(),
-                anyLong())).willReturn(true);
-            given(chatRoomRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(chatRoomMemberCache.isMember(anyLong(), anyLong())).willReturn(true);
+            given(chatRoomInfoCache.get(anyLong())).willThrow(
+                new GlobalException(NOT_FOUND_CHATROOM));
 
             GlobalException exception = assertThrows(GlobalException.class, () ->
-                chatRoomQueryService.getDetailChatRoom(TEST_CHAT_ROOM_ID, user));
+                chatRoomQueryService.getDetailChatRoom(TEST_CHAT_ROOM_ID, user.getId()));
 
-            verify(chatRoomRepository, times(1)).findById(anyLong());
+            verify(chatRoomInfoCache, times(1)).get(anyLong());
             assertThat(exception.getResultCode().getMessage()).isEqualTo(
                 NOT_FOUND_CHATROOM.getMessage());
         }
@@ -203,17 +283,15 @@ public class ChatRoomServiceTest implements ChatRoomTest {
         @Test
         @DisplayName("실패 : 채팅이 없는 경우")
         void getDetailChatRoomFail_NotFoundChat() {
-            given(chatRoomUserRepository.existsByChatRoom_IdAndUser_Id(anyLong(),
-                anyLong())).willReturn(true);
+            given(chatRoomMemberCache.isMember(anyLong(), anyLong())).willReturn(true);
             given(chatRepository.findAllByChatRoom_Id(anyLong())).willReturn(Optional.empty());
-            given(chatRoomRepository.findById(anyLong())).willReturn(Optional.of(chatRoom));
+            given(chatRoomInfoCache.get(anyLong())).willReturn(ChatRoomInfoRes.to(chatRoom));
 
             GlobalException exception = assertThrows(GlobalException.class, () ->
-                chatRoomQueryService.getDetailChatRoom(TEST_CHAT_ROOM_ID, user));
+                chatRoomQueryService.getDetailChatRoom(TEST_CHAT_ROOM_ID, user.getId()));
 
-            verify(chatRoomUserRepository, times(1)).existsByChatRoom_IdAndUser_Id(anyLong(),
-                anyLong());
-            verify(chatRoomRepository, times(1)).findById(anyLong());
+            verify(chatRoomMemberCache, times(1)).isMember(anyLong(), anyLong());
+            verify(chatRoomInfoCache, times(1)).get(anyLong());
             verify(chatRepository, times(1)).findAllByChatRoom_Id(anyLong());
 
             assertThat(exception.getResultCode().getMessage()).isEqualTo(
@@ -238,6 +316,9 @@ public class ChatRoomServiceTest implements ChatRoomTest {
             verify(chatRoomUserRepository, times(1)).findByChatRoom_IdAndUser_Id(anyLong(),
                 anyLong());
             verify(chatRoomUserRepository, times(1)).delete(any());
+            verify(directChatRoomRepository, times(1)).deleteByChatRoomId(anyLong());
+            verify(chatRoomMemberCache, times(1)).removeMember(TEST_CHAT_ROOM_ID, TEST_USER_ID);
+            verify(chatRoomInbox, times(1)).leave(any(), anyLong());
         }
 
         @Test
@@ -2,11 +2,12 @@ package com.clover.youngchat.domain.friend.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import com.clover.youngchat.domain.friend.dto.response.FriendGetSearchListRes;
+import com.clover.youngchat.domain.friend.dto.response.FriendGetListRes;
 import com.clover.youngchat.domain.friend.entity.Friend;
 import com.clover.youngchat.domain.user.entity.User;
 import com.clover.youngchat.domain.user.repository.UserRepository;
 import com.clover.youngchat.global.config.QueryDslConfig;
+import com.clover.youngchat.global.response.RestSlice;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,37 +49,6 @@ class FriendRepositoryTest implements FriendTest {
         assertThat(actual.get(0).getFriend().getUsername()).isEqualTo(TEST_ANOTHER_USER_NAME);
     }
 
-    @Test
-    @DisplayName("키워드로 친구 목록을 검색한다.")
-    void getSearch_Test() {
-        // given
-        User user = userRepository.save(TEST_USER);
-        User anotherUser = userRepository.save(TEST_ANOTHER_USER);
-        User friendUser = userRepository.save(TEST_FRIEND_USER);
-
-        Friend friend = Friend.builder()
-            .user(user)
-            .friend(anotherUser)
-            .build();
-
-        Friend friend2 = Friend.builder()
-            .user(user)
-            .friend(friendUser)
-            .build();
-
-        friendRepository.save(friend);
-        friendRepository.save(friend2);
-
-        String keyword = "a";
-
-        // when
-        List<FriendGetSearchListRes> actual = friendRepository.findFriendByKeyword(
-            user.getId(), keyword);
-
-        // then
-        assertThat(actual).hasSize(2);
-    }
-
     @Test
     @DisplayName("친구를 추가하였을 때 DB에 저장되는지 확인한다.")
     void save_Test() {
@@ -124,26 +94,50 @@ class FriendRepositoryTest implements FriendTest {
     }
 
     @Test
-    @DisplayName("친구가 삭제되었는지 테스트한다.")
-    void deleteByFriend_Id_Test() {
+    @DisplayName("친구 목록을 한 번의 조회로 친구 정보와 함께 가져온다.")
+    void findFriendsByUserId_Test() {
         // given
         User user = userRepository.save(TEST_USER);
         User anotherUser = userRepository.save(TEST_ANOTHER_USER);
+        User friendUser = userRepository.save(TEST_FRIEND_USER);
+        friendRepository.save(Friend.builder().user(user).friend(anotherUser).build());
+        friendRepository.save(Friend.builder().user(user).friend(friendUser).build());
 
-        Friend friend = Friend.builder()
-            .user(user)
-            .friend(anotherUser)
-            .build();
-
-        friendRepository.save(friend);
         // when
+        RestSlice<FriendGetListRes> first = friendRepository.findFriendsByUserId(user.getId(),
+            null, 1);
+        RestSlice<FriendGetListRes> second = friendRepository.findFriendsByUserId(user.getId(),
+            first.getContent().get(0).getUserId(), 1);
 
-        friendRepository.deleteByFriend_Id(anotherUser.getId());
+        // then
+        assertThat(friendRepository.findFriendsByUserId(user.getId())).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.getContent().get(0).getUserId())
+            .isGreaterThan(first.getContent().get(0).getUserId());
+    }
 
-        boolean actual = friendRepository.existsByUser_IdAndFriend_Id(user.getId(),
+    @Test
+    @DisplayName("친구가 삭제되었는지 테스트한다.")
+    void deleteByUser_IdAndFriend_Id_Test() {
+        // given
+        User user = userRepository.save(TEST_USER);
+        User anotherUser = userRepository.save(TEST_ANOTHER_USER);
+        User friendUser = userRepository.save(TEST_FRIEND_USER);
+
+        friendRepository.save(Friend.builder().user(user).friend(anotherUser).build());
+        friendRepository.save(Friend.builder().user(friendUser).friend(anotherUser).build());
+
+        // when
+        int deleted = friendRepository.deleteByUser_IdAndFriend_Id(user.getId(),
             anotherUser.getId());
 
         // then
-        assertThat(actual).isFalse();
+        assertThat(deleted).isEqualTo(1);
+        assertThat(friendRepository.existsByUser_IdAndFriend_Id(user.getId(),
+            anotherUser.getId())).isFalse();
+        // 같은 사람을 친구로 둔 다른 사용자의 관계는 남아 있어야 한다.
+        assertThat(friendRepository.existsByUser_IdAndFriend_Id(friendUser.getId(),
+            anotherUser.getId())).isTrue();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+package com.clover.youngchat.domain.friend.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clover.youngchat.domain.friend.dto.response.FriendGetListRes;
+import com.clover.youngchat.domain.friend.dto.response.FriendGetSearchListRes;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FriendSearchIndexTest {
+
+    private final List<FriendGetListRes> friends = List.of(
+        FriendGetListRes.to(1L, "박김민", null),
+        FriendGetListRes.to(2L, "김민수", null),
+        FriendGetListRes.to(3L, "김민", null),
+        FriendGetListRes.to(4L, "이영희", null),
+        FriendGetListRes.to(5L, "Minho", null));
+
+    private final FriendSearchIndex index = FriendSearchIndex.of(friends);
+
+    @Test
+    @DisplayName("완전 일치, 접두 일치, 중간 일치 순으로 정렬한다.")
+    void rankTest() {
+        List<FriendGetSearchListRes> actual = index.search("김민");
+
+        assertThat(actual).extracting(FriendGetSearchListRes::getUserId)
+            .containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("자음만 입력하면 초성으로 찾는다.")
+    void choseongTest() {
+        List<FriendGetSearchListRes> actual = index.search("ㅇㅇㅎ");
+
+        assertThat(actual).extracting(FriendGetSearchListRes::getUserId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절과 영문 대소문자도 찾는다.")
+    void partialSyllableTest() {
+        assertThat(index.search("김ㅁ")).extracting(FriendGetSearchListRes::getUserId)
+            .containsExactly(3L, 2L, 1L);
+        assertThat(index.search("minh")).extracting(FriendGetSearchListRes::getUserId)
+            .containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 목록으로 만든 인덱스인지 확인한다.")
+    void isBuiltFromTest() {
+        List<FriendGetListRes> renamed = new ArrayList<>(friends);
+        renamed.set(0, FriendGetListRes.to(1L, "박민수", null));
+
+        assertThat(index.isBuiltFrom(friends)).isTrue();
+        assertThat(index.isBuiltFrom(new ArrayList<>(friends))).isTrue();
+        assertThat(index.isBuiltFrom(renamed)).isFalse();
+        assertThat(index.isBuiltFrom(friends.subList(0, 4))).isFalse();
+    }
+}
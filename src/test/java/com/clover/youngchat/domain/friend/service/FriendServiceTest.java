@@ -1,22 +1,22 @@
 package com.clover.youngchat.domain.friend.service;
 
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
+import com.clover.youngchat.domain.friend.cache.FriendListCache;
+import com.clover.youngchat.domain.friend.cache.FriendPairBloomFilter;
 import com.clover.youngchat.domain.friend.dto.response.FriendGetListRes;
-import com.clover.youngchat.domain.friend.entity.Friend;
+import com.clover.youngchat.domain.friend.repository.FriendJdbcRepository;
 import com.clover.youngchat.domain.friend.repository.FriendRepository;
 import com.clover.youngchat.domain.friend.service.command.FriendCommandService;
 import com.clover.youngchat.domain.friend.service.query.FriendQueryService;
-import com.clover.youngchat.domain.user.entity.User;
-import com.clover.youngchat.domain.user.repository.UserRepository;
 import com.clover.youngchat.global.exception.GlobalException;
 import java.util.List;
-import java.util.Optional;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,16 +24,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import test.FriendTest;
 
 @ExtendWith(MockitoExtension.class)
 public class FriendServiceTest implements FriendTest {
 
     @Mock
-    private UserRepository userRepository;
+    private FriendRepository friendRepository;
 
     @Mock
-    private FriendRepository friendRepository;
+    private FriendJdbcRepository friendJdbcRepository;
+
+    @Mock
+    private FriendListCache friendListCache;
+
+    @Mock
+    private FriendPairBloomFilter friendPairBloomFilter;
 
     @InjectMocks
     private FriendCommandService friendCommandService;
@@ -42,48 +49,70 @@ public class FriendServiceTest implements FriendTest {
     private FriendQueryService friendQueryService;
 
     @Test
-    @DisplayName("친구목록에서 두명의 친구를 조회한다.")
+    @DisplayName("친구목록을 캐시에서 조회한다.")
     void getFriendList_Test() {
         // given
-        given(friendRepository.findByUser(any(User.class))).willReturn(
-            Optional.of(List.of(TEST_FRIEND, TEST_ANOTHER_FRIEND)));
+        setField(TEST_USER, "id", 1L);
+        given(friendListCache.get(1L)).willReturn(List.of(
+            FriendGetListRes.to(2L, TEST_ANOTHER_USER_NAME, null),
+            FriendGetListRes.to(3L, TEST_FRIEND_USER_NAME, null)));
 
         // when
-        List<FriendGetListRes> actual = friendQueryService.getFriendList(TEST_USER);
+        List<FriendGetListRes> actual = friendQueryService.getFriendList(TEST_USER.getId());
 
         // then
         Assertions.assertThat(actual).hasSize(2);
-        verify(friendRepository, times(1)).findByUser(any(User.class));
+        verify(friendRepository, never()).findFriendsByUserId(anyLong());
     }
 
+    @DisplayName("친구 추가 테스트 : bloom filter 가 없다고 하면 DB 확인 없이 바로 넣는다.")
     @Test
-    @DisplayName("친구목록에서 친구를 조회하는데 결과가 없다.")
-    void getNotFoundFriendList_Test() {
+    void addFriend_Test() {
         // given
-        given(friendRepository.findByUser(any())).willReturn(
-            Optional.empty());
+        Long friendId = 2L;
+        setField(TEST_USER, "id", 1L);
+        given(friendPairBloomFilter.mightBeFriend(1L, friendId)).willReturn(false);
 
-        // when, then
-        Assertions.assertThatThrownBy(() -> friendQueryService.getFriendList(any(User.class)))
-            .isInstanceOf(GlobalException.class);
+        // when
+        friendCommandService.addFriend(friendId, TEST_USER);
 
-        verify(friendRepository, times(1)).findByUser(any());
+        // then
+        verify(friendRepository, never()).existsByUser_IdAndFriend_Id(anyLong(), anyLong());
+        verify(friendJdbcRepository, times(1)).insertPair(1L, friendId);
+        verify(friendPairBloomFilter, times(1)).add(1L, friendId);
+        verify(friendListCache, times(1)).evict(1L);
     }
 
-    @DisplayName("친구 추가 테스트")
+    @DisplayName("이미 친구이면 bloom filter 가 있을 수 있다고 할 때 DB 로 확인해 막는다.")
     @Test
-    void addFriend_Test() {
+    void addAlreadyFriend_Test() {
         // given
         Long friendId = 2L;
         setField(TEST_USER, "id", 1L);
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(TEST_USER));
+        given(friendPairBloomFilter.mightBeFriend(1L, friendId)).willReturn(true);
+        given(friendRepository.existsByUser_IdAndFriend_Id(1L, friendId)).willReturn(true);
 
-        // when
-        friendCommandService.addFriend(friendId, TEST_USER);
+        // when, then
+        Assertions.assertThatThrownBy(() -> friendCommandService.addFriend(friendId, TEST_USER))
+            .isInstanceOf(GlobalException.class);
+        verify(friendJdbcRepository, never()).insertPair(anyLong(), anyLong());
+    }
 
-        // then
-        verify(userRepository, times(1)).findById(anyLong());
-        verify(friendRepository, times(1)).save(any(Friend.class));
+    @DisplayName("bloom filter 가 아직 모르는 관계는 PK 중복으로 막는다.")
+    @Test
+    void addFriendDuplicateKey_Test() {
+        // given
+        Long friendId = 2L;
+        setField(TEST_USER, "id", 1L);
+        given(friendPairBloomFilter.mightBeFriend(1L, friendId)).willReturn(false);
+        willThrow(new DuplicateKeyException("PRIMARY")).given(friendJdbcRepository)
+            .insertPair(1L, friendId);
+
+        // when, then
+        Assertions.assertThatThrownBy(() -> friendCommandService.addFriend(friendId, TEST_USER))
+            .isInstanceOf(GlobalException.class);
+        verify(friendPairBloomFilter, never()).add(anyLong(), anyLong());
+        verify(friendListCache, never()).evict(anyLong());
     }
 
     @DisplayName("본인 스스로를 친구 추가할 수 없다.")
@@ -105,14 +134,14 @@ public class FriendServiceTest implements FriendTest {
         Long friendId = 2L;
         setField(TEST_USER, "id", 1L);
 
-        given(friendRepository.existsByUser_IdAndFriend_Id(anyLong(), anyLong())).willReturn(true);
+        given(friendRepository.deleteByUser_IdAndFriend_Id(1L, friendId)).willReturn(1);
 
         // when
         friendCommandService.deleteFriend(friendId, TEST_USER);
 
         // then
-        verify(friendRepository, times(1)).existsByUser_IdAndFriend_Id(anyLong(), anyLong());
-        verify(friendRepository, times(1)).deleteByFriend_Id(anyLong());
+        verify(friendRepository, never()).existsByUser_IdAndFriend_Id(anyLong(), anyLong());
+        verify(friendListCache, times(1)).evict(1L);
     }
 
     @Test
@@ -122,10 +151,11 @@ public class FriendServiceTest implements FriendTest {
         Long friendId = 2L;
         setField(TEST_USER, "id", 1L);
 
-        given(friendRepository.existsByUser_IdAndFriend_Id(anyLong(), anyLong())).willReturn(false);
+        given(friendRepository.deleteByUser_IdAndFriend_Id(1L, friendId)).willReturn(0);
 
         // when, then
         Assertions.assertThatThrownBy(() -> friendCommandService.deleteFriend(friendId, TEST_USER))
             .isInstanceOf(GlobalException.class);
+        verify(friendListCache, never()).evict(anyLong());
     }
 }
@@ -24,7 +24,6 @@ import com.clover.youngchat.domain.user.dto.response.UserProfileEditRes;
 import com.clover.youngchat.domain.user.dto.response.UserProfileGetRes;
 import com.clover.youngchat.domain.user.dto.response.UserProfileSearchRes;
 import com.clover.youngchat.domain.user.dto.response.UserUpdatePasswordRes;
-import com.clover.youngchat.domain.user.entity.User;
 import com.clover.youngchat.domain.user.service.command.UserCommandService;
 import com.clover.youngchat.domain.user.service.query.UserQueryService;
 import java.nio.charset.StandardCharsets;
@@ -128,7 +127,7 @@ class UserControllerTest extends BaseMvcTest {
     void getUserProfileSuccess() throws Exception {
         Long userId = 1L;
 
-        given(userQueryService.getProfile(anyLong(), any(User.class))).willReturn(
+        given(userQueryService.getProfile(anyLong(), any())).willReturn(
             UserProfileGetRes.builder()
                 .username(TEST_USER_NAME)
                 .profileImage(TEST_USER_PROFILE_IMAGE)
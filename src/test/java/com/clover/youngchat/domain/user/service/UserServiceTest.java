@@ -15,11 +15,15 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.MediaType.IMAGE_GIF_VALUE;
 import static org.springframework.http.MediaType.IMAGE_PNG_VALUE;
 
+import com.clover.youngchat.domain.chat.service.command.ChatSenderProfileSyncBuffer;
+import com.clover.youngchat.domain.friend.cache.FriendListCache;
+import com.clover.youngchat.domain.user.cache.UserEmailBloomFilter;
 import com.clover.youngchat.domain.user.dto.request.UserProfileEditReq;
 import com.clover.youngchat.domain.user.dto.request.UserSignupReq;
 import com.clover.youngchat.domain.user.dto.request.UserUpdatePasswordReq;
@@ -28,6 +32,7 @@ import com.clover.youngchat.domain.user.entity.User;
 import com.clover.youngchat.domain.user.repository.UserRepository;
 import com.clover.youngchat.domain.user.service.command.UserCommandService;
 import com.clover.youngchat.domain.user.service.query.UserQueryService;
+import com.clover.youngchat.global.datasource.PrimaryReader;
 import com.clover.youngchat.global.email.EmailUtil;
 import com.clover.youngchat.global.exception.GlobalException;
 import com.clover.youngchat.global.s3.S3Util;
@@ -40,9 +45,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -65,6 +72,18 @@ class UserServiceTest implements UserTest, EmailAuthTest {
     @Mock
     private S3Util s3Util;
 
+    @Mock
+    private ChatSenderProfileSyncBuffer chatSenderProfileSyncBuffer;
+
+    @Mock
+    private FriendListCache friendListCache;
+
+    @Mock
+    private UserEmailBloomFilter userEmailBloomFilter;
+
+    @Spy
+    private PrimaryReader primaryReader = new PrimaryReader();
+
     @InjectMocks
     private UserQueryService userQueryService;
 
@@ -101,26 +120,47 @@ class UserServiceTest implements UserTest, EmailAuthTest {
         }
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 : bloom filter 가 없다고 하면 DB 로 중복을 확인하지 않는다.")
         void signupSuccessTest() {
             // given
-            given(userRepository.existsByEmail(req.getEmail())).willReturn(false);
+            given(userEmailBloomFilter.mightExist(req.getEmail())).willReturn(false);
             given(emailUtil.findEmailAuth(req.getEmail())).willReturn(TEST_EMAIL_AUTH_OK);
-            given(userRepository.save(any(User.class))).willReturn(testUser);
+            given(userRepository.saveAndFlush(any(User.class))).willReturn(testUser);
 
             // when
             userCommandService.signup(req);
 
             // then
             verify(passwordEncoder, times(1)).encode(TEST_USER_PASSWORD);
-            verify(userRepository, times(1)).existsByEmail(TEST_USER_EMAIL);
-            verify(userRepository).save(any(User.class));
+            verify(userRepository, never()).existsByEmail(any());
+            verify(userRepository).saveAndFlush(any(User.class));
+            verify(userEmailBloomFilter, times(1)).add(TEST_USER_EMAIL);
+        }
+
+        @Test
+        @DisplayName("실패 : 동시에 가입해 unique 제약에 걸린 이메일")
+        void signupFailTest_uniqueViolation() {
+            // given
+            given(userEmailBloomFilter.mightExist(req.getEmail())).willReturn(false);
+            given(emailUtil.findEmailAuth(req.getEmail())).willReturn(TEST_EMAIL_AUTH_OK);
+            given(userRepository.saveAndFlush(any(User.class)))
+                .willThrow(new DataIntegrityViolationException("uk_users_email"));
+
+            // when
+            GlobalException exception = assertThrows(GlobalException.class,
+                () -> userCommandService.signup(req));
+
+            // then
+            assertThat(exception.getResultCode().getMessage())
+                .isEqualTo(DUPLICATED_EMAIL.getMessage());
+            verify(userEmailBloomFilter, never()).add(any());
         }
 
         @Test
         @DisplayName("실패 : 중복된 이메일")
         void signupFailTest_duplicatedEmail() {
             // given
+            given(userEmailBloomFilter.mightExist(req.getEmail())).willReturn(true);
             given(userRepository.existsByEmail(req.getEmail())).willReturn(true);
 
             // when
@@ -136,6 +176,7 @@ class UserServiceTest implements UserTest, EmailAuthTest {
         @DisplayName("실패 : 인증되지 않은 이메일")
         void signupFailTest_invalidEmail() {
             // given
+            given(userEmailBloomFilter.mightExist(req.getEmail())).willReturn(true);
             given(userRepository.existsByEmail(req.getEmail())).willReturn(false);
             given(emailUtil.findEmailAuth(req.getEmail())).willReturn(TEST_EMAIL_AUTH_FAIL);
 
@@ -252,7 +293,7 @@ class UserServiceTest implements UserTest, EmailAuthTest {
         void getUserProfileSuccess() {
             given(userRepository.findById(anyLong())).willReturn(Optional.of(testUser));
 
-            userQueryService.getProfile(TEST_USER_ID, TEST_USER);
+            userQueryService.getProfile(TEST_USER_ID, TEST_USER_ID);
 
             verify(userRepository, times(1)).findById(anyLong());
         }
@@ -263,7 +304,7 @@ class UserServiceTest implements UserTest, EmailAuthTest {
             given(userRepository.findById(anyLong())).willReturn(Optional.empty());
 
             GlobalException exception = assertThrows(GlobalException.class, () ->
-                userQueryService.getProfile(TEST_USER_ID, TEST_USER));
+                userQueryService.getProfile(TEST_USER_ID, TEST_USER_ID));
 
             verify(userRepository, times(1)).findById(anyLong());
 
@@ -335,6 +376,8 @@ class UserServiceTest implements UserTest, EmailAuthTest {
 
                 assertThat(testUser.getUsername()).isEqualTo(req.getUsername());
                 assertThat(testUser.getProfileImage()).isEqualTo(TEST_USER_PROFILE_IMAGE);
+                verify(chatSenderProfileSyncBuffer, times(1)).record(testUser);
+                verify(friendListCache, times(1)).evictContaining(testUser.getId());
             }
 
             @Test
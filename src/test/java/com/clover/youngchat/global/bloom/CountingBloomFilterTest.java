@@ -0,0 +1,33 @@
+package com.clover.youngchat.global.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CountingBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 키는 있다고 답하고, 뺀 키는 다른 키에 영향 없이 없다고 답한다.")
+    void addAndRemoveTest() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.001);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("token" + i);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            filter.remove("token" + i);
+        }
+
+        for (int i = 500; i < 1_000; i++) {
+            assertThat(filter.mightContain("token" + i)).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 500; i++) {
+            if (filter.mightContain("token" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(5);
+    }
+}
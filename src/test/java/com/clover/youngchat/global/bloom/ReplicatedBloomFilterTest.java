@@ -0,0 +1,113 @@
+package com.clover.youngchat.global.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicatedBloomFilterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final List<String> database = new CopyOnWriteArrayList<>();
+    private TestBloomFilter filter;
+
+    @BeforeEach
+    void setup() {
+        database.add("saved@email.com");
+        filter = new TestBloomFilter();
+    }
+
+    @Test
+    @DisplayName("다 채우기 전에는 있을 수 있다고 답하고, 채운 뒤에는 없는 키를 걸러낸다.")
+    void loadTest() {
+        // given
+        init(60_000L);
+        assertThat(filter.mightContain("unknown@email.com")).isTrue();
+
+        // when
+        filter.load();
+
+        // then
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.mightContain("saved@email.com")).isTrue();
+        assertThat(filter.mightContain("unknown@email.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 추가 메세지를 받아 반영한다.")
+    void onMessageTest() {
+        // given
+        init(60_000L);
+        filter.load();
+
+        // when
+        filter.onMessage(message("other@email.com"), null);
+
+        // then
+        assertThat(filter.mightContain("other@email.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독이 끊기면 다시 이어질 때까지 있을 수 있다고 답한다.")
+    void subscriptionLostTest() throws InterruptedException {
+        // given
+        init(0L);
+        filter.load();
+        database.add("missed@email.com");
+
+        // when
+        Thread.sleep(5);
+        filter.heartbeat();
+
+        // then
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.mightContain("missed@email.com")).isTrue();
+        assertThat(filter.mightContain("unknown@email.com")).isTrue();
+
+        // 끊긴 동안 다시 채워도 그 뒤의 추가를 받을 수 없으므로 믿지 않는다.
+        filter.load();
+        assertThat(filter.isReady()).isFalse();
+    }
+
+    private void init(long heartbeatTimeoutMillis) {
+        ReflectionTestUtils.setField(filter, "heartbeatTimeoutMillis", heartbeatTimeoutMillis);
+        filter.init();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("bloom:test".getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private class TestBloomFilter extends ReplicatedBloomFilter {
+
+        TestBloomFilter() {
+            super("test", 1_000, 0.01, stringRedisTemplate, redisMessageListenerContainer,
+                new SimpleMeterRegistry());
+        }
+
+        @Override
+        protected void scan(Consumer<String> sink) {
+            database.forEach(sink);
+        }
+    }
+}
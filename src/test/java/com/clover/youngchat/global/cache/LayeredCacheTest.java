@@ -0,0 +1,90 @@
+package com.clover.youngchat.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class LayeredCacheTest {
+
+    private ConcurrentMapCache redisCache;
+    private List<String> published;
+    private LayeredCache layeredCache;
+
+    @BeforeEach
+    void setup() {
+        redisCache = new ConcurrentMapCache(CacheNames.USER_PROFILE);
+        published = new ArrayList<>();
+        layeredCache = new LayeredCache(CacheNames.USER_PROFILE,
+            Caffeine.newBuilder().maximumSize(100).build(), redisCache, published::add,
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("L2 에서 읽은 값은 L1 에 채워져 L2 가 지워져도 L1 에서 반환한다.")
+    void fillLocalFromRedisTest() {
+        // given
+        redisCache.put(1L, "profile");
+
+        // when
+        Object first = layeredCache.get(1L).get();
+        redisCache.evict(1L);
+        Object second = layeredCache.get(1L).get();
+
+        // then
+        assertThat(first).isEqualTo("profile");
+        assertThat(second).isEqualTo("profile");
+    }
+
+    @Test
+    @DisplayName("없으면 한 번만 읽어 L1, L2 에 넣고 다른 노드에는 알리지 않는다.")
+    void loadOnMissTest() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        layeredCache.get(1L, () -> "profile" + loads.incrementAndGet());
+        String value = layeredCache.get(1L, () -> "profile" + loads.incrementAndGet());
+
+        // then
+        assertThat(value).isEqualTo("profile1");
+        assertThat(redisCache.get(1L).get()).isEqualTo("profile1");
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("evict 는 L1, L2 를 지우고 키를 무효화 메세지로 보낸다.")
+    void evictTest() {
+        // given
+        layeredCache.put(1L, "profile");
+
+        // when
+        layeredCache.evict(1L);
+
+        // then
+        assertThat(layeredCache.get(1L)).isNull();
+        assertThat(redisCache.get(1L)).isNull();
+        assertThat(published).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화는 L1 만 지우고 다음 조회는 L2 에서 읽는다.")
+    void invalidateLocalTest() {
+        // given
+        layeredCache.put(1L, "old");
+        redisCache.put(1L, "new");
+
+        // when
+        layeredCache.invalidateLocal("1");
+
+        // then
+        assertThat(layeredCache.get(1L).get()).isEqualTo("new");
+    }
+}
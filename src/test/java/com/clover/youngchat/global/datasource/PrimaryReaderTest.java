@@ -0,0 +1,53 @@
+package com.clover.youngchat.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class PrimaryReaderTest {
+
+    private final PrimaryReader primaryReader = new PrimaryReader();
+    private final TransactionRoutingDataSource routingDataSource =
+        new TransactionRoutingDataSource();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션 안에서도 조회하는 동안만 primary 로 보낸다.")
+    void readTest() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object lookupKey = primaryReader.read(routingDataSource::determineCurrentLookupKey);
+
+        // then
+        assertThat(lookupKey).isEqualTo(DataSourceType.READ_WRITE);
+        assertThat(routingDataSource.determineCurrentLookupKey())
+            .isEqualTo(DataSourceType.READ_ONLY);
+    }
+
+    @Test
+    @DisplayName("중첩해서 호출해도 바깥 조회가 끝날 때까지 primary 로 보낸다.")
+    void nestedReadTest() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object lookupKey = primaryReader.read(() -> {
+            primaryReader.read(() -> null);
+            return routingDataSource.determineCurrentLookupKey();
+        });
+
+        // then
+        assertThat(lookupKey).isEqualTo(DataSourceType.READ_WRITE);
+        assertThat(routingDataSource.determineCurrentLookupKey())
+            .isEqualTo(DataSourceType.READ_ONLY);
+    }
+}
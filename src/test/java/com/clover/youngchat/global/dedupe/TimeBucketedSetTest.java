@@ -0,0 +1,39 @@
+package com.clover.youngchat.global.dedupe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeBucketedSetTest {
+
+    private final TimeBucketedSet set = new TimeBucketedSet(60_000, 6);
+
+    @Test
+    @DisplayName("window 안에서는 추가된 key 를 기억한다.")
+    void containsWithinWindowTest() {
+        set.add("key", 0);
+
+        assertThat(set.contains("key", 45_000)).isTrue();
+        assertThat(set.contains("other", 45_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 key 가 만료된다.")
+    void expireAfterWindowTest() {
+        set.add("key", 0);
+        set.add("fresh", 60_000);
+
+        assertThat(set.contains("key", 60_000)).isFalse();
+        assertThat(set.contains("fresh", 60_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("제거한 key 는 다시 허용된다.")
+    void removeTest() {
+        set.add("key", 0);
+        set.remove("key");
+
+        assertThat(set.contains("key", 1_000)).isFalse();
+    }
+}
@@ -0,0 +1,121 @@
+package com.clover.youngchat.global.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.clover.youngchat.global.executor.OrderedLaneExecutor.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderedLaneExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("같은 key 의 작업은 제출 순서대로 실행된다.")
+    void orderPerKeyTest() throws InterruptedException {
+        // given
+        OrderedLaneExecutor executor = new OrderedLaneExecutor("test", true, 4, 1000,
+            OverflowPolicy.BLOCK, 1000, meterRegistry);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(500);
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            int sequence = i;
+            executor.execute(42L, () -> {
+                executed.add(sequence);
+                latch.countDown();
+            });
+        }
+
+        // then
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+        executor.shutdown(1000);
+    }
+
+    @Test
+    @DisplayName("REJECT 정책은 lane 큐가 가득 차면 거절한다.")
+    void rejectWhenFullTest() throws InterruptedException {
+        // given
+        OrderedLaneExecutor executor = new OrderedLaneExecutor("test", true, 1, 1,
+            OverflowPolicy.REJECT, 0, meterRegistry);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        });
+        started.await(1, TimeUnit.SECONDS);
+        executor.execute(1L, () -> { });
+
+        // when - then
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(1L, () -> { }));
+        assertThat(meterRegistry.get("executor.lane.rejected").counter().count()).isEqualTo(1);
+
+        blocker.countDown();
+        executor.shutdown(1000);
+    }
+
+    @Test
+    @DisplayName("종료 시 실행 중인 작업을 interrupt 하지 않고, 쌓인 작업까지 처리한 뒤 멈춘다.")
+    void shutdownDrainsWithoutInterruptTest() throws InterruptedException {
+        // given
+        OrderedLaneExecutor executor = new OrderedLaneExecutor("test", true, 1, 10,
+            OverflowPolicy.BLOCK, 0, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        List<Boolean> interrupted = new CopyOnWriteArrayList<>();
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        executor.execute(1L, () -> {
+            started.countDown();
+            try {
+                Thread.sleep(200);
+                executed.add(0);
+            } catch (InterruptedException e) {
+                interrupted.add(true);
+            }
+        });
+        executor.execute(1L, () -> executed.add(1));
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        executor.shutdown(5000);
+
+        // then
+        assertThat(interrupted).isEmpty();
+        assertThat(executed).containsExactly(0, 1);
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(1L, () -> { }));
+    }
+
+    @Test
+    @DisplayName("비활성화되면 호출 스레드에서 바로 실행한다.")
+    void disabledRunsInlineTest() {
+        // given
+        OrderedLaneExecutor executor = new OrderedLaneExecutor("test", false, 4, 10,
+            OverflowPolicy.BLOCK, 0, meterRegistry);
+        Thread caller = Thread.currentThread();
+        List<Thread> executedOn = new CopyOnWriteArrayList<>();
+
+        // when
+        executor.execute(1L, () -> executedOn.add(Thread.currentThread()));
+
+        // then
+        assertThat(executedOn).containsExactly(caller);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.clover.youngchat.global.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clover.youngchat.domain.chat.dto.response.ChatDeleteRes;
+import com.clover.youngchat.domain.chat.dto.response.ChatRes;
+import com.clover.youngchat.domain.chatroom.dto.response.ChatRoomAndLastChatGetRes;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdModuleTest {
+
+    // 2^53 + 1 은 double 로 표현할 수 없어 JS 에서는 2^53 으로 바뀐다.
+    private static final long UNSAFE_ID = (1L << 53) + 1;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .registerModule(new SnowflakeIdModule());
+
+    @Test
+    @DisplayName("id 필드는 정밀도 손실 없이 문자열로 직렬화한다.")
+    void serializeIdAsStringTest() throws Exception {
+        // given
+        ChatRes chatRes = ChatRes.builder()
+            .chatId(UNSAFE_ID)
+            .userId(UNSAFE_ID + 1)
+            .message("message")
+            .isDeleted(false)
+            .build();
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(chatRes));
+
+        // then
+        assertThat(json.get("chatId").isTextual()).isTrue();
+        assertThat(json.get("chatId").asText()).isEqualTo(String.valueOf(UNSAFE_ID));
+        assertThat(json.get("userId").asText()).isEqualTo(String.valueOf(UNSAFE_ID + 1));
+    }
+
+    @Test
+    @DisplayName("id 목록도 원소를 문자열로 직렬화한다.")
+    void serializeIdListAsStringTest() throws Exception {
+        // given
+        ChatDeleteRes chatDeleteRes = ChatDeleteRes.to(UNSAFE_ID, List.of(UNSAFE_ID, 2L));
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(chatDeleteRes));
+
+        // then
+        assertThat(json.get("chatRoomId").isTextual()).isTrue();
+        assertThat(json.get("chatIds").get(0).asText()).isEqualTo(String.valueOf(UNSAFE_ID));
+        assertThat(json.get("chatIds").get(1).isTextual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("id 가 아닌 숫자 필드는 그대로 숫자로 직렬화한다.")
+    void keepNonIdNumberTest() throws Exception {
+        // given
+        ChatRoomAndLastChatGetRes res = ChatRoomAndLastChatGetRes.builder()
+            .chatRoomId(UNSAFE_ID)
+            .title("title")
+            .build();
+        res.updateUnreadCount(3);
+
+        // when
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(res));
+
+        // then
+        assertThat(json.get("unreadCount").isNumber()).isTrue();
+        assertThat(json.get("chatId").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("문자열로 직렬화한 id 를 다시 Long 으로 읽을 수 있다.")
+    void roundTripTest() throws Exception {
+        // given
+        ChatRes chatRes = ChatRes.builder()
+            .chatId(UNSAFE_ID)
+            .userId(1L)
+            .build();
+
+        // when
+        ChatRes read = objectMapper.readValue(objectMapper.writeValueAsString(chatRes),
+            ChatRes.class);
+
+        // then
+        assertThat(read.getChatId()).isEqualTo(UNSAFE_ID);
+        assertThat(read.getUserId()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,52 @@
+package com.clover.youngchat.global.jwt;
+
+import static com.clover.youngchat.global.jwt.JwtUtil.BEARER_PREFIX;
+import static com.clover.youngchat.global.jwt.JwtUtil.USER_ID_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Claims;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import test.UserTest;
+
+class JwtUtilTest implements UserTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setup() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+            Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxTtlSeconds", 60L);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("검증한 토큰은 다시 파싱하지 않고 캐시된 claims 를 반환한다.")
+    void getVerifiedClaimsTest() {
+        // given
+        String token = jwtUtil.createAccessToken(TEST_USER_ID, TEST_USER_EMAIL, TEST_USER_NAME)
+            .substring(BEARER_PREFIX.length());
+
+        // when
+        Claims first = jwtUtil.getVerifiedClaims(token);
+        Claims second = jwtUtil.getVerifiedClaims(token);
+
+        // then
+        assertThat(first.getSubject()).isEqualTo(TEST_USER_EMAIL);
+        assertThat(first.get(USER_ID_KEY, Long.class)).isEqualTo(TEST_USER_ID);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 null 을 반환한다.")
+    void getVerifiedClaimsFailTest() {
+        assertThat(jwtUtil.getVerifiedClaims("invalid.token.value")).isNull();
+        assertThat(jwtUtil.getExpirationSecondsFromToken("invalid.token.value")).isZero();
+    }
+}
@@ -0,0 +1,140 @@
+package com.clover.youngchat.global.rabbit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncRabbitPublisherTest {
+
+    private static final String EXCHANGE = "chat.exchange";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncRabbitPublisher publisher;
+    private Message message;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new AsyncRabbitPublisher(rabbitTemplate, meterRegistry);
+        ReflectionTestUtils.setField(publisher, "enabled", true);
+        ReflectionTestUtils.setField(publisher, "threads", 1);
+        ReflectionTestUtils.setField(publisher, "queueCapacity", 10);
+        ReflectionTestUtils.setField(publisher, "maxRetries", 1);
+        ReflectionTestUtils.setField(publisher, "retryBackoffMillis", 10L);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMillis", 1000L);
+        publisher.start();
+
+        message = new Message(new byte[0], new MessageProperties());
+        given(rabbitTemplate.invoke(any())).willAnswer(invocation -> {
+            OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(rabbitTemplate);
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.stop();
+    }
+
+    @Test
+    @DisplayName("nack 된 메세지는 재발행되고 ack 되면 future 가 완료된다.")
+    void retryOnNackTest() throws Exception {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+        willAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            boolean ack = attempts.incrementAndGet() > 1;
+            correlationData.getFuture().complete(new Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).given(rabbitTemplate)
+            .send(eq(EXCHANGE), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // when
+        CompletableFuture<Void> future = publisher.publish(EXCHANGE, List.of("users.1"), message);
+        future.get(3, TimeUnit.SECONDS);
+
+        // then
+        verify(rabbitTemplate, times(2))
+            .send(eq(EXCHANGE), eq("users.1"), any(Message.class), any(CorrelationData.class));
+        assertThat(meterRegistry.get("rabbit.publish.nacked").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("rabbit.publish.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 future 가 실패로 완료된다.")
+    void failAfterRetriesTest() {
+        // given
+        willAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            correlationData.getFuture().complete(new Confirm(false, "nack"));
+            return null;
+        }).given(rabbitTemplate)
+            .send(eq(EXCHANGE), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // when
+        CompletableFuture<Void> future = publisher.publish(EXCHANGE, List.of("users.1"), message);
+
+        // then
+        assertThat(future).failsWithin(3, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("rabbit.publish.failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재발행은 같은 routing key 로 뒤에 들어온 메세지보다 먼저 나간다.")
+    void retryKeepsOrderTest() throws Exception {
+        // given
+        Message first = new Message("first".getBytes(), new MessageProperties());
+        Message second = new Message("second".getBytes(), new MessageProperties());
+        List<String> sent = new CopyOnWriteArrayList<>();
+        AtomicInteger attempts = new AtomicInteger();
+        willAnswer(invocation -> {
+            Message sentMessage = invocation.getArgument(2);
+            CorrelationData correlationData = invocation.getArgument(3);
+            sent.add(new String(sentMessage.getBody()));
+            boolean ack = attempts.incrementAndGet() > 1;
+            correlationData.getFuture().complete(new Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).given(rabbitTemplate)
+            .send(eq(EXCHANGE), anyString(), any(Message.class), any(CorrelationData.class));
+
+        // when
+        CompletableFuture<Void> firstFuture =
+            publisher.publish(EXCHANGE, List.of("chat-rooms.1"), first);
+        CompletableFuture<Void> secondFuture =
+            publisher.publish(EXCHANGE, List.of("chat-rooms.1"), second);
+        CompletableFuture.allOf(firstFuture, secondFuture).get(3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(sent).containsExactly("first", "first", "second");
+    }
+}
@@ -0,0 +1,62 @@
+package com.clover.youngchat.global.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.clover.youngchat.global.redis.PubSubHeartbeat.Change;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PubSubHeartbeatTest {
+
+    private static final String CHANNEL = "test:channel";
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private PubSubHeartbeat heartbeat;
+
+    @BeforeEach
+    void setup() {
+        heartbeat = new PubSubHeartbeat(CHANNEL, stringRedisTemplate, 100, now::get);
+    }
+
+    @Test
+    @DisplayName("빈 메세지는 heartbeat 로 구분한다.")
+    void receivedTest() {
+        assertThat(heartbeat.received(new byte[0])).isTrue();
+        assertThat(heartbeat.received("key".getBytes(StandardCharsets.UTF_8))).isFalse();
+    }
+
+    @Test
+    @DisplayName("timeout 동안 아무 메세지도 받지 못하면 끊긴 것으로 보고, 다시 받으면 이어진 것으로 본다.")
+    void lostAndRestoredTest() {
+        // given
+        now.addAndGet(50);
+
+        // when, then
+        assertThat(heartbeat.beat()).isEqualTo(Change.NONE);
+        assertThat(heartbeat.isConnected()).isTrue();
+
+        now.addAndGet(100);
+        assertThat(heartbeat.beat()).isEqualTo(Change.LOST);
+        assertThat(heartbeat.isConnected()).isFalse();
+        assertThat(heartbeat.lostCount()).isEqualTo(1);
+        assertThat(heartbeat.beat()).isEqualTo(Change.NONE);
+
+        heartbeat.received(new byte[0]);
+        assertThat(heartbeat.beat()).isEqualTo(Change.RESTORED);
+        assertThat(heartbeat.isConnected()).isTrue();
+        verify(stringRedisTemplate, times(4)).convertAndSend(CHANNEL, "");
+    }
+}
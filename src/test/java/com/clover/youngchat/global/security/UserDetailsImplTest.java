@@ -0,0 +1,36 @@
+package com.clover.youngchat.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import test.UserTest;
+
+class UserDetailsImplTest implements UserTest {
+
+    @Test
+    @DisplayName("토큰 claim 으로 만든 principal 은 getUser 를 호출할 때 한 번만 사용자를 조회한다.")
+    void lazyUserTest() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        UserDetailsImpl userDetails = UserDetailsImpl.of(TEST_USER_ID, TEST_USER_EMAIL,
+            TEST_USER_NAME, () -> {
+                loads.incrementAndGet();
+                return TEST_USER;
+            });
+
+        // when
+        Long userId = userDetails.getUserId();
+        String username = userDetails.getUsername();
+
+        // then
+        assertThat(userId).isEqualTo(TEST_USER_ID);
+        assertThat(username).isEqualTo(TEST_USER_NAME);
+        assertThat(loads).hasValue(0);
+
+        userDetails.getUser();
+        userDetails.getUser();
+        assertThat(loads).hasValue(1);
+    }
+}
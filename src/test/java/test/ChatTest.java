@@ -11,6 +11,7 @@ public interface ChatTest extends UserTest, ChatRoomTest {
 
     String TEST_CHAT_MESSAGE = "test message";
     String TEST_ANOTHER_CHAT_MESSAGE = "test message2";
+    String TEST_CLIENT_MESSAGE_ID = "client-message-id";
 
     Chat TEST_CHAT = Chat.builder()
         .message(TEST_CHAT_MESSAGE)